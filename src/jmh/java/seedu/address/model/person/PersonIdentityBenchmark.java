@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link Person#isSamePerson(Person)}, which reads the identity keys cached on {@link Name},
+ * {@link Phone} and {@link Email}, against re-deriving those keys on every comparison as it used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonIdentityBenchmark {
+
+    private Person person;
+    private Person sameNameOtherContacts;
+
+    @Setup
+    public void createPersons() {
+        person = new Person.PersonBuilder().name("Muhammad s/o Abdullah").phone("+65 9123-4567")
+                .email("Muhammad@Example.com").build();
+        sameNameOtherContacts = new Person.PersonBuilder().name("muhammad S / O abdullah").phone("+65 8123 4567")
+                .email("m.abdullah@example.com").build();
+    }
+
+    @Benchmark
+    public boolean cachedKeys() {
+        return person.isSamePerson(sameNameOtherContacts);
+    }
+
+    @Benchmark
+    public boolean recomputedKeys() {
+        return recomputingIsSamePerson(person, sameNameOtherContacts);
+    }
+
+    /**
+     * The identity rule of {@link Person#isSamePerson(Person)} with every key normalized on demand.
+     */
+    private static boolean recomputingIsSamePerson(Person a, Person b) {
+        if (!Name.normalizeForIdentity(a.getName().fullName)
+                .equals(Name.normalizeForIdentity(b.getName().fullName))) {
+            return false;
+        }
+        String phoneA = Phone.normalizeForIdentity(a.getPhone().value);
+        String phoneB = Phone.normalizeForIdentity(b.getPhone().value);
+        String emailA = a.getEmail().value.trim().toLowerCase();
+        String emailB = b.getEmail().value.trim().toLowerCase();
+        String defaultPhone = Person.DEFAULT_PHONE.value;
+        String defaultEmail = Person.DEFAULT_EMAIL.value;
+
+        boolean hasRealPhones = !phoneA.equals(defaultPhone) && !phoneB.equals(defaultPhone);
+        boolean hasRealEmails = !emailA.equals(defaultEmail) && !emailB.equals(defaultEmail);
+        boolean bothDefault = phoneA.equals(defaultPhone) && phoneB.equals(defaultPhone)
+                && emailA.equals(defaultEmail) && emailB.equals(defaultEmail);
+        return (hasRealPhones && phoneA.equals(phoneB)) || (hasRealEmails && emailA.equals(emailB)) || bothDefault;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures bulk loading of persons into a {@link UniquePersonList}.
+ * The time per operation should grow linearly with {@code size}, i.e. stay roughly constant per person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+
+    /**
+     * Generates {@code size} distinct persons, roughly half of them with default contact details.
+     */
+    @Setup(Level.Trial)
+    public void generatePersons() {
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Person.PersonBuilder builder = new Person.PersonBuilder().name("Person " + i);
+            if (i % 2 == 0) {
+                builder.phone(String.valueOf(80000000 + i)).email("person" + i + "@example.com");
+            }
+            persons.add(builder.build());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createList() {
+        uniquePersonList = new UniquePersonList();
+    }
+
+    @Benchmark
+    public UniquePersonList setPersons() {
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+}
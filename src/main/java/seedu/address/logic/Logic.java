@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PersonPage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -23,6 +26,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes a command that was not entered by the user, such as one returned by
+     * {@link seedu.address.logic.commands.BackgroundWork}, and returns the result.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +43,34 @@ public interface Logic {
     /** Returns an unmodifiable view of the list of persons after filtering and (if applicable) sorting. */
     ObservableList<Person> getProcessedPersonList();
 
+    /**
+     * Returns a page of the persons accepted by {@code filter} at or after {@code fromCursor} of the processed list.
+     *
+     * @see seedu.address.model.Model#getProcessedPersonPage(int, int, Predicate)
+     */
+    PersonPage getProcessedPersonPage(int fromCursor, int limit, Predicate<? super Person> filter);
+
+    /**
+     * Returns a page of the persons accepted by {@code filter} before {@code toCursor} of the processed list.
+     *
+     * @see seedu.address.model.Model#getProcessedPersonPageBefore(int, int, Predicate)
+     */
+    PersonPage getProcessedPersonPageBefore(int toCursor, int limit, Predicate<? super Person> filter);
+
+    /**
+     * Returns the cursor of the processed list at which {@code person} is shown, or -1 if it is not shown.
+     *
+     * @see seedu.address.model.Model#getProcessedCursorOf(Person)
+     */
+    int getProcessedCursorOf(Person person);
+
+    /**
+     * Returns the zero-based position of {@code person} in the processed list, or -1 if it is not shown.
+     *
+     * @see seedu.address.model.Model#getProcessedIndexOf(Person)
+     */
+    int getProcessedIndexOf(Person person);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,6 +15,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonPage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -46,12 +48,22 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return execute(command);
+    }
+
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // the changes a command made, even one that failed part way, are undone together
+            model.commitAddressBook();
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(model.getAddressBookSnapshot());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -71,6 +83,26 @@ public class LogicManager implements Logic {
         return model.getProcessedPersonList();
     }
 
+    @Override
+    public PersonPage getProcessedPersonPage(int fromCursor, int limit, Predicate<? super Person> filter) {
+        return model.getProcessedPersonPage(fromCursor, limit, filter);
+    }
+
+    @Override
+    public PersonPage getProcessedPersonPageBefore(int toCursor, int limit, Predicate<? super Person> filter) {
+        return model.getProcessedPersonPageBefore(toCursor, limit, filter);
+    }
+
+    @Override
+    public int getProcessedCursorOf(Person person) {
+        return model.getProcessedCursorOf(person);
+    }
+
+    @Override
+    public int getProcessedIndexOf(Person person) {
+        return model.getProcessedIndexOf(person);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
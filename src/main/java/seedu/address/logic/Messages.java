@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,6 +34,31 @@ public class Messages {
                 .map(pair -> pair.getKey().getOneBased() + ": " + pair.getValue().getName())
                 .collect(Collectors.joining(", "));
 
+    /**
+     * Returns the one-based forms of {@code indexes}, in ascending order and without repeats, with runs of three or
+     * more consecutive indexes written as ranges, such as "2, 5-9".
+     */
+    public static String formatIndexes(Collection<Index> indexes) {
+        int[] sorted = indexes.stream().mapToInt(Index::getOneBased).sorted().distinct().toArray();
+        StringJoiner joiner = new StringJoiner(", ");
+        int first = 0;
+        while (first < sorted.length) {
+            int last = first;
+            while (last + 1 < sorted.length && sorted[last + 1] == sorted[last] + 1) {
+                last++;
+            }
+            if (last - first >= 2) {
+                joiner.add(sorted[first] + "-" + sorted[last]);
+            } else {
+                for (int i = first; i <= last; i++) {
+                    joiner.add(String.valueOf(sorted[i]));
+                }
+            }
+            first = last + 1;
+        }
+        return joiner.toString();
+    }
+
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
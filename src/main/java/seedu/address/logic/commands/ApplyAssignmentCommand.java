@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Assignment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ProposedPairing;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Makes the pairings of an {@link Assignment} chosen by {@link AssignCommand}. The assignment was chosen on a
+ * snapshot of the address book, so pairings whose persons have since changed, or which would now give a
+ * student a second partner or a volunteer more students than their capacity, are left out.
+ */
+public class ApplyAssignmentCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Paired %1$d student(s) to volunteers, "
+            + "with %2$d tag(s) in common in all:\n%3$s";
+    public static final String MESSAGE_NO_PAIRINGS = "No unpaired student shares a tag with a volunteer "
+            + "who can take more students";
+    public static final String MESSAGE_TIME_LIMIT_REACHED = "The time limit was reached, "
+            + "so more students might have been paired.";
+    public static final String MESSAGE_PAIRINGS_LEFT_OUT = "%1$d pairing(s) were left out, "
+            + "as the address book changed while they were being chosen.";
+
+    private final Assignment assignment;
+    private final int capacity;
+
+    /**
+     * Creates an ApplyAssignmentCommand to make the pairings of {@code assignment}, in which every volunteer
+     * takes up to {@code capacity} students.
+     */
+    public ApplyAssignmentCommand(Assignment assignment, int capacity) {
+        requireNonNull(assignment);
+        this.assignment = assignment;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ProposedPairing> pairings = new ArrayList<>();
+        Map<Person, Integer> addedCounts = new HashMap<>();
+        for (ProposedPairing pairing : assignment.pairings()) {
+            if (canStillMake(model, pairing, addedCounts.getOrDefault(pairing.volunteer(), 0))) {
+                pairings.add(pairing);
+                addedCounts.merge(pairing.volunteer(), 1, Integer::sum);
+            }
+        }
+
+        StringBuilder message = new StringBuilder();
+        if (pairings.isEmpty()) {
+            message.append(MESSAGE_NO_PAIRINGS);
+        } else {
+            model.pairEach(pairings.stream().map(ProposedPairing::student).toList(),
+                    pairings.stream().map(ProposedPairing::volunteer).toList());
+            model.filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            int commonTagCount = pairings.stream().mapToInt(ProposedPairing::countCommonTags).sum();
+            message.append(String.format(MESSAGE_SUCCESS, pairings.size(), commonTagCount,
+                    AutomatchCommand.describe(pairings)));
+        }
+        if (!assignment.isComplete()) {
+            message.append("\n").append(MESSAGE_TIME_LIMIT_REACHED);
+        }
+        int leftOutCount = assignment.pairings().size() - pairings.size();
+        if (leftOutCount > 0) {
+            message.append("\n").append(String.format(MESSAGE_PAIRINGS_LEFT_OUT, leftOutCount));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Returns true if the student of {@code pairing} still has no partner, and its volunteer, who has been given
+     * {@code addedCount} students already, still has room for one more.
+     */
+    private boolean canStillMake(Model model, ProposedPairing pairing, int addedCount) {
+        try {
+            return model.getPairedPersons(pairing.student()).isEmpty()
+                    && model.getPairedPersons(pairing.volunteer()).size() + addedCount < capacity;
+        } catch (PersonNotFoundException e) {
+            // edited or deleted since the snapshot was taken
+            return false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApplyAssignmentCommand)) {
+            return false;
+        }
+
+        ApplyAssignmentCommand otherCommand = (ApplyAssignmentCommand) other;
+        return assignment.equals(otherCommand.assignment)
+                && capacity == otherCommand.capacity;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("assignment", assignment)
+                .add("capacity", capacity)
+                .toString();
+    }
+}
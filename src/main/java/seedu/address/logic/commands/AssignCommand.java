@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_LIMIT;
+
+import java.time.Duration;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.AssignmentEngine;
+
+/**
+ * Pairs unpaired students to volunteers sharing tags with them, pairing as many students as possible and,
+ * among those pairings, choosing the ones with the most tags in common. The pairings are chosen in the
+ * background and made once they are ready.
+ */
+public class AssignCommand extends Command {
+
+    public static final String COMMAND_WORD = "assign";
+
+    public static final int DEFAULT_CAPACITY = 1;
+    public static final int MAX_CAPACITY = 1000;
+    public static final int DEFAULT_TIME_LIMIT_SECONDS = 10;
+    public static final int MAX_TIME_LIMIT_SECONDS = 3600;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Pairs as many unpaired students as possible "
+            + "to volunteers sharing tags with them, preferring pairs with more tags in common. "
+            + "Each volunteer takes up to CAPACITY students, counting those already paired to them. "
+            + "The pairings are chosen in the background for up to SECONDS seconds; if time runs out, "
+            + "the best pairings found so far are made.\n"
+            + "Parameters: [" + PREFIX_CAPACITY + "CAPACITY (default " + DEFAULT_CAPACITY + ")] "
+            + "[" + PREFIX_TIME_LIMIT + "SECONDS (default " + DEFAULT_TIME_LIMIT_SECONDS + ")]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CAPACITY + "3 " + PREFIX_TIME_LIMIT + "30";
+
+    public static final String MESSAGE_STARTED = "Assigning students to volunteers taking up to %1$d student(s) "
+            + "each, for at most %2$d second(s)...";
+    public static final String MESSAGE_PROGRESS = "Assigning students to volunteers: "
+            + "%1$d of at most %2$d student(s) paired so far...";
+
+    private final int capacity;
+    private final int timeLimitSeconds;
+
+    /**
+     * Creates an AssignCommand in which every volunteer takes up to {@code capacity} students, and the pairings
+     * are chosen for at most {@code timeLimitSeconds} seconds.
+     */
+    public AssignCommand(int capacity, int timeLimitSeconds) {
+        assert capacity > 0 && timeLimitSeconds > 0;
+        this.capacity = capacity;
+        this.timeLimitSeconds = timeLimitSeconds;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // prepared here, on the snapshot of the model as it is now, as the work must not touch the model
+        AssignmentEngine engine = model.prepareAssignment(capacity);
+        Duration timeLimit = Duration.ofSeconds(timeLimitSeconds);
+
+        CommandResult result = new CommandResult(String.format(MESSAGE_STARTED, capacity, timeLimitSeconds));
+        result.setBackgroundWork(progress -> new ApplyAssignmentCommand(engine.run(timeLimit, (paired, maxPaired) ->
+                progress.accept(String.format(MESSAGE_PROGRESS, paired, maxPaired))), capacity));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AssignCommand)) {
+            return false;
+        }
+
+        AssignCommand otherAssignCommand = (AssignCommand) other;
+        return capacity == otherAssignCommand.capacity
+                && timeLimitSeconds == otherAssignCommand.timeLimitSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("capacity", capacity)
+                .add("timeLimitSeconds", timeLimitSeconds)
+                .toString();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.ProposedPairing;
+
+/**
+ * Pairs as many unpaired students as possible to unpaired volunteers who share a tag with them, one volunteer
+ * per student. Without the confirm flag, only shows the pairings that would be made.
+ */
+public class AutomatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "automatch";
+
+    public static final String CONFIRM_FLAG = "--confirm";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Pairs as many unpaired students as possible "
+            + "to unpaired volunteers sharing a tag with them, one volunteer per student. "
+            + "Existing pairings are kept.\n"
+            + "Parameters: [" + CONFIRM_FLAG + "]\n"
+            + "Without " + CONFIRM_FLAG + ", only shows the pairings that would be made.\n"
+            + "Example: " + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " " + CONFIRM_FLAG;
+
+    public static final String MESSAGE_PREVIEW = "%1$d pairing(s) proposed:\n%2$s\n"
+            + "Enter '" + COMMAND_WORD + " " + CONFIRM_FLAG + "' to make them.";
+    public static final String MESSAGE_MORE_PAIRINGS = "... and %1$d more";
+    public static final String MESSAGE_SUCCESS = "Paired %1$d student(s) to volunteers:\n%2$s";
+    public static final String MESSAGE_NO_PAIRINGS = "No unpaired student shares a tag with an unpaired volunteer";
+
+    /** Number of pairings listed in the feedback; the rest are only counted. */
+    static final int MAX_PAIRINGS_SHOWN = 20;
+
+    private final boolean isConfirmed;
+
+    /**
+     * Creates an AutomatchCommand that makes the proposed pairings if {@code isConfirmed} is true, and otherwise
+     * only shows them.
+     */
+    public AutomatchCommand(boolean isConfirmed) {
+        this.isConfirmed = isConfirmed;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ProposedPairing> proposal = model.proposeMatching();
+        if (proposal.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_PAIRINGS);
+        }
+        if (!isConfirmed) {
+            return new CommandResult(String.format(MESSAGE_PREVIEW, proposal.size(), describe(proposal)));
+        }
+
+        model.pairEach(proposal.stream().map(ProposedPairing::student).toList(),
+                proposal.stream().map(ProposedPairing::volunteer).toList());
+        model.filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, proposal.size(), describe(proposal)));
+    }
+
+    /**
+     * Returns the first pairings of {@code proposal}, one per line, followed by a count of the rest.
+     */
+    static String describe(List<ProposedPairing> proposal) {
+        String shown = proposal.stream()
+                .limit(MAX_PAIRINGS_SHOWN)
+                .map(ProposedPairing::toString)
+                .collect(Collectors.joining("\n"));
+        return proposal.size() <= MAX_PAIRINGS_SHOWN
+                ? shown
+                : shown + "\n" + String.format(MESSAGE_MORE_PAIRINGS, proposal.size() - MAX_PAIRINGS_SHOWN);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AutomatchCommand)) {
+            return false;
+        }
+
+        AutomatchCommand otherAutomatchCommand = (AutomatchCommand) other;
+        return isConfirmed == otherAutomatchCommand.isConfirmed;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isConfirmed", isConfirmed)
+                .toString();
+    }
+}
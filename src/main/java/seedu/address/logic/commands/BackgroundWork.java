@@ -0,0 +1,18 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+/**
+ * Work that a command leaves to be done off the UI thread, such as a long computation on a snapshot of the
+ * address book. The outcome is applied to the model by the command the work returns, which is executed like
+ * any other command once the work is done.
+ */
+@FunctionalInterface
+public interface BackgroundWork {
+
+    /**
+     * Does the work, passing messages about its progress to {@code progress}, and returns the command that
+     * applies its outcome. The work may run on any thread, so it must not read or change the model.
+     */
+    Command run(Consumer<String> progress);
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Cluster;
+
+/**
+ * Lists the clusters of the address book: the groups of persons linked to each other through chains of pairings.
+ */
+public class ClustersCommand extends Command {
+
+    public static final String COMMAND_WORD = "clusters";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the groups of persons linked to each other "
+            + "through pairings, such as a volunteer, their students and the other volunteers of those students, "
+            + "largest first.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "%1$d cluster(s) of paired persons, largest first:\n%2$s";
+    public static final String MESSAGE_CLUSTER = "%1$d. %2$d persons: %3$s";
+    public static final String MESSAGE_MORE_CLUSTERS = "... and %1$d more cluster(s)";
+    public static final String MESSAGE_MORE_MEMBERS = "and %1$d more";
+    public static final String MESSAGE_NO_CLUSTERS = "Nobody is paired, so there are no clusters";
+
+    /** Number of clusters listed in the feedback; the rest are only counted. */
+    static final int MAX_CLUSTERS_SHOWN = 20;
+    /** Number of persons named for each cluster; the rest are only counted. */
+    static final int MAX_MEMBERS_SHOWN = 10;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Cluster> clusters = model.getClusters(MAX_MEMBERS_SHOWN);
+        if (clusters.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CLUSTERS);
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < Math.min(clusters.size(), MAX_CLUSTERS_SHOWN); i++) {
+            Cluster cluster = clusters.get(i);
+            lines.add(String.format(MESSAGE_CLUSTER, i + 1, cluster.size(), describe(cluster)));
+        }
+        if (clusters.size() > MAX_CLUSTERS_SHOWN) {
+            lines.add(String.format(MESSAGE_MORE_CLUSTERS, clusters.size() - MAX_CLUSTERS_SHOWN));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, clusters.size(), String.join("\n", lines)));
+    }
+
+    private static String describe(Cluster cluster) {
+        String shown = cluster.members().stream()
+                .map(person -> person.getName().toString())
+                .collect(Collectors.joining(", "));
+        return cluster.size() <= MAX_MEMBERS_SHOWN
+                ? shown
+                : shown + ", " + String.format(MESSAGE_MORE_MEMBERS, cluster.size() - MAX_MEMBERS_SHOWN);
+    }
+}
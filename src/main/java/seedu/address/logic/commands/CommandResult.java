@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -21,6 +22,9 @@ public class CommandResult {
 
     private String helpContent;
 
+    /** Work to be done off the UI thread once this result is shown, if any. */
+    private BackgroundWork backgroundWork;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -59,6 +63,14 @@ public class CommandResult {
         return helpContent;
     }
 
+    public void setBackgroundWork(BackgroundWork backgroundWork) {
+        this.backgroundWork = requireNonNull(backgroundWork);
+    }
+
+    public Optional<BackgroundWork> getBackgroundWork() {
+        return Optional.ofNullable(backgroundWork);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
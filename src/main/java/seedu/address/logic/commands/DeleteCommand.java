@@ -2,7 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -12,23 +15,56 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes a person identified using it's displayed index from the address book.
+ * Deletes persons identified using their displayed indexes, or every displayed person, from the address book.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
+    public static final String FILTERED_FLAG = "--filtered";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the person(s) identified by the index numbers used in the displayed person list, "
+            + "or with " + FILTERED_FLAG + ", every person in the displayed person list.\n"
+            + "Parameters: INDEX [MORE_INDEXES]... (must be positive integers, or ranges FIRST-LAST) "
+            + "or " + FILTERED_FLAG + "\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " 10-5000, " + COMMAND_WORD + " " + FILTERED_FLAG;
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d persons: %2$s";
+    public static final String MESSAGE_MORE_PERSONS = "and %1$d more";
+    public static final String MESSAGE_NO_PERSONS_SHOWN = "There are no persons in the displayed person list to delete";
 
-    private final Index targetIndex;
+    /** Most names listed after deleting several persons; the rest are only counted. */
+    static final int MAX_PERSONS_SHOWN = 10;
+
+    private final List<Index> targetIndexes;
+    private final boolean isDeletingShownPersons;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * @param targetIndexes of the persons in the filtered person list to delete
+     */
+    public DeleteCommand(List<Index> targetIndexes) {
+        this(targetIndexes, false);
+        if (targetIndexes.isEmpty()) {
+            throw new IllegalArgumentException("nothing to delete");
+        }
+    }
+
+    private DeleteCommand(List<Index> targetIndexes, boolean isDeletingShownPersons) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
+        this.isDeletingShownPersons = isDeletingShownPersons;
+    }
+
+    /**
+     * Returns a command that deletes every person in the filtered person list.
+     */
+    public static DeleteCommand deleteShownPersons() {
+        return new DeleteCommand(List.of(), true);
     }
 
     @Override
@@ -36,14 +72,56 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         //@@author
         List<Person> lastShownList = model.getProcessedPersonList();
+        List<Person> personsToDelete = isDeletingShownPersons
+                ? getShownPersons(lastShownList)
+                : getPersonsAtTargetIndexes(lastShownList);
+
+        if (personsToDelete.size() == 1) {
+            Person personToDelete = personsToDelete.get(0);
+            model.deletePerson(personToDelete);
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+        }
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+        model.deletePersons(personsToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size(),
+                describe(personsToDelete)));
+    }
+
+    private static List<Person> getShownPersons(List<Person> lastShownList) throws CommandException {
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS_SHOWN);
+        }
+        // copied, as the filtered list shrinks while its persons are deleted
+        return new ArrayList<>(lastShownList);
+    }
+
+    private List<Person> getPersonsAtTargetIndexes(List<Person> lastShownList) throws CommandException {
+        int size = lastShownList.size();
+        if (targetIndexes.size() == 1 && targetIndexes.get(0).getZeroBased() >= size) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
+        List<Index> invalidIndexes = targetIndexes.stream()
+                .filter(index -> index.getZeroBased() >= size)
+                .collect(Collectors.toList());
+        if (!invalidIndexes.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDICES,
+                    Messages.formatIndexes(invalidIndexes)));
+        }
+
+        // indexes named twice, such as in "1-5 3", are deleted once
+        BitSet positions = new BitSet(size);
+        targetIndexes.forEach(index -> positions.set(index.getZeroBased()));
+        return positions.stream().mapToObj(lastShownList::get).collect(Collectors.toList());
+    }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePerson(personToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+    private static String describe(List<Person> persons) {
+        String shown = persons.stream()
+                .limit(MAX_PERSONS_SHOWN)
+                .map(person -> person.getName().toString())
+                .collect(Collectors.joining(", "));
+        return persons.size() <= MAX_PERSONS_SHOWN
+                ? shown
+                : shown + ", " + String.format(MESSAGE_MORE_PERSONS, persons.size() - MAX_PERSONS_SHOWN);
     }
 
     @Override
@@ -58,13 +136,18 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteCommand.targetIndexes)
+                && isDeletingShownPersons == otherDeleteCommand.isDeletingShownPersons;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
-                .toString();
+        ToStringBuilder builder = new ToStringBuilder(this);
+        if (isDeletingShownPersons) {
+            return builder.add("isDeletingShownPersons", true).toString();
+        }
+        return targetIndexes.size() == 1
+                ? builder.add("targetIndex", targetIndexes.get(0)).toString()
+                : builder.add("targetIndexes", targetIndexes).toString();
     }
 }
@@ -10,6 +10,7 @@ import seedu.address.logic.commands.comparators.FindTagComparator;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsTagPredicate;
+import seedu.address.model.person.TagMatches;
 
 /**
  * Finds and lists all the persons who are tagged with any of the given tags.
@@ -41,8 +42,10 @@ public class FindByTagCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Comparator<Person> comparator = new FindTagComparator(this.predicate.getTags());
-        model.filterAndSortPersonList(predicate, comparator);
+        // resolve matches through the address book's tag index instead of testing every person's tags
+        TagMatches matches = model.matchTags(predicate.getTags());
+        Comparator<Person> comparator = new FindTagComparator(matches);
+        model.filterAndSortPersonList(matches, comparator);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getProcessedPersonList().size()));
     }
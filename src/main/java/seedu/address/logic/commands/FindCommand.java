@@ -4,23 +4,51 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.comparators.FuzzyNameComparator;
 import seedu.address.model.Model;
+import seedu.address.model.person.FuzzyNameMatches;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneticNameMatches;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * In fuzzy mode, lists the persons whose name approximately contains every keyword, closest names first.
+ * In phonetic mode, lists the persons whose name has a word that sounds like each keyword.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_FLAG = "--fuzzy";
+
+    public static final String PHONETIC_FLAG = "--phonetic";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: [" + FUZZY_FLAG + " | " + PHONETIC_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "With " + FUZZY_FLAG + ", finds the persons whose names approximately contain every keyword, "
+            + "allowing for misspellings, and lists the closest names first.\n"
+            + "With " + PHONETIC_FLAG + ", finds the persons whose names have a word that sounds like "
+            + "each keyword, such as Muhammad for Mohammed.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " alcie\n"
+            + "Example: " + COMMAND_WORD + " " + PHONETIC_FLAG + " mohammed";
+
+    /**
+     * How the keywords of a {@code FindCommand} are matched against names.
+     */
+    public enum Mode {
+        /** Names containing any of the keywords. */
+        SUBSTRING,
+        /** Names approximately containing every keyword. */
+        FUZZY,
+        /** Names with a word sounding like each keyword. */
+        PHONETIC
+    }
 
     private final NameContainsKeywordsPredicate predicate;
+    private final Mode mode;
 
     /**
      * Creates a FindCommand to search for {@code Person}s that fulfil the given
@@ -29,14 +57,39 @@ public class FindCommand extends Command {
      * @throws NullPointerException If {@code predicate} is null.
      */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, Mode.SUBSTRING);
+    }
+
+    /**
+     * Creates a FindCommand to search for {@code Person}s by the keywords of the given
+     * {@code NameContainsKeywordsPredicate}, matched as {@code mode} specifies.
+     * @throws NullPointerException If {@code predicate} or {@code mode} is null.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, Mode mode) {
         requireNonNull(predicate);
+        requireNonNull(mode);
         this.predicate = predicate;
+        this.mode = mode;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.filterPersonList(predicate);
+        String query = String.join(" ", predicate.getKeywords());
+        switch (mode) {
+        case FUZZY:
+            FuzzyNameMatches matches = model.matchNamesFuzzy(query);
+            model.filterAndSortPersonList(matches, new FuzzyNameComparator(matches));
+            break;
+        case PHONETIC:
+            PhoneticNameMatches soundAlikes = model.matchNamesPhonetic(query);
+            model.filterPersonList(soundAlikes);
+            break;
+        default:
+            // resolve matches through the address book's name index instead of testing every person's name
+            model.filterPersonList(model.matchNames(predicate.getKeywords()));
+            break;
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getProcessedPersonList().size()));
     }
@@ -53,13 +106,14 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate) && mode == otherFindCommand.mode;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("mode", mode)
                 .toString();
     }
 }
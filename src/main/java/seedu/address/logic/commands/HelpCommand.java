@@ -85,8 +85,9 @@ public class HelpCommand extends Command {
               <td><code>clear</code></td></tr>
 
           <tr><td>Delete</td>
-              <td><code>delete INDEX</code><br>
-              e.g., <code>delete 3</code></td></tr>
+              <td><code>delete INDEX [MORE_INDEXES]...</code>, where an index can be a range
+              <code>FIRST-LAST</code>, or <code>delete --filtered</code><br>
+              e.g., <code>delete 3</code>, <code>delete 10-5000</code>, <code>delete --filtered</code></td></tr>
 
           <tr><td>Edit</td>
               <td><code>edit INDEX [n/NAME] [p/PHONE] [e/EMAIL] [a/ADDRESS] [t/TAG]…</code><br>
@@ -101,15 +102,40 @@ public class HelpCommand extends Command {
               e.g., <code>findtag math science</code></td></tr>
 
           <tr><td>Pair</td>
-              <td><code>pair INDEX 1ST_PARTNER_INDEX 2ND_PARTNER_INDEX ...</code><br>
-              e.g., <code>pair 2 1 3</code></td></tr>
+              <td><code>pair INDEX 1ST_PARTNER_INDEX 2ND_PARTNER_INDEX ...</code>
+              or <code>pair INDEXES... to PARTNER_INDEXES...</code>;
+              any index can be a range <code>FIRST-LAST</code><br>
+              e.g., <code>pair 2 1 3</code>, <code>pair 3 100-450</code>,
+              <code>pair 1-200 to 201-400</code></td></tr>
 
           <tr><td>Unpair</td>
-              <td><code>unpair INDEX 1ST_PARTNER_INDEX 2ND_PARTNER_INDEX ...</code><br>
-              e.g., <code>unpair 2 1 3</code></td></tr>
+              <td><code>unpair INDEX 1ST_PARTNER_INDEX 2ND_PARTNER_INDEX ...</code>
+              or <code>unpair INDEXES... to PARTNER_INDEXES...</code>;
+              any index can be a range <code>FIRST-LAST</code><br>
+              e.g., <code>unpair 2 1 3</code>, <code>unpair 3 100-450</code>,
+              <code>unpair 1-200 to 201-400</code></td></tr>
+
+          <tr><td>Automatch</td>
+              <td><code>automatch [--confirm]</code><br>
+              e.g., <code>automatch</code> to preview, then <code>automatch --confirm</code></td></tr>
+
+          <tr><td>Assign</td>
+              <td><code>assign [k/CAPACITY] [s/SECONDS]</code><br>
+              e.g., <code>assign k/3 s/30</code></td></tr>
+
+          <tr><td>Clusters</td>
+              <td><code>clusters</code></td></tr>
 
           <tr><td>List</td>
-              <td><code>list</code></td></tr>
+              <td><code>list [unpaired | degree=N]</code> (or <code>&lt;</code>, <code>&lt;=</code>,
+              <code>&gt;</code>, <code>&gt;=</code> instead of <code>=</code>)<br>
+              e.g., <code>list unpaired</code>, <code>list degree&gt;3</code></td></tr>
+
+          <tr><td>Undo</td>
+              <td><code>undo</code></td></tr>
+
+          <tr><td>Redo</td>
+              <td><code>redo</code></td></tr>
 
           <tr><td>Exit</td>
               <td><code>exit</code></td></tr>
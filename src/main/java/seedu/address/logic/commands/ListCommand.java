@@ -3,23 +3,83 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.PersonQuery;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, or only those with a given number of partners.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String UNPAIRED_MODE = "unpaired";
+    public static final String DEGREE_MODE = "degree";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons, or only those with no partners "
+            + "or with a given number of partners.\n"
+            + "Parameters: [" + UNPAIRED_MODE + " | " + DEGREE_MODE + "=N] (or <, <=, >, >= instead of =)\n"
+            + "Example: " + COMMAND_WORD + " " + UNPAIRED_MODE + "\n"
+            + "Example: " + COMMAND_WORD + " " + DEGREE_MODE + ">3";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    private final PersonQuery partnerCondition;
+
+    /**
+     * Creates a ListCommand to list all persons.
+     */
+    public ListCommand() {
+        this.partnerCondition = null;
+    }
+
+    /**
+     * Creates a ListCommand to list the persons whose number of partners meets {@code partnerCondition},
+     * which is looked up in the address book's index of partner counts. Pages of the list are then read by
+     * walking the ids found there, but the processed list, which commands address by index, still tests every
+     * person once against them.
+     */
+    public ListCommand(PersonQuery partnerCondition) {
+        requireNonNull(partnerCondition);
+        this.partnerCondition = partnerCondition;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         //@@author
-        model.filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (partnerCondition == null) {
+            model.filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        model.filterPersonList(model.matchQuery(partnerCondition));
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                model.getProcessedPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return Objects.equals(partnerCondition, otherListCommand.partnerCondition);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("partnerCondition", partnerCondition)
+                .toString();
     }
 }
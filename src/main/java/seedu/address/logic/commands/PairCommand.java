@@ -1,16 +1,14 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.logic.Messages.INDEX_PERSON_LIST_TO_STRING_CONVERTER;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
-import javafx.util.Pair;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -18,7 +16,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Changes the remark of an existing person in the address book.
+ * Pairs persons identified by their displayed indexes, either one person to many or many to many one-to-one.
  */
 public class PairCommand extends Command {
 
@@ -26,18 +24,21 @@ public class PairCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Pairs person identified "
             + "by the index number used in the displayed person list "
-            + "to other persons by the index number used in the displayed person list\n"
+            + "to other persons by the index number used in the displayed person list, "
+            + "or pairs the persons before \"to\" to the persons after it one-to-one, in order. "
+            + "Indexes can also be ranges FIRST-LAST.\n"
             + "Parameters: INDEX (must be a positive integer) "
-            + "<INDEXES>\n"
-            + "Example: " + COMMAND_WORD + " 1 3 4 5 ";
+            + "<INDEXES>, or <INDEXES> to <INDEXES>\n"
+            + "Example: " + COMMAND_WORD + " 1 3 4 5, " + COMMAND_WORD + " 3 100-450, "
+            + COMMAND_WORD + " 1-200 to 201-400";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Paired: %s to %s";
     public static final String MESSAGE_PAIRING_ALREADY_EXISTS = "%d: %s is already paired to these person(s) "
             + "in the address book: {%s}";
     public static final String MESSAGE_SAME_CLASS = "%d: %s and {%s} are all %4$ss. %4$ss cannot be paired to %4$ss.";
 
-    private final Index index;
-    private final List<Index> indicesToPair;
+    private final List<Index> indices;
+    private final List<Index> partnerIndices;
 
     /**
      * @param index         of the person in the filtered person list
@@ -45,96 +46,71 @@ public class PairCommand extends Command {
      *                      them to
      */
     public PairCommand(Index index, List<Index> indicesToPair) {
-        requireAllNonNull(index, indicesToPair);
+        this(Collections.nCopies(requireNonNull(indicesToPair).size(), requireNonNull(index)), indicesToPair);
+    }
 
-        this.index = index;
-        this.indicesToPair = indicesToPair;
+    /**
+     * @param indices        of the persons in the filtered person list
+     * @param partnerIndices of the persons in the filtered person list to pair them to, one for each of
+     *                       {@code indices}, in the same order
+     */
+    public PairCommand(List<Index> indices, List<Index> partnerIndices) {
+        requireAllNonNull(indices, partnerIndices);
+        if (indices.size() != partnerIndices.size()) {
+            throw new IllegalArgumentException("every person needs a partner");
+        }
+
+        this.indices = indices;
+        this.partnerIndices = partnerIndices;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         //@@author c-j-lh
         List<Person> lastShownList = model.getProcessedPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_FIRST_PERSON_DISPLAYED_INDEX);
+        PairingTargets targets = PairingTargets.resolve(indices, partnerIndices, lastShownList);
+
+        // one pass sorts every pair into the ones that can be made and the reasons for the others
+        BitSet alreadyPaired = new BitSet();
+        BitSet sameClass = new BitSet();
+        for (int i = 0; i < targets.size(); i++) {
+            Person person = targets.getPerson(i);
+            Person partner = targets.getPartner(i);
+            if (model.isPaired(person, partner)) {
+                alreadyPaired.set(i);
+            } else if (person.getType().equals(partner.getType())) {
+                sameClass.set(i);
+            }
         }
 
-        Person person = lastShownList.get(index.getZeroBased());
-
-        Set<Person> personsToPair = new HashSet<>();
-        Set<Index> invalidIndices = new HashSet<>();
-        Set<Pair<Index, Person>> personsAlreadyPaired = new HashSet<>();
-        Set<Pair<Index, Person>> personsSameClass = new HashSet<>();
-        for (Index indexToPair : indicesToPair) {
-            if (indexToPair.getZeroBased() >= lastShownList.size()) {
-                invalidIndices.add(indexToPair);
-                continue;
-            }
-            Person personToPair = lastShownList.get(indexToPair.getZeroBased());
-            if (personsToPair.contains(personToPair)) {
-                continue; // ignore duplicates first. Warning message will be added later in code.
+        if (!alreadyPaired.isEmpty() || !sameClass.isEmpty()) {
+            List<String> errorMessages = new ArrayList<>();
+            if (targets.hasDuplicates()) {
+                errorMessages.add(Messages.MESSAGE_DUPLICATE_INDEX);
             }
-            if (model.getAddressBook().isPaired(person, personToPair)) {
-                personsAlreadyPaired.add(new Pair<>(indexToPair, personToPair));
-                continue;
+            if (!sameClass.isEmpty()) {
+                errorMessages.add(targets.describeByPerson(sameClass, true, (index, person, partners) ->
+                        String.format(MESSAGE_SAME_CLASS, index.getOneBased(), person.getName(), partners,
+                                person.getType())));
             }
-
-            if (!person.getType().equals(personToPair.getType())) {
-                personsToPair.add(personToPair);
-            } else {
-                personsSameClass.add(new Pair<>(indexToPair, personToPair));
+            if (!alreadyPaired.isEmpty()) {
+                errorMessages.add(targets.describeByPerson(alreadyPaired, true, (index, person, partners) ->
+                        String.format(MESSAGE_PAIRING_ALREADY_EXISTS, index.getOneBased(), person.getName(),
+                                partners)));
             }
-        }
-
-        StringBuilder successMessage = new StringBuilder();
-        ArrayList<String> errorMessages = new ArrayList<>();
-
-        Set<Integer> uniqueIndices = new HashSet<>(indicesToPair.stream().map(Index::getZeroBased)
-                .collect(Collectors.toList()));
-        if (uniqueIndices.size() != indicesToPair.size()) {
-            successMessage.append(Messages.MESSAGE_DUPLICATE_INDEX).append("\n");
-            errorMessages.add(Messages.MESSAGE_DUPLICATE_INDEX);
-        }
-
-        boolean isError = false;
-        if (!invalidIndices.isEmpty()) {
-            errorMessages.add(String.format(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDICES,
-                    invalidIndices
-                            .stream()
-                            .map(index -> String.valueOf(index.getOneBased()))
-                            .collect(Collectors.joining(", "))));
-            isError = true;
-        }
-        if (!personsSameClass.isEmpty()) {
-            errorMessages.add(String.format(MESSAGE_SAME_CLASS, index.getOneBased(), person.getName(),
-                    INDEX_PERSON_LIST_TO_STRING_CONVERTER.apply(personsSameClass),
-                    person.getType()));
-            isError = true;
-        }
-
-        if (!personsAlreadyPaired.isEmpty()) {
-            errorMessages.add(String.format(MESSAGE_PAIRING_ALREADY_EXISTS, index.getOneBased(), person.getName(),
-                    INDEX_PERSON_LIST_TO_STRING_CONVERTER.apply(personsAlreadyPaired)));
-            isError = true;
-        }
-
-        if (isError) {
             throw new CommandException(String.join("\n", errorMessages));
         }
 
+        model.pairEach(targets.getPersons(), targets.getPartners());
 
-        for (Person personToPair : personsToPair) {
-            model.pair(person, personToPair);
-            model.setPerson(personToPair, personToPair); // update GUI
+        StringBuilder successMessage = new StringBuilder();
+        if (targets.hasDuplicates()) {
+            successMessage.append(Messages.MESSAGE_DUPLICATE_INDEX).append("\n");
         }
-
-        model.setPerson(person, person); // update GUI
-
-        successMessage.append(String.format(MESSAGE_EDIT_PERSON_SUCCESS, person.getName().toString(),
-                "{" + uniqueIndices.stream().map(
-                                index -> lastShownList.get(index).getName().toString())
-                        .collect(Collectors.joining(", ")) + "}"));
+        BitSet allPairs = new BitSet();
+        allPairs.set(0, targets.size());
+        successMessage.append(targets.describeByPerson(allPairs, false, (index, person, partners) ->
+                String.format(MESSAGE_EDIT_PERSON_SUCCESS, person.getName(), "{" + partners + "}")));
         model.filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(successMessage.toString());
@@ -154,6 +130,6 @@ public class PairCommand extends Command {
 
         // state check
         PairCommand e = (PairCommand) other;
-        return index.equals(e.index) && indicesToPair.equals(e.indicesToPair);
+        return indices.equals(e.indices) && partnerIndices.equals(e.partnerIndices);
     }
 }
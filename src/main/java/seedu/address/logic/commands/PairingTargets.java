@@ -0,0 +1,138 @@
+package seedu.address.logic.commands;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons that the index pairs of a {@link PairCommand} or {@link UnpairCommand} name in the displayed person
+ * list, resolved in a single pass over the pairs. A pair naming the same two persons as an earlier pair, in either
+ * order, is dropped as a duplicate.
+ */
+final class PairingTargets {
+
+    private final List<Index> indices = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Index> partnerIndices = new ArrayList<>();
+    private final List<Person> partners = new ArrayList<>();
+    private boolean hasDuplicates = false;
+
+    private PairingTargets() {
+    }
+
+    /**
+     * Resolves the persons at {@code indices} and {@code partnerIndices}, pair by pair, in {@code shownList}.
+     *
+     * @throws CommandException if any of the indexes is out of bounds.
+     */
+    static PairingTargets resolve(List<Index> indices, List<Index> partnerIndices, List<Person> shownList)
+            throws CommandException {
+        assert indices.size() == partnerIndices.size();
+        int size = shownList.size();
+        if (!indices.isEmpty() && indices.stream().allMatch(indices.get(0)::equals)
+                && indices.get(0).getZeroBased() >= size) {
+            // one person paired to many, and that person does not exist
+            throw new CommandException(Messages.MESSAGE_INVALID_FIRST_PERSON_DISPLAYED_INDEX);
+        }
+        List<Index> invalidIndices = new ArrayList<>();
+        for (int i = 0; i < indices.size(); i++) {
+            addIfOutOfBounds(indices.get(i), size, invalidIndices);
+            addIfOutOfBounds(partnerIndices.get(i), size, invalidIndices);
+        }
+        if (!invalidIndices.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDICES,
+                    Messages.formatIndexes(invalidIndices)));
+        }
+
+        PairingTargets targets = new PairingTargets();
+        Set<Long> seenPairs = new HashSet<>();
+        for (int i = 0; i < indices.size(); i++) {
+            int a = indices.get(i).getZeroBased();
+            int b = partnerIndices.get(i).getZeroBased();
+            if (!seenPairs.add((long) Math.min(a, b) * size + Math.max(a, b))) {
+                targets.hasDuplicates = true;
+                continue;
+            }
+            targets.indices.add(indices.get(i));
+            targets.persons.add(shownList.get(a));
+            targets.partnerIndices.add(partnerIndices.get(i));
+            targets.partners.add(shownList.get(b));
+        }
+        return targets;
+    }
+
+    private static void addIfOutOfBounds(Index index, int size, List<Index> invalidIndices) {
+        if (index.getZeroBased() >= size) {
+            invalidIndices.add(index);
+        }
+    }
+
+    /**
+     * Returns the number of distinct pairs.
+     */
+    int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns true if some pairs were dropped because they repeat an earlier pair.
+     */
+    boolean hasDuplicates() {
+        return hasDuplicates;
+    }
+
+    Person getPerson(int pair) {
+        return persons.get(pair);
+    }
+
+    Person getPartner(int pair) {
+        return partners.get(pair);
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    List<Person> getPartners() {
+        return partners;
+    }
+
+    /**
+     * Describes the pairs at the positions in {@code selectedPairs}, one line per person in the order the persons
+     * were first named. Each line is made by {@code line} from the index of the person, the person, and its
+     * partners, listed by name, and also by index if {@code withIndexes} is true.
+     */
+    String describeByPerson(BitSet selectedPairs, boolean withIndexes, LineFormat line) {
+        Map<Integer, Person> personsByIndex = new LinkedHashMap<>();
+        Map<Integer, StringJoiner> partnersByIndex = new LinkedHashMap<>();
+        for (int pair = selectedPairs.nextSetBit(0); pair >= 0; pair = selectedPairs.nextSetBit(pair + 1)) {
+            int index = indices.get(pair).getZeroBased();
+            personsByIndex.put(index, persons.get(pair));
+            String partner = partners.get(pair).getName().toString();
+            partnersByIndex.computeIfAbsent(index, unused -> new StringJoiner(", "))
+                    .add(withIndexes ? partnerIndices.get(pair).getOneBased() + ": " + partner : partner);
+        }
+        StringJoiner lines = new StringJoiner("\n");
+        personsByIndex.forEach((index, person) -> lines.add(
+                line.format(Index.fromZeroBased(index), person, partnersByIndex.get(index).toString())));
+        return lines.toString();
+    }
+
+    /**
+     * Formats the line describing the pairs of one person.
+     */
+    @FunctionalInterface
+    interface LineFormat {
+        String format(Index index, Person person, String partners);
+    }
+}
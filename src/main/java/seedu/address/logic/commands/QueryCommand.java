@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryMatches;
+
+/**
+ * Lists all persons in the address book matching a query that combines conditions on their name, tags, type,
+ * pairings, phone and email with AND, OR and NOT.
+ * Optionally shows the plan by which the matches were found.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String EXPLAIN_FLAG = "--explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching the query "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: [" + EXPLAIN_FLAG + "] QUERY\n"
+            + "A query combines conditions with AND, OR, NOT and parentheses; "
+            + "conditions next to each other must all hold. Conditions:\n"
+            + "  name:KEYWORD  tag:TAG  type:student|volunteer  phone:DIGITS  email:TEXT\n"
+            + "  paired  unpaired  partners=N (or <, <=, >, >=)\n"
+            + "Enclose values containing spaces in double quotes. "
+            + "With " + EXPLAIN_FLAG + ", also shows how the matches were found and how long each step took.\n"
+            + "Example: " + COMMAND_WORD + " tag:maths AND (type:student OR partners>=2) AND NOT name:\"Alex Yeoh\"\n"
+            + "Example: " + COMMAND_WORD + " " + EXPLAIN_FLAG + " type:volunteer unpaired";
+
+    public static final String MESSAGE_PLAN = "Plan:\n%1$s";
+
+    private final PersonQuery query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a QueryCommand to list the {@code Person}s matching {@code query}, and to show how they were found
+     * if {@code isExplain} is true.
+     * @throws NullPointerException If {@code query} is null.
+     */
+    public QueryCommand(PersonQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryMatches matches = model.matchQuery(query);
+        model.filterPersonList(matches);
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                model.getProcessedPersonList().size());
+        if (isExplain) {
+            message += "\n" + String.format(MESSAGE_PLAN, matches.explain());
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query) && isExplain == otherQueryCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
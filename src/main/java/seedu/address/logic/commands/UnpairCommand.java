@@ -1,16 +1,14 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.logic.Messages.INDEX_PERSON_LIST_TO_STRING_CONVERTER;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
-import javafx.util.Pair;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -18,7 +16,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Changes the remark of an existing person in the address book.
+ * Unpairs persons identified by their displayed indexes, either one person from many or many from many one-to-one.
  */
 public class UnpairCommand extends Command {
 
@@ -26,102 +24,80 @@ public class UnpairCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unpairs person identified "
             + "by the index number used in the displayed person list "
-            + "to other persons by the index number used in the displayed person list\n"
+            + "to other persons by the index number used in the displayed person list, "
+            + "or unpairs the persons before \"to\" from the persons after it one-to-one, in order. "
+            + "Indexes can also be ranges FIRST-LAST.\n"
             + "Parameters: INDEX (must be a positive integer) "
-            + "<INDEXES>\n"
-            + "Example: " + COMMAND_WORD + " 1 3 4 5 ";
+            + "<INDEXES>, or <INDEXES> to <INDEXES>\n"
+            + "Example: " + COMMAND_WORD + " 1 3 4 5, " + COMMAND_WORD + " 3 100-450, "
+            + COMMAND_WORD + " 1-200 to 201-400";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Unpaired: %s from %s";
     public static final String MESSAGE_PAIRING_DOES_NOT_EXIST_YET = "%d: %s is not paired to these person(s) "
             + "in the address book yet: {%s}";
 
-    private final Index index;
-    private final List<Index> indicesToUnpair;
+    private final List<Index> indices;
+    private final List<Index> partnerIndices;
 
     /**
      * @param index           of the person in the filtered person list
-     * @param indicesToUnpair of the person(s) in the filtered person list to pair
-     *                        them to
+     * @param indicesToUnpair of the person(s) in the filtered person list to unpair
+     *                        them from
      */
     public UnpairCommand(Index index, List<Index> indicesToUnpair) {
-        requireAllNonNull(index, indicesToUnpair);
+        this(Collections.nCopies(requireNonNull(indicesToUnpair).size(), requireNonNull(index)), indicesToUnpair);
+    }
+
+    /**
+     * @param indices        of the persons in the filtered person list
+     * @param partnerIndices of the persons in the filtered person list to unpair them from, one for each of
+     *                       {@code indices}, in the same order
+     */
+    public UnpairCommand(List<Index> indices, List<Index> partnerIndices) {
+        requireAllNonNull(indices, partnerIndices);
+        if (indices.size() != partnerIndices.size()) {
+            throw new IllegalArgumentException("every person needs a partner");
+        }
 
-        this.index = index;
-        this.indicesToUnpair = indicesToUnpair;
+        this.indices = indices;
+        this.partnerIndices = partnerIndices;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         //@@author c-j-lh
         List<Person> lastShownList = model.getProcessedPersonList();
+        PairingTargets targets = PairingTargets.resolve(indices, partnerIndices, lastShownList);
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_FIRST_PERSON_DISPLAYED_INDEX);
+        // one pass finds every pair that cannot be unpaired
+        BitSet notYetPaired = new BitSet();
+        for (int i = 0; i < targets.size(); i++) {
+            if (!model.isPaired(targets.getPerson(i), targets.getPartner(i))) {
+                notYetPaired.set(i);
+            }
         }
 
-        Person person = lastShownList.get(index.getZeroBased());
-
-        Set<Person> personsToUnpair = new HashSet<>();
-        Set<Index> invalidIndices = new HashSet<>();
-        Set<Pair<Index, Person>> personsNotYetPaired = new HashSet<>();
-        for (Index indexToUnpair : indicesToUnpair) {
-            if (indexToUnpair.getZeroBased() >= lastShownList.size()) {
-                invalidIndices.add(indexToUnpair);
-                continue;
-            }
-            Person personToUnpair = lastShownList.get(indexToUnpair.getZeroBased());
-            if (personsToUnpair.contains(personToUnpair)) {
-                continue; // ignore duplicates first. Warning message will be added later in code.
-            }
-            if (!model.getAddressBook().isPaired(person, personToUnpair)) {
-                personsNotYetPaired.add(new Pair<>(indexToUnpair, personToUnpair));
-                continue;
+        if (!notYetPaired.isEmpty()) {
+            List<String> errorMessages = new ArrayList<>();
+            if (targets.hasDuplicates()) {
+                errorMessages.add(Messages.MESSAGE_DUPLICATE_INDEX);
             }
-
-            personsToUnpair.add(personToUnpair);
+            errorMessages.add(targets.describeByPerson(notYetPaired, true, (index, person, partners) ->
+                    String.format(MESSAGE_PAIRING_DOES_NOT_EXIST_YET, index.getOneBased(), person.getName(),
+                            partners)));
+            throw new CommandException(String.join("\n", errorMessages));
         }
 
-        StringBuilder successMessage = new StringBuilder();
-        ArrayList<String> errorMessages = new ArrayList<>();
+        model.unpairEach(targets.getPersons(), targets.getPartners());
 
-        Set<Integer> uniqueIndices = new HashSet<>(indicesToUnpair.stream().map(Index::getZeroBased)
-                .collect(Collectors.toList()));
-        if (uniqueIndices.size() != indicesToUnpair.size()) {
+        StringBuilder successMessage = new StringBuilder();
+        if (targets.hasDuplicates()) {
             successMessage.append(Messages.MESSAGE_DUPLICATE_INDEX).append("\n");
-            errorMessages.add(Messages.MESSAGE_DUPLICATE_INDEX);
-        }
-
-        boolean isError = false;
-        if (!invalidIndices.isEmpty()) {
-            errorMessages.add(String.format(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDICES,
-                    invalidIndices
-                            .stream()
-                            .map(index -> String.valueOf(index.getOneBased()))
-                            .collect(Collectors.joining(", "))));
-            isError = true;
-        }
-
-        if (!personsNotYetPaired.isEmpty()) {
-            errorMessages.add(String.format(MESSAGE_PAIRING_DOES_NOT_EXIST_YET, index.getOneBased(), person.getName(),
-                    INDEX_PERSON_LIST_TO_STRING_CONVERTER.apply(personsNotYetPaired)));
-            isError = true;
-        }
-
-        if (isError) {
-            throw new CommandException(String.join("\n", errorMessages));
-        }
-
-        for (Person personToUnpair : personsToUnpair) {
-            model.unpair(person, personToUnpair);
-            model.setPerson(personToUnpair, personToUnpair); // update GUI
         }
-
-        model.setPerson(person, person); // update GUI
-
-        successMessage.append(String.format(MESSAGE_EDIT_PERSON_SUCCESS, person.getName().toString(),
-                "{" + uniqueIndices.stream().map(
-                                index -> lastShownList.get(index).getName().toString())
-                        .collect(Collectors.joining(", ")) + "}"));
+        BitSet allPairs = new BitSet();
+        allPairs.set(0, targets.size());
+        successMessage.append(targets.describeByPerson(allPairs, false, (index, person, partners) ->
+                String.format(MESSAGE_EDIT_PERSON_SUCCESS, person.getName(), "{" + partners + "}")));
         model.filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(successMessage.toString());
@@ -141,7 +117,6 @@ public class UnpairCommand extends Command {
 
         // state check
         UnpairCommand e = (UnpairCommand) other;
-        return index.equals(e.index)
-                && indicesToUnpair.equals(e.indicesToUnpair);
+        return indices.equals(e.indices) && partnerIndices.equals(e.partnerIndices);
     }
 }
@@ -0,0 +1,31 @@
+package seedu.address.logic.commands.comparators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import seedu.address.model.person.FuzzyNameMatches;
+import seedu.address.model.person.Person;
+
+/**
+ * Comparator which sorts the persons found by a fuzzy name search from the closest name to the furthest.
+ * Persons whose names are equally close keep the order in which they were added to the address book.
+ *
+ * <p>The order is worked out once, up front, by {@link FuzzyNameMatches#getRank(Person)} and only read back here.</p>
+ */
+public class FuzzyNameComparator implements Comparator<Person> {
+    private final FuzzyNameMatches matches;
+
+    /**
+     * Constructs a comparator to sort persons by their edit distance in {@code matches}.
+     */
+    public FuzzyNameComparator(FuzzyNameMatches matches) {
+        requireNonNull(matches);
+        this.matches = matches;
+    }
+
+    @Override
+    public int compare(Person o1, Person o2) {
+        return Integer.compare(matches.getRank(o1), matches.getRank(o2));
+    }
+}
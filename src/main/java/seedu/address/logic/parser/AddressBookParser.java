@@ -9,7 +9,10 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AssignCommand;
+import seedu.address.logic.commands.AutomatchCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClustersCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -19,6 +22,9 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PairCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnpairCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.EntryType;
@@ -78,8 +84,17 @@ public class AddressBookParser {
         case FindByTagCommand.COMMAND_WORD:
             return new FindByTagCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -98,6 +113,15 @@ public class AddressBookParser {
         case UnpairCommand.COMMAND_WORD:
             return new UnpairCommandParser().parse(arguments);
 
+        case AutomatchCommand.COMMAND_WORD:
+            return new AutomatchCommandParser().parse(arguments);
+
+        case AssignCommand.COMMAND_WORD:
+            return new AssignCommandParser().parse(arguments);
+
+        case ClustersCommand.COMMAND_WORD:
+            return new ClustersCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
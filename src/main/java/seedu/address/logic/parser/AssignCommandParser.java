@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME_LIMIT;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AssignCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AssignCommand object
+ */
+public class AssignCommandParser implements Parser<AssignCommand> {
+
+    public static final String MESSAGE_INVALID_CAPACITY = "Capacity must be a whole number from 1 to "
+            + AssignCommand.MAX_CAPACITY;
+    public static final String MESSAGE_INVALID_TIME_LIMIT = "Time limit must be a whole number of seconds from 1 to "
+            + AssignCommand.MAX_TIME_LIMIT_SECONDS;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AssignCommand
+     * and returns an AssignCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AssignCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CAPACITY, PREFIX_TIME_LIMIT);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CAPACITY, PREFIX_TIME_LIMIT);
+
+        int capacity = parseBounded(argMultimap.getValue(PREFIX_CAPACITY), AssignCommand.DEFAULT_CAPACITY,
+                AssignCommand.MAX_CAPACITY, MESSAGE_INVALID_CAPACITY);
+        int timeLimitSeconds = parseBounded(argMultimap.getValue(PREFIX_TIME_LIMIT),
+                AssignCommand.DEFAULT_TIME_LIMIT_SECONDS, AssignCommand.MAX_TIME_LIMIT_SECONDS,
+                MESSAGE_INVALID_TIME_LIMIT);
+        return new AssignCommand(capacity, timeLimitSeconds);
+    }
+
+    /**
+     * Parses {@code value} as a whole number from 1 to {@code max}, or returns {@code defaultValue} if it is absent.
+     * @throws ParseException with {@code message} if {@code value} is not such a number.
+     */
+    private static int parseBounded(Optional<String> value, int defaultValue, int max, String message)
+            throws ParseException {
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+        String trimmedValue = value.get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedValue) || Integer.parseInt(trimmedValue) > max) {
+            throw new ParseException(message);
+        }
+        return Integer.parseInt(trimmedValue);
+    }
+}
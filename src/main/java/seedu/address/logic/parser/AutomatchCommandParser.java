@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.AutomatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AutomatchCommand object
+ */
+public class AutomatchCommandParser implements Parser<AutomatchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AutomatchCommand
+     * and returns an AutomatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AutomatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new AutomatchCommand(false);
+        }
+        if (trimmedArgs.equals(AutomatchCommand.CONFIRM_FLAG)) {
+            return new AutomatchCommand(true);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutomatchCommand.MESSAGE_USAGE));
+    }
+}
@@ -26,8 +26,27 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        FindCommand.Mode mode = parseMode(nameKeywords[0]);
+        if (mode != FindCommand.Mode.SUBSTRING) {
+            nameKeywords = Arrays.copyOfRange(nameKeywords, 1, nameKeywords.length);
+            if (nameKeywords.length == 0) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+        }
+
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)), mode);
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private static FindCommand.Mode parseMode(String firstWord) {
+        switch (firstWord) {
+        case FindCommand.FUZZY_FLAG:
+            return FindCommand.Mode.FUZZY;
+        case FindCommand.PHONETIC_FLAG:
+            return FindCommand.Mode.PHONETIC;
+        default:
+            return FindCommand.Mode.SUBSTRING;
+        }
     }
 
 }
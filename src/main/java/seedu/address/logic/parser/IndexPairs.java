@@ -0,0 +1,103 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The displayed indexes of the persons to pair or unpair, {@code indices.get(i)} with {@code partnerIndices.get(i)},
+ * as parsed from the arguments of {@code PairCommandParser} and {@code UnpairCommandParser}.
+ * <p>
+ * The arguments take one of two forms, in both of which any index may also be a range {@code FIRST-LAST}:
+ * {@code INDEX PARTNER_INDEXES...} pairs one person with every partner, and
+ * {@code INDEXES... to PARTNER_INDEXES...} pairs the persons and partners at the same position in the two lists.
+ */
+record IndexPairs(List<Index> indices, List<Index> partnerIndices) {
+
+    /** Separates the persons from their partners in the second form. */
+    static final String KEYWORD_TO = "to";
+
+    static final String MESSAGE_SIDES_DIFFER = "%1$d index(es) come before \"" + KEYWORD_TO + "\" but %2$d after it; "
+            + "each person needs exactly one partner.";
+
+    /**
+     * Parses {@code args}, reporting a malformed command with {@code messageUsage} and an index paired with itself
+     * with {@code messageSelfPairing}.
+     *
+     * @throws ParseException if {@code args} takes neither form, or pairs an index with itself.
+     */
+    static IndexPairs parse(String args, String messageUsage, String messageSelfPairing) throws ParseException {
+        requireNonNull(args);
+        String trimmed = args.trim();
+        if (trimmed.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+
+        List<String> tokens = Arrays.asList(trimmed.split("\\s+"));
+        int to = tokens.indexOf(KEYWORD_TO);
+        IndexPairs pairs = to < 0
+                ? parseOneToMany(tokens, messageUsage)
+                : parseZipped(tokens.subList(0, to), tokens.subList(to + 1, tokens.size()), messageUsage);
+
+        for (int i = 0; i < pairs.indices.size(); i++) {
+            if (pairs.indices.get(i).equals(pairs.partnerIndices.get(i))) {
+                throw new ParseException(messageSelfPairing);
+            }
+        }
+        return pairs;
+    }
+
+    private static IndexPairs parseOneToMany(List<String> tokens, String messageUsage) throws ParseException {
+        if (tokens.size() < 2) {
+            // need at least one partner index after the main index
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+
+        Index mainIndex;
+        try {
+            mainIndex = ParserUtil.parseIndex(tokens.get(0));
+        } catch (ParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage), e);
+        }
+
+        List<Index> partnerIndices = parseIndexes(tokens.subList(1, tokens.size()));
+        return new IndexPairs(Collections.nCopies(partnerIndices.size(), mainIndex), partnerIndices);
+    }
+
+    private static IndexPairs parseZipped(List<String> before, List<String> after, String messageUsage)
+            throws ParseException {
+        if (before.isEmpty() || after.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+
+        List<Index> indices = parseIndexes(before);
+        List<Index> partnerIndices = parseIndexes(after);
+        if (indices.size() != partnerIndices.size()) {
+            throw new ParseException(String.format(MESSAGE_SIDES_DIFFER, indices.size(), partnerIndices.size()));
+        }
+        return new IndexPairs(indices, partnerIndices);
+    }
+
+    private static List<Index> parseIndexes(List<String> tokens) throws ParseException {
+        List<Index> indexes = new ArrayList<>();
+        for (String token : tokens) {
+            if (token.contains("-")) {
+                indexes.addAll(ParserUtil.parseIndexRange(token));
+                continue;
+            }
+            try {
+                indexes.add(ParserUtil.parseIndex(token));
+            } catch (ParseException e) {
+                throw new ParseException("Invalid index: " + token, e);
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonQuery;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    private static final Pattern DEGREE_FORMAT = Pattern.compile(ListCommand.DEGREE_MODE
+            + "\\s*(?<comparison><=|>=|=|<|>)\\s*(?<bound>\\d{1,9})", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Arguments that do not name a mode are ignored, and all persons are listed.
+     * @throws ParseException if the arguments start with the degree mode but do not conform to its format
+     */
+    @Override
+    public ListCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.equalsIgnoreCase(ListCommand.UNPAIRED_MODE)) {
+            return new ListCommand(PersonQuery.unpaired());
+        }
+        if (!trimmedArgs.regionMatches(true, 0, ListCommand.DEGREE_MODE, 0, ListCommand.DEGREE_MODE.length())) {
+            return new ListCommand();
+        }
+        Matcher matcher = DEGREE_FORMAT.matcher(trimmedArgs);
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        }
+        return new ListCommand(PersonQuery.partners(
+                QueryCommandParser.parseComparison(matcher.group("comparison")),
+                Integer.parseInt(matcher.group("bound"))));
+    }
+}
@@ -2,8 +2,10 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -21,6 +23,12 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "Index range must be FIRST-LAST, two non-zero unsigned "
+            + "integers with FIRST no larger than LAST: %1$s";
+    /** Largest number of indexes that one range may cover, so that a typo cannot exhaust memory. */
+    public static final int MAX_INDEX_RANGE_LENGTH = 100_000;
+    public static final String MESSAGE_INDEX_RANGE_TOO_LONG = "Index range covers more than "
+            + MAX_INDEX_RANGE_LENGTH + " indexes: %1$s";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -35,6 +43,38 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code indexOrRange}, either a one-based index or a range {@code FIRST-LAST} of them, into the indexes
+     * it covers, in ascending order. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified index is invalid, or the range is malformed, backwards or longer than
+     *     {@link #MAX_INDEX_RANGE_LENGTH}.
+     */
+    public static List<Index> parseIndexRange(String indexOrRange) throws ParseException {
+        String trimmed = indexOrRange.trim();
+        int dash = trimmed.indexOf('-');
+        if (dash < 0) {
+            return List.of(parseIndex(trimmed));
+        }
+        String first = trimmed.substring(0, dash);
+        String last = trimmed.substring(dash + 1);
+        if (!StringUtil.isNonZeroUnsignedInteger(first) || !StringUtil.isNonZeroUnsignedInteger(last)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, trimmed));
+        }
+        int firstIndex = Integer.parseInt(first);
+        int lastIndex = Integer.parseInt(last);
+        if (firstIndex > lastIndex) {
+            throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, trimmed));
+        }
+        if (lastIndex - firstIndex >= MAX_INDEX_RANGE_LENGTH) {
+            throw new ParseException(String.format(MESSAGE_INDEX_RANGE_TOO_LONG, trimmed));
+        }
+        List<Index> indexes = new ArrayList<>(lastIndex - firstIndex + 1);
+        for (int i = firstIndex; i <= lastIndex; i++) {
+            indexes.add(Index.fromOneBased(i));
+        }
+        return indexes;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,233 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.EntryType;
+import seedu.address.model.person.PersonQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * <p>
+ * The query is split into words, parentheses and double-quoted values, and parsed by recursive descent with
+ * NOT binding tighter than AND, and AND tighter than OR. Conditions next to each other are joined with AND.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_CONDITION = "Unknown query condition: %1$s";
+    public static final String MESSAGE_INVALID_TYPE = "Type must be student or volunteer: %1$s";
+    public static final String MESSAGE_INVALID_PHONE = "Phone conditions may only contain digits: %1$s";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "Unbalanced parentheses in query";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Unterminated double quote in query";
+
+    private static final Pattern PARTNER_COUNT_FORMAT =
+            Pattern.compile("partners(?<comparison><=|>=|=|<|>)(?<bound>\\d{1,9})", Pattern.CASE_INSENSITIVE);
+
+    private List<Token> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public QueryCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        boolean isExplain = trimmedArgs.equals(QueryCommand.EXPLAIN_FLAG)
+                || trimmedArgs.startsWith(QueryCommand.EXPLAIN_FLAG + " ");
+        if (isExplain) {
+            trimmedArgs = trimmedArgs.substring(QueryCommand.EXPLAIN_FLAG.length()).trim();
+        }
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        return new QueryCommand(parseQuery(trimmedArgs), isExplain);
+    }
+
+    /**
+     * Parses {@code query}, in the syntax of the query command, into a {@code PersonQuery}.
+     * @throws ParseException if {@code query} is not a valid query
+     */
+    PersonQuery parseQuery(String query) throws ParseException {
+        tokens = tokenize(query);
+        position = 0;
+        PersonQuery result = parseOr();
+        if (position < tokens.size()) {
+            Token unexpected = tokens.get(position);
+            throw new ParseException(unexpected.isParenthesis(')')
+                    ? MESSAGE_UNBALANCED_PARENTHESES
+                    : String.format(MESSAGE_UNKNOWN_CONDITION, unexpected.text));
+        }
+        return result;
+    }
+
+    private PersonQuery parseOr() throws ParseException {
+        List<PersonQuery> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (peekKeyword("OR")) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return PersonQuery.or(operands);
+    }
+
+    private PersonQuery parseAnd() throws ParseException {
+        List<PersonQuery> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (position < tokens.size() && !peekKeyword("OR") && !tokens.get(position).isParenthesis(')')) {
+            if (peekKeyword("AND")) {
+                position++;
+            }
+            operands.add(parseUnary());
+        }
+        return PersonQuery.and(operands);
+    }
+
+    private PersonQuery parseUnary() throws ParseException {
+        if (position >= tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        Token token = tokens.get(position++);
+        if (token.isKeyword("NOT")) {
+            return PersonQuery.not(parseUnary());
+        }
+        if (token.isParenthesis('(')) {
+            PersonQuery inner = parseOr();
+            if (position >= tokens.size() || !tokens.get(position).isParenthesis(')')) {
+                throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+            }
+            position++;
+            return inner;
+        }
+        if (token.isParenthesis(')') || token.isKeyword("AND") || token.isKeyword("OR")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        return parseCondition(token.text);
+    }
+
+    private static PersonQuery parseCondition(String condition) throws ParseException {
+        if (condition.equalsIgnoreCase("paired")) {
+            return PersonQuery.paired();
+        }
+        if (condition.equalsIgnoreCase("unpaired")) {
+            return PersonQuery.unpaired();
+        }
+        Matcher partnerCount = PARTNER_COUNT_FORMAT.matcher(condition);
+        if (partnerCount.matches()) {
+            return PersonQuery.partners(parseComparison(partnerCount.group("comparison")),
+                    Integer.parseInt(partnerCount.group("bound")));
+        }
+
+        int colon = condition.indexOf(':');
+        String value = colon < 0 ? "" : condition.substring(colon + 1).trim();
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_CONDITION, condition));
+        }
+        switch (condition.substring(0, colon).toLowerCase()) {
+        case "name":
+            return PersonQuery.name(value);
+        case "tag":
+            return PersonQuery.tag(ParserUtil.parseTag(value));
+        case "type":
+            return PersonQuery.type(parseType(value));
+        case "phone":
+            if (!value.chars().allMatch(Character::isDigit)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_PHONE, value));
+            }
+            return PersonQuery.phone(value);
+        case "email":
+            return PersonQuery.email(value);
+        default:
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_CONDITION, condition));
+        }
+    }
+
+    /**
+     * Returns the comparison written as {@code symbol}, which must be the symbol of one.
+     */
+    static PersonQuery.Comparison parseComparison(String symbol) {
+        for (PersonQuery.Comparison comparison : PersonQuery.Comparison.values()) {
+            if (comparison.getSymbol().equals(symbol)) {
+                return comparison;
+            }
+        }
+        throw new AssertionError("callers only match known comparison symbols: " + symbol);
+    }
+
+    private static EntryType parseType(String type) throws ParseException {
+        for (EntryType entryType : EntryType.values()) {
+            if (entryType.name().equalsIgnoreCase(type)) {
+                return entryType;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_TYPE, type));
+    }
+
+    private boolean peekKeyword(String keyword) {
+        return position < tokens.size() && tokens.get(position).isKeyword(keyword);
+    }
+
+    /**
+     * Splits {@code query} at whitespace and around parentheses. Text between double quotes is kept together,
+     * including any whitespace and parentheses in it.
+     */
+    private static List<Token> tokenize(String query) throws ParseException {
+        List<Token> result = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean isQuoted = false;
+        boolean hasQuote = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                hasQuote = true;
+            } else if (isQuoted || !(Character.isWhitespace(c) || c == '(' || c == ')')) {
+                current.append(c);
+            } else {
+                if (current.length() > 0 || hasQuote) {
+                    result.add(new Token(current.toString(), hasQuote));
+                    current.setLength(0);
+                    hasQuote = false;
+                }
+                if (c == '(' || c == ')') {
+                    result.add(new Token(String.valueOf(c), false));
+                }
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        if (current.length() > 0 || hasQuote) {
+            result.add(new Token(current.toString(), hasQuote));
+        }
+        return result;
+    }
+
+    /**
+     * A word, parenthesis or quoted value of a query. Quoted text is never a keyword or parenthesis.
+     */
+    private static class Token {
+        private final String text;
+        private final boolean hasQuote;
+
+        Token(String text, boolean hasQuote) {
+            this.text = text;
+            this.hasQuote = hasQuote;
+        }
+
+        boolean isKeyword(String keyword) {
+            return !hasQuote && text.equalsIgnoreCase(keyword);
+        }
+
+        boolean isParenthesis(char parenthesis) {
+            return !hasQuote && text.length() == 1 && text.charAt(0) == parenthesis;
+        }
+    }
+}
@@ -2,13 +2,27 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.AssignmentEngine;
+import seedu.address.model.person.Cluster;
+import seedu.address.model.person.FuzzyNameMatches;
+import seedu.address.model.person.NameMatches;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PhoneticNameMatches;
+import seedu.address.model.person.ProposedPairing;
+import seedu.address.model.person.QueryMatches;
+import seedu.address.model.person.TagMatches;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -32,11 +46,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}, with no undo history.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        persons.clearHistory();
     }
 
     //// list overwrite operations
@@ -44,30 +59,29 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the bulk-load path: the whole input is validated and indexed in one pass, and every group of
+     * duplicates found is reported through the thrown {@code DuplicatePersonException}.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
     }
 
     /**
-     * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Resets the existing data of this {@code AddressBook} with {@code newData}, including its pairings.
+     * Copying costs O(V + E): another {@code AddressBook} is copied wholesale, and any other
+     * {@code ReadOnlyAddressBook} has its persons bulk-loaded and its pairings replayed through
+     * {@link ReadOnlyAddressBook#forEachPairing}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        // 1) copy persons
-        setPersons(newData.getPersonList());
-
-        // 2) rebuild pairings by index
-        ObservableList<Person> src = newData.getPersonList();
-        ObservableList<Person> dst = this.getPersonList();
-        for (int i = 0; i < src.size(); i++) {
-            for (int j = i + 1; j < src.size(); j++) {
-                if (newData.isPaired(src.get(i), src.get(j))) {
-                    this.pair(dst.get(i), dst.get(j));
-                }
-            }
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+            return;
         }
+
+        setPersons(newData.getPersonList());
+        newData.forEachPairing(this::pair);
     }
 
     //// person-level operations
@@ -98,6 +112,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.unpair(a, b);
     }
 
+    /**
+     * Pairs each person in {@code persons} to the person at the same position in {@code partners}.
+     *
+     * @see UniquePersonList#pairEach(List, List)
+     */
+    public void pairEach(List<Person> persons, List<Person> partners) {
+        this.persons.pairEach(persons, partners);
+    }
+
+    /**
+     * Unpairs each person in {@code persons} from the person at the same position in {@code partners}.
+     *
+     * @see UniquePersonList#unpairEach(List, List)
+     */
+    public void unpairEach(List<Person> persons, List<Person> partners) {
+        this.persons.unpairEach(persons, partners);
+    }
+
     @Override
     public boolean isPaired(Person a, Person b) {
         return persons.isPaired(a, b);
@@ -108,6 +140,133 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.getPairedPersons(p);
     }
 
+    @Override
+    public void forEachPairing(BiConsumer<Person, Person> action) {
+        persons.forEachPairing(action);
+    }
+
+    /**
+     * Performs {@code action} on every person paired to {@code p} without copying the pairings.
+     */
+    @Override
+    public void forEachPairedPerson(Person p, Consumer<? super Person> action) {
+        persons.forEachPairedPerson(p, action);
+    }
+
+    /**
+     * Returns the insertion ordinal of {@code p}, which orders persons as they appear in this address book.
+     * @see UniquePersonList#getOrdinal(Person)
+     */
+    public int getOrdinal(Person p) {
+        return persons.getOrdinal(p);
+    }
+
+    /**
+     * Returns a bound on the ordinals of this address book; every person in it has a smaller ordinal.
+     * @see UniquePersonList#getOrdinalBound()
+     */
+    public int getOrdinalBound() {
+        return persons.getOrdinalBound();
+    }
+
+    /**
+     * Returns the person with ordinal {@code ordinal}.
+     * @see UniquePersonList#getPersonByOrdinal(int)
+     */
+    public Person getPersonByOrdinal(int ordinal) {
+        return persons.getPersonByOrdinal(ordinal);
+    }
+
+    /**
+     * Returns the smallest ordinal at or after {@code fromOrdinal} of a person {@code filter} may accept,
+     * or -1 if there is none.
+     * @see UniquePersonList#nextCandidateOrdinal(Predicate, int)
+     */
+    public int nextCandidateOrdinal(Predicate<? super Person> filter, int fromOrdinal) {
+        return persons.nextCandidateOrdinal(filter, fromOrdinal);
+    }
+
+    /**
+     * Returns the largest ordinal before {@code toOrdinal} of a person {@code filter} may accept,
+     * or -1 if there is none.
+     * @see UniquePersonList#previousCandidateOrdinal(Predicate, int)
+     */
+    public int previousCandidateOrdinal(Predicate<? super Person> filter, int toOrdinal) {
+        return persons.previousCandidateOrdinal(filter, toOrdinal);
+    }
+
+    /**
+     * Returns the position of {@code p} in the person list, or -1 if it is not in this address book.
+     * @see UniquePersonList#indexOf(Person)
+     */
+    public int indexOf(Person p) {
+        return persons.indexOf(p);
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords}, looked up in the trigram name index.
+     * @see UniquePersonList#matchNames(List)
+     */
+    public NameMatches matchNames(List<String> keywords) {
+        return persons.matchNames(keywords);
+    }
+
+    /**
+     * Returns the persons whose name approximately contains every word of {@code query}.
+     * @see UniquePersonList#matchNamesFuzzy(String)
+     */
+    public FuzzyNameMatches matchNamesFuzzy(String query) {
+        return persons.matchNamesFuzzy(query);
+    }
+
+    /**
+     * Returns the persons whose name has a word that sounds like each word of {@code query}.
+     * @see UniquePersonList#matchNamesPhonetic(String)
+     */
+    public PhoneticNameMatches matchNamesPhonetic(String query) {
+        return persons.matchNamesPhonetic(query);
+    }
+
+    /**
+     * Returns the persons matching {@code query}.
+     * @see UniquePersonList#matchQuery(PersonQuery)
+     */
+    public QueryMatches matchQuery(PersonQuery query) {
+        return persons.matchQuery(query);
+    }
+
+    /**
+     * Returns the persons tagged with any of {@code tags}, looked up in the inverted tag index.
+     * @see UniquePersonList#matchTags(Set)
+     */
+    public TagMatches matchTags(Set<Tag> tags) {
+        return persons.matchTags(tags);
+    }
+
+    /**
+     * Returns a largest set of new pairings between unpaired students and unpaired volunteers who share a tag.
+     * @see UniquePersonList#proposeMatching()
+     */
+    public List<ProposedPairing> proposeMatching() {
+        return persons.proposeMatching();
+    }
+
+    /**
+     * Returns an engine that assigns unpaired students to volunteers taking up to {@code capacity} students each.
+     * @see UniquePersonList#prepareAssignment(int)
+     */
+    public AssignmentEngine prepareAssignment(int capacity) {
+        return persons.prepareAssignment(capacity);
+    }
+
+    /**
+     * Returns the groups of persons linked to each other through chains of pairings, largest first.
+     * @see UniquePersonList#getClusters(int)
+     */
+    public List<Cluster> getClusters(int maxMembersEach) {
+        return persons.getClusters(maxMembersEach);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -127,6 +286,82 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} at once.
+     * Every one of {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
+    //// transactions
+
+    /**
+     * Opens a transaction on this address book. Transactions may be nested.
+     * @see UniquePersonList#beginTransaction()
+     */
+    public void beginTransaction() {
+        persons.beginTransaction();
+    }
+
+    /**
+     * Keeps the changes made in the innermost open transaction.
+     * @see UniquePersonList#commitTransaction()
+     */
+    public void commitTransaction() {
+        persons.commitTransaction();
+    }
+
+    /**
+     * Reverts the changes made in the innermost open transaction.
+     * @see UniquePersonList#rollbackTransaction()
+     */
+    public void rollbackTransaction() {
+        persons.rollbackTransaction();
+    }
+
+    //// undo history
+
+    /**
+     * Ends the current undo step.
+     * @see UniquePersonList#commitHistory()
+     */
+    public void commitHistory() {
+        persons.commitHistory();
+    }
+
+    public boolean canUndo() {
+        return persons.canUndo();
+    }
+
+    public boolean canRedo() {
+        return persons.canRedo();
+    }
+
+    /**
+     * Reverts the most recent committed step.
+     * @see UniquePersonList#undo()
+     */
+    public void undo() {
+        persons.undo();
+    }
+
+    /**
+     * Re-applies the most recently undone step.
+     * @see UniquePersonList#redo()
+     */
+    public void redo() {
+        persons.redo();
+    }
+
+    /**
+     * Returns an immutable copy of this address book, in O(1).
+     * @see UniquePersonList#snapshot()
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot());
+    }
+
     //// util methods
 
     @Override
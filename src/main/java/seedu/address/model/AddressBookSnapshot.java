@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
+
+/**
+ * An immutable copy of an {@link AddressBook} as it was when {@link AddressBook#snapshot()} was called.
+ * <p>
+ * Taking a snapshot costs O(1) however large the address book is, and the snapshot is unaffected by later
+ * edits, so readers such as saving can work on a consistent copy while the address book carries on changing.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    public static final String MESSAGE_READ_ONLY = "An address book snapshot cannot be changed";
+
+    private final PersonListSnapshot persons;
+    private volatile ObservableList<Person> personList;
+
+    AddressBookSnapshot(PersonListSnapshot persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        ObservableList<Person> result = personList;
+        if (result == null) {
+            result = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+            personList = result;
+        }
+        return result;
+    }
+
+    /**
+     * Unsupported, as a snapshot cannot be changed.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void pair(Person a, Person b) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    /**
+     * Unsupported, as a snapshot cannot be changed.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void unpair(Person a, Person b) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public boolean isPaired(Person a, Person b) {
+        return persons.isPaired(a, b);
+    }
+
+    @Override
+    public Set<Person> getPairedPersons(Person p) {
+        return persons.getPairedPersons(p);
+    }
+
+    @Override
+    public void forEachPairing(BiConsumer<Person, Person> action) {
+        persons.forEachPairing(action);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons.asList())
+                .toString();
+    }
+}
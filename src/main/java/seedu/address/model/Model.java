@@ -1,13 +1,26 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.AssignmentEngine;
+import seedu.address.model.person.Cluster;
+import seedu.address.model.person.FuzzyNameMatches;
+import seedu.address.model.person.NameMatches;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PhoneticNameMatches;
+import seedu.address.model.person.ProposedPairing;
+import seedu.address.model.person.QueryMatches;
+import seedu.address.model.person.TagMatches;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -16,6 +29,9 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /** Largest number of persons read to fill one page, see {@link #getProcessedPersonPage(int, int, Predicate)} */
+    int PAGE_READ_LIMIT = 1000;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -54,6 +70,40 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the address book as it is now, taken in O(1).
+     * Later changes to the address book do not affect the copy.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Ends the current undo step, so that the changes made to the address book since the previous step are
+     * undone together.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the most recent committed change to the address book.
+     * There must be a change to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Re-applies the most recently undone change to the address book.
+     * There must be a change to redo.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -65,6 +115,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all of the given persons, along with their pairings, as one change to the person list.
+     * The persons must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -81,14 +137,132 @@ public interface Model {
     /** Returns an unmodifiable view of the person list after filtering and (if applicable) sorting */
     ObservableList<Person> getProcessedPersonList();
 
+    /**
+     * Returns the first {@code limit} persons accepted by {@code filter} among the persons of the processed person
+     * list at or after the cursor {@code fromCursor}, each with its position in the list. A cursor marks a place
+     * in the order of the list: 0 is its start, {@link PersonPage#getTo()} is the place just after a page,
+     * {@link #getProcessedCursorOf(Person)} is the place of a shown person, and any cursor past the end stands
+     * for the end.
+     * <p>
+     * While the list is in address book order, cursors are person ordinals, and the page is filled by walking the
+     * ordinals from the cursor on rather than by reading the processed list. When the list is filtered by matches
+     * resolved through an index ({@link NameMatches}, {@link TagMatches} or {@link QueryMatches}), the walk goes
+     * through the ids of the matches, so a page costs time proportional to the matches it reads; any other filter
+     * is tested on the persons from the cursor on. While the list is sorted, cursors are positions of the sorted
+     * list, which is read from the cursor on. Either way, reading stops as soon as the page is full, or once
+     * {@link #PAGE_READ_LIMIT} persons have been read, so that a page of a sparse {@code filter} costs bounded time.
+     * Such a page may come back short, or even empty, although there are more persons after it.
+     * <p>
+     * The processed list itself is still kept up to date eagerly for the commands that address persons by index,
+     * and only serves here to give each person of the page its position.
+     *
+     * @throws IllegalArgumentException if {@code fromCursor} is negative or {@code limit} is not positive.
+     */
+    PersonPage getProcessedPersonPage(int fromCursor, int limit, Predicate<? super Person> filter);
+
+    /**
+     * Returns the last {@code limit} persons accepted by {@code filter} among the persons of the processed person
+     * list before the cursor {@code toCursor}, in list order. The list is walked backwards from the cursor, in the
+     * same way as {@link #getProcessedPersonPage(int, int, Predicate)} walks it forwards, and reading stops as
+     * soon as the page is full or {@link #PAGE_READ_LIMIT} persons have been read.
+     *
+     * @throws IllegalArgumentException if {@code toCursor} is negative or {@code limit} is not positive.
+     */
+    PersonPage getProcessedPersonPageBefore(int toCursor, int limit, Predicate<? super Person> filter);
+
+    /**
+     * Returns the cursor of the processed person list at which {@code person} is shown, or -1 if it is not shown.
+     * A page read from this cursor starts with {@code person} if its filter accepts {@code person}.
+     */
+    int getProcessedCursorOf(Person person);
+
+    /**
+     * Returns the zero-based position of {@code person} in the processed person list, or -1 if it is not shown.
+     */
+    int getProcessedIndexOf(Person person);
+
     void pair(Person a, Person b);
 
     void unpair(Person a, Person b);
 
+    /**
+     * Pairs each person in {@code persons} to the person at the same position in {@code partners}, skipping
+     * pairs that are already paired, as one change to the person list.
+     * All the persons must be in the address book, and no person may be its own partner.
+     */
+    void pairEach(List<Person> persons, List<Person> partners);
+
+    /**
+     * Unpairs each person in {@code persons} from the person at the same position in {@code partners}, skipping
+     * pairs that are not paired, as one change to the person list.
+     * All the persons must be in the address book.
+     */
+    void unpairEach(List<Person> persons, List<Person> partners);
+
     boolean isPaired(Person a, Person b);
 
     Set<Person> getPairedPersons(Person p);
 
+    /**
+     * Returns the persons in the address book whose name contains any of {@code keywords}, ignoring case.
+     * The result can be used as the predicate of {@link #filterPersonList(Predicate)}.
+     */
+    NameMatches matchNames(List<String> keywords);
+
+    /**
+     * Returns the persons in the address book whose name approximately contains every word of {@code query},
+     * with their edit distance to it.
+     */
+    FuzzyNameMatches matchNamesFuzzy(String query);
+
+    /**
+     * Returns the persons in the address book whose name has a word that sounds like each word of {@code query}.
+     */
+    PhoneticNameMatches matchNamesPhonetic(String query);
+
+    /**
+     * Returns the persons in the address book matching {@code query}, found through the address book's indexes
+     * where possible. The result can be used as the predicate of {@link #filterPersonList(Predicate)}.
+     */
+    QueryMatches matchQuery(PersonQuery query);
+
+    /**
+     * Returns the persons in the address book tagged with any of {@code tags}, with their number of matching tags.
+     * The result can be used as the predicate of {@link #filterAndSortPersonList(Predicate, Comparator)}.
+     */
+    TagMatches matchTags(Set<Tag> tags);
+
+    /**
+     * Returns a largest set of new pairings between the unpaired students and the unpaired volunteers in the
+     * address book, in which only a student and a volunteer sharing a tag are paired and nobody gets more than
+     * one partner. The address book is not changed.
+     */
+    List<ProposedPairing> proposeMatching();
+
+    /**
+     * Returns an engine that pairs the unpaired students in the address book to volunteers sharing tags with them,
+     * with as many pairings as possible and, among those, the most tags in common, each volunteer taking up to
+     * {@code capacity} students. The engine reads a snapshot of the address book as it is now, so it can run on
+     * another thread; its pairings are only proposed, and must be made through {@link #pair(Person, Person)}.
+     */
+    AssignmentEngine prepareAssignment(int capacity);
+
+    /**
+     * Returns the clusters of the address book: the groups of persons linked to each other through chains of
+     * pairings, each with its size and its first {@code maxMembersEach} persons. Persons without partners are left
+     * out. Larger clusters come first, and clusters of the same size, like the persons in each cluster, are in the
+     * order of the address book.
+     */
+    List<Cluster> getClusters(int maxMembersEach);
+
+    /**
+     * Applies all the changes made by {@code changes} to this model as a single transaction.
+     * The displayed person list is updated once, after {@code changes} completes.
+     * If {@code changes} throws, every change it made is rolled back and the exception is rethrown.
+     * Batches may be nested; only the outermost batch publishes its changes.
+     */
+    void applyBatch(Consumer<Model> changes);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
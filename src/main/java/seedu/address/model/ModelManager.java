@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,7 +20,17 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.AssignmentEngine;
+import seedu.address.model.person.Cluster;
+import seedu.address.model.person.FuzzyNameMatches;
+import seedu.address.model.person.NameMatches;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PhoneticNameMatches;
+import seedu.address.model.person.ProposedPairing;
+import seedu.address.model.person.QueryMatches;
+import seedu.address.model.person.TagMatches;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,13 +38,23 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    private static final String MESSAGE_INVALID_PAGE_CURSOR = "Page cursor must not be negative";
+    private static final String MESSAGE_INVALID_PAGE_LIMIT = "Page limit must be positive";
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    /**
+     * Sorted view over {@code filteredPersons}. Its comparator is null, so persons pass through in address book
+     * order without sorting, unless a command requests a custom order.
+     */
     private final SortedList<Person> sortedPersons;
 
-    /** Sorts persons per their order in the address book */
-    private final Comparator<Person> defaultComparator;
+    /** Number of batches currently being applied, see {@link #applyBatch(Consumer)} */
+    private int batchDepth = 0;
+    /** Filter and sort requested during a batch, applied when the outermost batch completes */
+    private Predicate<Person> pendingPredicate;
+    private Comparator<Person> pendingComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,9 +66,8 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        defaultComparator = getDefaultComparator();
-        sortedPersons = new SortedList<>(filteredPersons, defaultComparator);
+        filteredPersons = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        sortedPersons = new SortedList<>(filteredPersons, null);
     }
 
     public ModelManager() {
@@ -96,6 +121,36 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commitHistory();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -107,6 +162,12 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
@@ -130,16 +191,104 @@ public class ModelManager implements Model {
         addressBook.unpair(a, b);
     }
 
+    @Override
+    public void pairEach(List<Person> persons, List<Person> partners) {
+        requireAllNonNull(persons, partners);
+        addressBook.pairEach(persons, partners);
+    }
+
+    @Override
+    public void unpairEach(List<Person> persons, List<Person> partners) {
+        requireAllNonNull(persons, partners);
+        addressBook.unpairEach(persons, partners);
+    }
+
     @Override
     public boolean isPaired(Person a, Person b) {
         return addressBook.isPaired(a, b);
     }
 
+    @Override
+    public NameMatches matchNames(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.matchNames(keywords);
+    }
+
+    @Override
+    public FuzzyNameMatches matchNamesFuzzy(String query) {
+        requireNonNull(query);
+        return addressBook.matchNamesFuzzy(query);
+    }
+
+    @Override
+    public PhoneticNameMatches matchNamesPhonetic(String query) {
+        requireNonNull(query);
+        return addressBook.matchNamesPhonetic(query);
+    }
+
+    @Override
+    public QueryMatches matchQuery(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.matchQuery(query);
+    }
+
+    @Override
+    public TagMatches matchTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.matchTags(tags);
+    }
+
+    @Override
+    public List<ProposedPairing> proposeMatching() {
+        return addressBook.proposeMatching();
+    }
+
+    @Override
+    public AssignmentEngine prepareAssignment(int capacity) {
+        return addressBook.prepareAssignment(capacity);
+    }
+
+    @Override
+    public List<Cluster> getClusters(int maxMembersEach) {
+        return addressBook.getClusters(maxMembersEach);
+    }
+
     @Override
     public Set<Person> getPairedPersons(Person p) {
         return addressBook.getPairedPersons(p);
     }
 
+    @Override
+    public void applyBatch(Consumer<Model> changes) {
+        requireNonNull(changes);
+        addressBook.beginTransaction();
+        batchDepth++;
+        try {
+            changes.accept(this);
+        } catch (RuntimeException | Error e) {
+            batchDepth--;
+            addressBook.rollbackTransaction();
+            if (batchDepth == 0) {
+                pendingPredicate = null;
+                pendingComparator = null;
+            }
+            throw e;
+        }
+        batchDepth--;
+        addressBook.commitTransaction();
+        if (batchDepth == 0 && pendingPredicate != null) {
+            Predicate<Person> predicate = pendingPredicate;
+            Comparator<Person> comparator = pendingComparator;
+            pendingPredicate = null;
+            pendingComparator = null;
+            if (comparator == null) {
+                filterPersonList(predicate);
+            } else {
+                filterAndSortPersonList(predicate, comparator);
+            }
+        }
+    }
+
     //=========== Person List Accessor =============================================================
 
     /**
@@ -151,35 +300,169 @@ public class ModelManager implements Model {
         return sortedPersons;
     }
 
+    @Override
+    public PersonPage getProcessedPersonPage(int fromCursor, int limit, Predicate<? super Person> filter) {
+        requireNonNull(filter);
+        checkArgument(fromCursor >= 0, MESSAGE_INVALID_PAGE_CURSOR);
+        checkArgument(limit > 0, MESSAGE_INVALID_PAGE_LIMIT);
+        if (isSorted()) {
+            return readSortedPage(Math.min(fromCursor, sortedPersons.size()), limit, filter);
+        }
+        // shown persons are walked by ordinal, through the ids of the matches if the filter has them
+        Predicate<? super Person> shown = filteredPersons.getPredicate();
+        int end = addressBook.getOrdinalBound();
+        int capacity = Math.min(limit, sortedPersons.size());
+        List<Person> persons = new ArrayList<>(capacity);
+        int[] indexes = new int[capacity];
+        int cursor = Math.min(fromCursor, end);
+        for (int read = 0; persons.size() < capacity && read < PAGE_READ_LIMIT; read++) {
+            int ordinal = addressBook.nextCandidateOrdinal(shown, cursor);
+            if (ordinal < 0) {
+                cursor = end;
+                break;
+            }
+            cursor = ordinal + 1;
+            Person person = addressBook.getPersonByOrdinal(ordinal);
+            int index = shown.test(person) && filter.test(person) ? getProcessedIndexOf(person) : -1;
+            if (index >= 0) {
+                indexes[persons.size()] = index;
+                persons.add(person);
+            }
+        }
+        return new PersonPage(persons, Arrays.copyOf(indexes, persons.size()), Math.min(fromCursor, end), cursor,
+                end);
+    }
+
+    @Override
+    public PersonPage getProcessedPersonPageBefore(int toCursor, int limit, Predicate<? super Person> filter) {
+        requireNonNull(filter);
+        checkArgument(toCursor >= 0, MESSAGE_INVALID_PAGE_CURSOR);
+        checkArgument(limit > 0, MESSAGE_INVALID_PAGE_LIMIT);
+        if (isSorted()) {
+            return readSortedPageBefore(Math.min(toCursor, sortedPersons.size()), limit, filter);
+        }
+        Predicate<? super Person> shown = filteredPersons.getPredicate();
+        int end = addressBook.getOrdinalBound();
+        // filled from the back, so that the page comes out in list order
+        int capacity = Math.min(limit, sortedPersons.size());
+        Person[] persons = new Person[capacity];
+        int[] indexes = new int[capacity];
+        int count = 0;
+        int cursor = Math.min(toCursor, end);
+        for (int read = 0; count < capacity && read < PAGE_READ_LIMIT; read++) {
+            int ordinal = addressBook.previousCandidateOrdinal(shown, cursor);
+            if (ordinal < 0) {
+                cursor = 0;
+                break;
+            }
+            cursor = ordinal;
+            Person person = addressBook.getPersonByOrdinal(ordinal);
+            int index = shown.test(person) && filter.test(person) ? getProcessedIndexOf(person) : -1;
+            if (index >= 0) {
+                count++;
+                persons[capacity - count] = person;
+                indexes[capacity - count] = index;
+            }
+        }
+        return new PersonPage(Arrays.asList(Arrays.copyOfRange(persons, capacity - count, capacity)),
+                Arrays.copyOfRange(indexes, capacity - count, capacity), cursor, Math.min(toCursor, end), end);
+    }
+
+    @Override
+    public int getProcessedCursorOf(Person person) {
+        int index = getProcessedIndexOf(person);
+        return index < 0 || isSorted() ? index : addressBook.getOrdinal(person);
+    }
+
+    private boolean isSorted() {
+        return sortedPersons.getComparator() != null;
+    }
+
+    /**
+     * Reads a page of the sorted processed list forwards from the position {@code fromIndex}.
+     */
+    private PersonPage readSortedPage(int fromIndex, int limit, Predicate<? super Person> filter) {
+        int capacity = Math.min(limit, sortedPersons.size() - fromIndex);
+        List<Person> persons = new ArrayList<>(capacity);
+        int[] indexes = new int[capacity];
+        int position = fromIndex;
+        int readEnd = (int) Math.min(sortedPersons.size(), (long) fromIndex + PAGE_READ_LIMIT);
+        while (position < readEnd && persons.size() < capacity) {
+            Person person = sortedPersons.get(position);
+            if (filter.test(person)) {
+                indexes[persons.size()] = position;
+                persons.add(person);
+            }
+            position++;
+        }
+        return new PersonPage(persons, Arrays.copyOf(indexes, persons.size()), fromIndex, position,
+                sortedPersons.size());
+    }
+
+    /**
+     * Reads a page of the sorted processed list backwards from the position {@code toIndex}.
+     */
+    private PersonPage readSortedPageBefore(int toIndex, int limit, Predicate<? super Person> filter) {
+        // filled from the back, so that the page comes out in list order
+        int capacity = Math.min(limit, toIndex);
+        Person[] persons = new Person[capacity];
+        int[] indexes = new int[capacity];
+        int count = 0;
+        int position = toIndex;
+        int readStart = Math.max(0, toIndex - PAGE_READ_LIMIT);
+        while (position > readStart && count < capacity) {
+            position--;
+            Person person = sortedPersons.get(position);
+            if (filter.test(person)) {
+                count++;
+                persons[capacity - count] = person;
+                indexes[capacity - count] = position;
+            }
+        }
+        return new PersonPage(Arrays.asList(Arrays.copyOfRange(persons, capacity - count, capacity)),
+                Arrays.copyOfRange(indexes, capacity - count, capacity), position, toIndex, sortedPersons.size());
+    }
+
+    @Override
+    public int getProcessedIndexOf(Person person) {
+        requireNonNull(person);
+        int sourceIndex = addressBook.indexOf(person);
+        if (sourceIndex < 0) {
+            return -1;
+        }
+        // both views map a source position to their own in logarithmic time or better
+        int filteredIndex = filteredPersons.getViewIndex(sourceIndex);
+        return filteredIndex < 0 ? -1 : sortedPersons.getViewIndex(filteredIndex);
+    }
+
     //=========== Person List Modifiers =============================================================
 
     @Override
     public void filterPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (batchDepth > 0) {
+            pendingPredicate = predicate;
+            pendingComparator = null;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
-        sortedPersons.setComparator(defaultComparator);
-        assert sortedPersons.stream().allMatch(predicate);
+        // the address book keeps persons in insertion order already, so the default order needs no sorting
+        sortedPersons.setComparator(null);
+        assert predicate == PREDICATE_SHOW_ALL_PERSONS || sortedPersons.stream().allMatch(predicate);
     }
 
     @Override
     public void filterAndSortPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        if (batchDepth > 0) {
+            pendingPredicate = predicate;
+            pendingComparator = comparator;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
         sortedPersons.setComparator(comparator);
     }
 
-    //=========== Person List Modifiers =============================================================
-
-    private Comparator<Person> getDefaultComparator() {
-        return Comparator.comparingInt(p -> {
-            logger.finer(p.getName() + ": " + addressBook.getPersonList().indexOf(p));
-            int index = addressBook.getPersonList().indexOf(p);
-            if (index == -1) { // person has just been added, should be at the back of the list
-                index = Integer.MAX_VALUE;
-            }
-            return index;
-        });
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A page of the processed person list: the persons accepted by a filter between two cursors {@code [from, to)}
+ * of the list, in list order, each with its zero-based position in the list.
+ * <p>
+ * A cursor marks a place in the order of the processed list, see {@link Model#getProcessedPersonPage}. A page
+ * holds every accepted person between its cursors, so the next page starts reading at {@link #getTo()} and
+ * the previous page stops reading at {@link #getFrom()}.
+ */
+public class PersonPage {
+
+    private final List<Person> persons;
+    private final int[] indexes;
+    private final int from;
+    private final int to;
+    private final int end;
+
+    /**
+     * Creates a page of {@code persons} found at the zero-based positions {@code indexes} of a processed person
+     * list, after reading the list between the cursors {@code [from, to)}. {@code end} is the cursor just after
+     * the end of the list.
+     */
+    PersonPage(List<Person> persons, int[] indexes, int from, int to, int end) {
+        requireNonNull(persons);
+        requireNonNull(indexes);
+        assert persons.size() == indexes.length;
+        assert 0 <= from && from <= to && to <= end;
+        this.persons = Collections.unmodifiableList(persons);
+        this.indexes = indexes;
+        this.from = from;
+        this.to = to;
+        this.end = end;
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons of this page, in processed list order.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the zero-based position in the processed person list of the {@code i}-th person of this page.
+     */
+    public int getIndex(int i) {
+        return indexes[i];
+    }
+
+    public int size() {
+        return persons.size();
+    }
+
+    public boolean isEmpty() {
+        return persons.isEmpty();
+    }
+
+    /**
+     * Returns the cursor of the processed person list at which this page starts.
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the cursor of the processed person list just after the end of this page.
+     */
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * Returns true if the processed person list may have persons before this page.
+     */
+    public boolean hasPrevious() {
+        return from > 0;
+    }
+
+    /**
+     * Returns true if the processed person list may have persons after this page.
+     */
+    public boolean hasNext() {
+        return to < end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonPage)) {
+            return false;
+        }
+
+        PersonPage otherPage = (PersonPage) other;
+        return persons.equals(otherPage.persons)
+                && Arrays.equals(indexes, otherPage.indexes)
+                && from == otherPage.from
+                && to == otherPage.to
+                && end == otherPage.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .add("end", end)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -1,6 +1,11 @@
 package seedu.address.model;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
@@ -23,4 +28,34 @@ public interface ReadOnlyAddressBook {
     boolean isPaired(Person a, Person b);
 
     Set<Person> getPairedPersons(Person p);
+
+    /**
+     * Performs {@code action} on every person paired to {@code p}.
+     * Implementations should do so without copying the pairings, unlike {@link #getPairedPersons(Person)}.
+     */
+    default void forEachPairedPerson(Person p, Consumer<? super Person> action) {
+        getPairedPersons(p).forEach(action);
+    }
+
+    /**
+     * Performs {@code action} once for every pairing, in O(V + E) overall.
+     * The first person passed to {@code action} is the one that comes earlier in {@link #getPersonList()}.
+     * {@code action} must not modify this address book.
+     */
+    default void forEachPairing(BiConsumer<Person, Person> action) {
+        List<Person> list = getPersonList();
+        Map<Person, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            positions.put(list.get(i), i);
+        }
+        for (int i = 0; i < list.size(); i++) {
+            Person person = list.get(i);
+            for (Person partner : getPairedPersons(person)) {
+                Integer partnerPosition = positions.get(partner);
+                if (partnerPosition != null && partnerPosition > i) {
+                    action.accept(person, partner);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * The pairings chosen by an {@link AssignmentEngine}, and whether the engine finished before its time ran out.
+ * An incomplete assignment is still the best among those with as many pairings, but a larger one may exist.
+ */
+public record Assignment(List<ProposedPairing> pairings, boolean isComplete) {
+
+    /**
+     * Creates an assignment of the given {@code pairings}, which are copied.
+     */
+    public Assignment {
+        requireNonNull(pairings);
+        pairings = List.copyOf(pairings);
+    }
+
+    /**
+     * Returns the number of tags the paired persons have in common, summed over all the pairings.
+     */
+    public int countCommonTags() {
+        return pairings.stream().mapToInt(ProposedPairing::countCommonTags).sum();
+    }
+}
@@ -0,0 +1,563 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Assigns unpaired students to volunteers who share tags with them, each volunteer taking up to a given number
+ * of students, so that as many students as possible are paired and, among all the ways of pairing that many,
+ * the pairs have the most tags in common in total. Tags in common are counted as {@code findtag} counts them.
+ * <p>
+ * Students with the same tags are interchangeable, and so are volunteers with the same tags, so the engine
+ * groups each side by tag set and finds a min-cost max-flow between the groups, in which a student sent to a
+ * volunteer costs less the more tags they share. The flow grows along cheapest paths, all those of the same cost
+ * at once, and each path carries as many students as its narrowest edge allows. After every path the flow is a
+ * cheapest one of its size, so if the time limit is reached, the engine stops and returns the pairings found so
+ * far, which are the best of their number.
+ * <p>
+ * The engine reads a {@link PersonListSnapshot}, so it can run on another thread while the list it was
+ * prepared from carries on changing.
+ */
+public final class AssignmentEngine {
+
+    /** Least time between two progress reports. */
+    private static final long PROGRESS_INTERVAL_NANOS = Duration.ofMillis(200).toNanos();
+
+    private final PersonListSnapshot persons;
+    private final int capacity;
+
+    AssignmentEngine(PersonListSnapshot persons, int capacity) {
+        requireNonNull(persons);
+        checkArgument(capacity > 0, "capacity must be positive");
+        this.persons = persons;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the largest number of students a volunteer may be paired to, counting those already paired to them.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Chooses the pairings, spending at most about {@code timeLimit} on it. Students who already have a partner
+     * are left out, and a volunteer only takes as many students as their capacity has room for. The pairings are
+     * ordered by student and only depend on the contents and order of the snapshot.
+     *
+     * @param listener told, from the calling thread, how many students have been paired so far.
+     */
+    public Assignment run(Duration timeLimit, ProgressListener listener) {
+        requireAllNonNull(timeLimit, listener);
+        return new Solver(timeLimit.toNanos(), listener).solve();
+    }
+
+    /**
+     * Receives the progress of an {@link AssignmentEngine}.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called with the number of students paired so far and the most that could be paired.
+         */
+        void onProgress(int pairedCount, int maxPairedCount);
+    }
+
+    /**
+     * The persons of one side that have the same tags, with the number of students each can still take.
+     */
+    private static class Group {
+        private final List<Person> members = new ArrayList<>();
+        private final List<Integer> ids = new ArrayList<>();
+        private final List<Integer> rooms = new ArrayList<>();
+        private int totalRoom = 0;
+
+        // the member that take() hands out next, and how much of its room has been used
+        private int next = 0;
+        private int usedOfNext = 0;
+
+        void add(int id, Person person, int room) {
+            members.add(person);
+            ids.add(id);
+            rooms.add(room);
+            totalRoom += room;
+        }
+
+        /**
+         * Returns the position of the next member with room left, and uses up one place of its room.
+         */
+        int take() {
+            int taken = next;
+            if (++usedOfNext == rooms.get(next)) {
+                next++;
+                usedOfNext = 0;
+            }
+            return taken;
+        }
+    }
+
+    /**
+     * One run of the engine.
+     */
+    private class Solver {
+        private final long startNanos = System.nanoTime();
+        private final long timeLimitNanos;
+        private final ProgressListener listener;
+        private long lastReportNanos = startNanos;
+
+        private final List<Group> studentGroups = new ArrayList<>();
+        private final List<TagSet> studentTagSets = new ArrayList<>();
+        private final List<Group> volunteerGroups = new ArrayList<>();
+        private final List<TagSet> volunteerTagSets = new ArrayList<>();
+        private final FlowNetwork network = new FlowNetwork();
+        /** The edges from student group g to volunteer groups are edgeStarts[g] to edgeStarts[g + 1], in pairs. */
+        private int[] edgeStarts;
+
+        private int pairedCount = 0;
+        private int maxPairedCount;
+
+        Solver(long timeLimitNanos, ProgressListener listener) {
+            this.timeLimitNanos = timeLimitNanos;
+            this.listener = listener;
+        }
+
+        Assignment solve() {
+            group();
+            if (!connect()) {
+                listener.onProgress(0, maxPairedCount);
+                return new Assignment(List.of(), false);
+            }
+            boolean isComplete = flow();
+            listener.onProgress(pairedCount, maxPairedCount);
+            return new Assignment(pairings(), isComplete);
+        }
+
+        private boolean isOutOfTime() {
+            return System.nanoTime() - startNanos >= timeLimitNanos;
+        }
+
+        /**
+         * Groups the students without a partner and the volunteers with room left by their tags.
+         */
+        private void group() {
+            Map<TagSet, Group> studentsByTags = new LinkedHashMap<>();
+            Map<TagSet, Group> volunteersByTags = new LinkedHashMap<>();
+            for (PersonListSnapshot.Entry entry : persons.entries()) {
+                Person person = entry.person();
+                TagSet tags = person.getTagSet();
+                int partnerCount = entry.partnerIds().length;
+                if (tags.isEmpty()) {
+                    continue;
+                }
+                if (person instanceof Student && partnerCount == 0) {
+                    studentsByTags.computeIfAbsent(tags, unused -> new Group()).add(entry.id(), person, 1);
+                } else if (person instanceof Volunteer && partnerCount < capacity) {
+                    volunteersByTags.computeIfAbsent(tags, unused -> new Group())
+                            .add(entry.id(), person, capacity - partnerCount);
+                }
+            }
+            studentTagSets.addAll(studentsByTags.keySet());
+            studentGroups.addAll(studentsByTags.values());
+            volunteerTagSets.addAll(volunteersByTags.keySet());
+            volunteerGroups.addAll(volunteersByTags.values());
+            int studentCount = studentGroups.stream().mapToInt(group -> group.totalRoom).sum();
+            int volunteerRoom = volunteerGroups.stream().mapToInt(group -> group.totalRoom).sum();
+            maxPairedCount = Math.min(studentCount, volunteerRoom);
+        }
+
+        /**
+         * Builds the flow network: the source feeds every student group with its size, every volunteer group
+         * drains to the sink as many students as it has room for, and each student group is joined to each
+         * volunteer group it shares tags with, by an edge whose cost falls as the number of shared tags rises.
+         *
+         * @return false if the time limit was reached first.
+         */
+        private boolean connect() {
+            int sink = sinkNode();
+            network.setNodeCount(sink + 1);
+            for (int g = 0; g < studentGroups.size(); g++) {
+                network.addEdge(FlowNetwork.SOURCE, studentNode(g), studentGroups.get(g).totalRoom, 0);
+            }
+
+            // volunteer groups by tag id, which is all the sharing that needs to be looked at
+            int tagBound = 0;
+            for (TagSet tags : volunteerTagSets) {
+                int[] largest = {0};
+                tags.forEachId(tagId -> largest[0] = tagId + 1);
+                tagBound = Math.max(tagBound, largest[0]);
+            }
+            List<List<Integer>> groupsByTag = new ArrayList<>();
+            for (int tagId = 0; tagId < tagBound; tagId++) {
+                groupsByTag.add(new ArrayList<>());
+            }
+            for (int g = 0; g < volunteerGroups.size(); g++) {
+                int group = g;
+                volunteerTagSets.get(g).forEachId(tagId -> groupsByTag.get(tagId).add(group));
+            }
+
+            // a pairing costs maxShared + 1 - shared, which is positive, so the potentials can start at zero
+            int maxShared = studentTagSets.stream().mapToInt(TagSet::size).max().orElse(0);
+            int[] sharedCounts = new int[volunteerGroups.size()];
+            int[] touched = new int[volunteerGroups.size()];
+            edgeStarts = new int[studentGroups.size() + 1];
+            for (int g = 0; g < studentGroups.size(); g++) {
+                if (isOutOfTime()) {
+                    return false;
+                }
+                edgeStarts[g] = network.edgeCount();
+                int[] touchedCount = {0};
+                studentTagSets.get(g).forEachId(tagId -> {
+                    if (tagId >= groupsByTag.size()) {
+                        return;
+                    }
+                    for (int volunteerGroup : groupsByTag.get(tagId)) {
+                        if (sharedCounts[volunteerGroup]++ == 0) {
+                            touched[touchedCount[0]++] = volunteerGroup;
+                        }
+                    }
+                });
+                Arrays.sort(touched, 0, touchedCount[0]);
+                for (int i = 0; i < touchedCount[0]; i++) {
+                    int volunteerGroup = touched[i];
+                    int edgeCapacity = Math.min(studentGroups.get(g).totalRoom,
+                            volunteerGroups.get(volunteerGroup).totalRoom);
+                    network.addEdge(studentNode(g), volunteerNode(volunteerGroup), edgeCapacity,
+                            maxShared + 1 - sharedCounts[volunteerGroup]);
+                    sharedCounts[volunteerGroup] = 0;
+                }
+            }
+            edgeStarts[studentGroups.size()] = network.edgeCount();
+
+            for (int g = 0; g < volunteerGroups.size(); g++) {
+                network.addEdge(volunteerNode(g), sink, volunteerGroups.get(g).totalRoom, 0);
+            }
+            return true;
+        }
+
+        /**
+         * Sends students along cheapest paths until no more can be sent.
+         *
+         * @return false if the time limit was reached first.
+         */
+        private boolean flow() {
+            int sink = sinkNode();
+            if (isOutOfTime()) {
+                return false;
+            }
+            while (network.price(sink)) {
+                while (network.levelCheapestEdges(sink)) {
+                    for (int sent = network.sendAlongCheapestEdges(sink); sent > 0;
+                            sent = network.sendAlongCheapestEdges(sink)) {
+                        pairedCount += sent;
+                        reportProgress();
+                        if (isOutOfTime()) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void reportProgress() {
+            long now = System.nanoTime();
+            if (now - lastReportNanos >= PROGRESS_INTERVAL_NANOS) {
+                listener.onProgress(pairedCount, maxPairedCount);
+                lastReportNanos = now;
+            }
+        }
+
+        /**
+         * Turns the flow between groups into pairings between their members, taking the members of each group
+         * in list order.
+         */
+        private List<ProposedPairing> pairings() {
+            Map<Integer, ProposedPairing> pairingsByStudentId = new TreeMap<>();
+            for (int g = 0; g < studentGroups.size(); g++) {
+                Group students = studentGroups.get(g);
+                for (int edge = edgeStarts[g]; edge < edgeStarts[g + 1]; edge += 2) {
+                    Group volunteers = volunteerGroups.get(network.target(edge) - volunteerNode(0));
+                    for (int sent = network.flowAlong(edge); sent > 0; sent--) {
+                        int student = students.take();
+                        Person volunteer = volunteers.members.get(volunteers.take());
+                        pairingsByStudentId.put(students.ids.get(student),
+                                new ProposedPairing(students.members.get(student), volunteer));
+                    }
+                }
+            }
+            return new ArrayList<>(pairingsByStudentId.values());
+        }
+
+        private int studentNode(int group) {
+            return 1 + group;
+        }
+
+        private int volunteerNode(int group) {
+            return 1 + studentGroups.size() + group;
+        }
+
+        private int sinkNode() {
+            return 1 + studentGroups.size() + volunteerGroups.size();
+        }
+    }
+
+    /**
+     * A flow network with integer capacities and non-negative costs, whose flow grows from its source to a sink
+     * along cheapest paths, in rounds. Each round prices every node by its cheapest distance from the source,
+     * found with Dijkstra's algorithm over costs reduced by the prices of the round before, and then sends a
+     * blocking flow, as in Dinic's algorithm, over the edges whose reduced cost is zero, which are the edges on
+     * cheapest paths. Flow sent back along such an edge costs nothing either, so after every path sent, every
+     * edge with capacity left still has a reduced cost of at least zero, and the flow is a cheapest one of its size.
+     * <p>
+     * Every edge is stored next to its reverse, so edge {@code e ^ 1} is the reverse of edge {@code e}.
+     */
+    private static class FlowNetwork {
+        static final int SOURCE = 0;
+        private static final long UNREACHED = Long.MAX_VALUE;
+        private static final int UNLEVELLED = -1;
+
+        private int[] heads = new int[0];
+        private int[] targets = new int[16];
+        private int[] nextEdges = new int[16];
+        private int[] capacities = new int[16];
+        private int[] costs = new int[16];
+        private int edgeCount = 0;
+
+        private long[] prices;
+        private long[] distances;
+        private final MinHeap heap = new MinHeap();
+
+        // state of the blocking flow of the current round
+        private int[] levels;
+        private int[] currentEdges;
+        private int[] queue;
+        private int[] pathEdges;
+
+        void setNodeCount(int nodeCount) {
+            heads = new int[nodeCount];
+            Arrays.fill(heads, -1);
+            prices = new long[nodeCount];
+            distances = new long[nodeCount];
+            levels = new int[nodeCount];
+            currentEdges = new int[nodeCount];
+            queue = new int[nodeCount];
+            pathEdges = new int[nodeCount];
+        }
+
+        int edgeCount() {
+            return edgeCount;
+        }
+
+        /**
+         * Adds an edge and its reverse, which starts with no capacity. Costs must not be negative.
+         */
+        void addEdge(int from, int to, int capacity, int cost) {
+            if (edgeCount + 2 > targets.length) {
+                int newLength = targets.length * 2;
+                targets = Arrays.copyOf(targets, newLength);
+                nextEdges = Arrays.copyOf(nextEdges, newLength);
+                capacities = Arrays.copyOf(capacities, newLength);
+                costs = Arrays.copyOf(costs, newLength);
+            }
+            link(from, to, capacity, cost);
+            link(to, from, 0, -cost);
+        }
+
+        private void link(int from, int to, int capacity, int cost) {
+            targets[edgeCount] = to;
+            capacities[edgeCount] = capacity;
+            costs[edgeCount] = cost;
+            nextEdges[edgeCount] = heads[from];
+            heads[from] = edgeCount;
+            edgeCount++;
+        }
+
+        int target(int edge) {
+            return targets[edge];
+        }
+
+        /**
+         * Returns the flow along {@code edge}, which must have been added by {@link #addEdge}.
+         */
+        int flowAlong(int edge) {
+            return capacities[edge ^ 1];
+        }
+
+        private long reducedCost(int edge, int from) {
+            return costs[edge] + prices[from] - prices[targets[edge]];
+        }
+
+        /**
+         * Starts a round by adding to the price of every node its cheapest distance from the source.
+         *
+         * @return false if {@code sink} cannot be reached, so that the flow is a largest one.
+         */
+        boolean price(int sink) {
+            Arrays.fill(distances, UNREACHED);
+            distances[SOURCE] = 0;
+            heap.push(0, SOURCE);
+            while (!heap.isEmpty()) {
+                long distance = heap.peekKey();
+                int node = heap.pop();
+                if (distance > distances[node]) {
+                    continue;
+                }
+                for (int edge = heads[node]; edge >= 0; edge = nextEdges[edge]) {
+                    int target = targets[edge];
+                    // not negative, as the prices are cheapest distances, plus those of earlier rounds
+                    long reducedCost = reducedCost(edge, node);
+                    if (capacities[edge] > 0 && distance + reducedCost < distances[target]) {
+                        distances[target] = distance + reducedCost;
+                        heap.push(distances[target], target);
+                    }
+                }
+            }
+            if (distances[sink] == UNREACHED) {
+                return false;
+            }
+            // a node that cannot be reached now never can be again, so its price no longer matters
+            for (int node = 0; node < distances.length; node++) {
+                if (distances[node] != UNREACHED) {
+                    prices[node] += distances[node];
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Levels the nodes by their number of edges from the source over edges with capacity left and a reduced
+         * cost of zero, for {@link #sendAlongCheapestEdges(int)}.
+         *
+         * @return false if {@code sink} cannot be reached over such edges, so that the round is over.
+         */
+        boolean levelCheapestEdges(int sink) {
+            Arrays.fill(levels, UNLEVELLED);
+            levels[SOURCE] = 0;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = SOURCE;
+            while (head < tail) {
+                int node = queue[head++];
+                for (int edge = heads[node]; edge >= 0; edge = nextEdges[edge]) {
+                    int target = targets[edge];
+                    if (levels[target] == UNLEVELLED && capacities[edge] > 0 && reducedCost(edge, node) == 0) {
+                        levels[target] = levels[node] + 1;
+                        queue[tail++] = target;
+                    }
+                }
+            }
+            System.arraycopy(heads, 0, currentEdges, 0, heads.length);
+            return levels[sink] != UNLEVELLED;
+        }
+
+        /**
+         * Finds a path to {@code sink} that goes one level deeper at every edge, over edges with capacity left and
+         * a reduced cost of zero, and sends as much flow along it as it can take. Edges that lead nowhere are
+         * skipped for the rest of the levelling, so all the paths of a levelling take time proportional to the
+         * number of edges plus the total length of the paths.
+         *
+         * @return the flow sent, or 0 if there is no such path.
+         */
+        int sendAlongCheapestEdges(int sink) {
+            int depth = 0;
+            int node = SOURCE;
+            while (node != sink) {
+                int edge = currentEdges[node];
+                while (edge >= 0 && !(capacities[edge] > 0 && levels[targets[edge]] == levels[node] + 1
+                        && reducedCost(edge, node) == 0)) {
+                    edge = nextEdges[edge];
+                }
+                currentEdges[node] = edge;
+                if (edge >= 0) {
+                    pathEdges[depth++] = edge;
+                    node = targets[edge];
+                } else if (node == SOURCE) {
+                    return 0;
+                } else {
+                    // a dead end: leave it out of this levelling, and move past the edge into it
+                    levels[node] = UNLEVELLED;
+                    node = targets[pathEdges[--depth] ^ 1];
+                    currentEdges[node] = nextEdges[currentEdges[node]];
+                }
+            }
+
+            int sent = Integer.MAX_VALUE;
+            for (int i = 0; i < depth; i++) {
+                sent = Math.min(sent, capacities[pathEdges[i]]);
+            }
+            for (int i = 0; i < depth; i++) {
+                capacities[pathEdges[i]] -= sent;
+                capacities[pathEdges[i] ^ 1] += sent;
+            }
+            return sent;
+        }
+    }
+
+    /**
+     * A binary min-heap of nodes keyed by distance, which may hold a node more than once.
+     */
+    private static class MinHeap {
+        private long[] keys = new long[16];
+        private int[] nodes = new int[16];
+        private int size = 0;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(long key, int node) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            while (i > 0 && keys[(i - 1) / 2] > key) {
+                keys[i] = keys[(i - 1) / 2];
+                nodes[i] = nodes[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+        }
+
+        long peekKey() {
+            return keys[0];
+        }
+
+        /**
+         * Removes the node with the smallest key and returns it.
+         */
+        int pop() {
+            int top = nodes[0];
+            long key = keys[--size];
+            int node = nodes[size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= key) {
+                    break;
+                }
+                keys[i] = keys[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * A group of persons linked to each other through chains of pairings, of {@code size} persons, of which
+ * {@code members} are the first ones in list order, up to the number asked for.
+ */
+public record Cluster(int size, List<Person> members) {
+
+    /**
+     * {@code members} must be present and not null, and hold at most {@code size} persons.
+     */
+    public Cluster {
+        requireNonNull(members);
+        assert members.size() <= size;
+        members = List.copyOf(members);
+    }
+}
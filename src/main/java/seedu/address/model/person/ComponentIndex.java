@@ -0,0 +1,140 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Connected components of the pairings in a {@link UniquePersonList}, kept in a union-find structure over person
+ * ids, so that the persons linked to each other through chains of pairings are found in near-linear time.
+ * <p>
+ * Pairing two persons merges their components in near O(1). Union-find cannot split a component, so when a
+ * pairing or a person goes away, the index only follows along if the change cuts off a single person, which then
+ * moves to a node of its own. Any other such change marks the index stale, and the components are rebuilt from
+ * the pairings, in O(V + E), the next time they are read, so a burst of changes costs one rebuild at most.
+ */
+class ComponentIndex {
+
+    /** nodeOf[id] is the union-find node of the person with that id. */
+    private int[] nodeOf = new int[0];
+    private int[] parents = new int[0];
+    /** Number of persons in the component of each root node. */
+    private int[] sizes = new int[0];
+    private int nodeCount = 0;
+    private boolean isStale = false;
+
+    /**
+     * Records that the person {@code id}, who has no partners, was added to the list.
+     */
+    void add(int id) {
+        if (id >= nodeOf.length) {
+            nodeOf = Arrays.copyOf(nodeOf, Math.max(id + 1, nodeOf.length * 2));
+        }
+        nodeOf[id] = newNode();
+    }
+
+    /**
+     * Records that the persons {@code a} and {@code b} were paired.
+     */
+    void union(int a, int b) {
+        if (isStale) {
+            return;
+        }
+        int rootOfA = root(nodeOf[a]);
+        int rootOfB = root(nodeOf[b]);
+        if (rootOfA == rootOfB) {
+            return;
+        }
+        if (sizes[rootOfA] < sizes[rootOfB]) {
+            int swap = rootOfA;
+            rootOfA = rootOfB;
+            rootOfB = swap;
+        }
+        parents[rootOfB] = rootOfA;
+        sizes[rootOfA] += sizes[rootOfB];
+    }
+
+    /**
+     * Records that the person {@code id} has lost its only partner, or has been removed from the list along with
+     * its only pairing, so that it is no longer in the component of that partner.
+     */
+    void detach(int id) {
+        if (isStale) {
+            return;
+        }
+        sizes[root(nodeOf[id])]--;
+        nodeOf[id] = newNode();
+        // the node left behind is never used again, so rebuild once most nodes are such
+        if (nodeCount > 2 * nodeOf.length + 64) {
+            markStale();
+        }
+    }
+
+    /**
+     * Records a change to the pairings that this index cannot follow, such as a split of a component.
+     */
+    void markStale() {
+        isStale = true;
+    }
+
+    boolean isStale() {
+        return isStale;
+    }
+
+    /**
+     * Rebuilds the components from {@code links}, the pairings between the persons {@code liveIds}.
+     */
+    void rebuild(PairingGraph links, BitSet liveIds) {
+        if (liveIds.length() > nodeOf.length) {
+            nodeOf = Arrays.copyOf(nodeOf, liveIds.length());
+        }
+        nodeCount = 0;
+        for (int id = liveIds.nextSetBit(0); id >= 0; id = liveIds.nextSetBit(id + 1)) {
+            nodeOf[id] = newNode();
+        }
+        isStale = false;
+        for (int id = liveIds.nextSetBit(0); id >= 0; id = liveIds.nextSetBit(id + 1)) {
+            int a = id;
+            links.forEachNeighbour(id, partnerId -> {
+                if (partnerId > a) {
+                    union(a, partnerId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns a number that is the same for two persons if and only if they are in the same component.
+     * The numbers are only valid until the pairings next change. The index must not be stale.
+     */
+    int find(int id) {
+        assert !isStale : "components must be rebuilt first";
+        return root(nodeOf[id]);
+    }
+
+    /**
+     * Returns the number of persons in the component of {@code id}. The index must not be stale.
+     */
+    int componentSize(int id) {
+        return sizes[find(id)];
+    }
+
+    private int root(int node) {
+        while (parents[node] != node) {
+            // path halving: point every other node on the way at its grandparent
+            parents[node] = parents[parents[node]];
+            node = parents[node];
+        }
+        return node;
+    }
+
+    private int newNode() {
+        if (nodeCount == parents.length) {
+            int newLength = Math.max(16, parents.length * 2);
+            parents = Arrays.copyOf(parents, newLength);
+            sizes = Arrays.copyOf(sizes, newLength);
+        }
+        parents[nodeCount] = nodeCount;
+        sizes[nodeCount] = 1;
+        return nodeCount++;
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import seedu.address.model.person.PersonQuery.Comparison;
+
+/**
+ * Index from numbers of partners to the ids of the persons in a {@link UniquePersonList} with that many partners.
+ * <p>
+ * The number of partners of each person is kept by the list's {@link PairingGraph}; this index keeps, for every
+ * number, a bitmap of the persons that have it and a count of them. A pairing change moves two persons between
+ * adjacent buckets in O(1), and the persons with a given number of partners, such as the unpaired ones, are
+ * found without looking at anyone else.
+ */
+class DegreeIndex {
+
+    /** buckets[d] holds the ids of the persons with d partners. */
+    private BitSet[] buckets = new BitSet[] {new BitSet()};
+    private int[] counts = new int[1];
+    /** Largest number of partners any person has had since the last clear; the buckets above it are empty. */
+    private int maxDegree = 0;
+
+    /**
+     * Records that the person {@code id} has {@code degree} partners.
+     */
+    void add(int id, int degree) {
+        ensureBucket(degree);
+        buckets[degree].set(id);
+        counts[degree]++;
+        maxDegree = Math.max(maxDegree, degree);
+    }
+
+    /**
+     * Records that the person {@code id}, who had {@code degree} partners, is no longer in the list.
+     */
+    void remove(int id, int degree) {
+        assert buckets[degree].get(id) : "person is not in the bucket of its degree";
+        buckets[degree].clear(id);
+        counts[degree]--;
+    }
+
+    /**
+     * Records that the number of partners of the person {@code id} changed from {@code from} to {@code to}.
+     */
+    void move(int id, int from, int to) {
+        remove(id, from);
+        add(id, to);
+    }
+
+    /**
+     * Returns the ids of the persons whose number of partners compares to {@code bound} as {@code comparison}
+     * specifies. Only the buckets of the numbers that match are visited.
+     */
+    BitSet matching(Comparison comparison, int bound) {
+        BitSet result = new BitSet();
+        for (int degree = 0; degree <= maxDegree; degree++) {
+            if (comparison.holds(degree, bound) && counts[degree] > 0) {
+                result.or(buckets[degree]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of persons whose number of partners compares to {@code bound} as {@code comparison}
+     * specifies.
+     */
+    int count(Comparison comparison, int bound) {
+        int count = 0;
+        for (int degree = 0; degree <= maxDegree; degree++) {
+            if (comparison.holds(degree, bound)) {
+                count += counts[degree];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(DegreeIndex other) {
+        buckets = new BitSet[other.buckets.length];
+        for (int degree = 0; degree < buckets.length; degree++) {
+            buckets[degree] = (BitSet) other.buckets[degree].clone();
+        }
+        counts = other.counts.clone();
+        maxDegree = other.maxDegree;
+    }
+
+    void clear() {
+        buckets = new BitSet[] {new BitSet()};
+        counts = new int[1];
+        maxDegree = 0;
+    }
+
+    private void ensureBucket(int degree) {
+        if (degree < buckets.length) {
+            return;
+        }
+        int oldLength = buckets.length;
+        int newLength = Math.max(degree + 1, oldLength * 2);
+        buckets = Arrays.copyOf(buckets, newLength);
+        for (int i = oldLength; i < newLength; i++) {
+            buckets[i] = new BitSet();
+        }
+        counts = Arrays.copyOf(counts, newLength);
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Undo and redo history of a {@link UniquePersonList}, kept as the edits each step made rather than as copies
+ * of the list, so undoing a step costs time proportional to the edits it made.
+ * <p>
+ * Edits are collected into a pending step until {@link #commit()}. The total {@link PersonListEdit#cost() cost}
+ * of the kept steps is held under a capacity by evicting the oldest steps. A step that alone exceeds the
+ * capacity cannot be kept, and then neither can any step before it, as those could not be undone past it.
+ */
+class EditHistory {
+
+    private final long capacity;
+
+    /** Steps that can be undone, most recent last. */
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    /** Steps that can be redone, most recently undone last. */
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private long keptCost = 0;
+
+    private final List<PersonListEdit> pending = new ArrayList<>();
+    private long pendingCost = 0;
+    /** True if the pending step grew past the capacity and its edits were dropped. */
+    private boolean isPendingDropped = false;
+
+    EditHistory(long capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("history capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds {@code edit} to the pending step.
+     */
+    void record(PersonListEdit edit) {
+        if (isPendingDropped) {
+            return;
+        }
+        pending.add(edit);
+        pendingCost += edit.cost();
+        if (pendingCost > capacity) {
+            pending.clear();
+            pendingCost = 0;
+            isPendingDropped = true;
+        }
+    }
+
+    /**
+     * Forgets the last {@code count} edits of the pending step, which have been reverted.
+     */
+    void discardLast(int count) {
+        if (isPendingDropped) {
+            return;
+        }
+        List<PersonListEdit> discarded = pending.subList(pending.size() - count, pending.size());
+        for (PersonListEdit edit : discarded) {
+            pendingCost -= edit.cost();
+        }
+        discarded.clear();
+    }
+
+    /**
+     * Ends the pending step, making it the step to undo next. Does nothing if the pending step made no edits.
+     */
+    void commit() {
+        if (pending.isEmpty() && !isPendingDropped) {
+            return;
+        }
+        clearRedo();
+        if (isPendingDropped) {
+            clearUndo();
+            isPendingDropped = false;
+            return;
+        }
+        undoSteps.addLast(new Step(List.copyOf(pending), pendingCost));
+        keptCost += pendingCost;
+        pending.clear();
+        pendingCost = 0;
+        while (keptCost > capacity) {
+            keptCost -= undoSteps.removeFirst().cost();
+        }
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent step on {@code list}. The pending step must be empty.
+     */
+    void undo(UniquePersonList list) {
+        assert pending.isEmpty() && !isPendingDropped : "pending edits must be committed first";
+        Step step = undoSteps.removeLast();
+        List<PersonListEdit> edits = step.edits();
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).undo(list);
+        }
+        redoSteps.addLast(step);
+    }
+
+    /**
+     * Re-applies the most recently undone step on {@code list}. The pending step must be empty.
+     */
+    void redo(UniquePersonList list) {
+        assert pending.isEmpty() && !isPendingDropped : "pending edits must be committed first";
+        Step step = redoSteps.removeLast();
+        for (PersonListEdit edit : step.edits()) {
+            edit.redo(list);
+        }
+        undoSteps.addLast(step);
+    }
+
+    /**
+     * Forgets every step, including the pending one.
+     */
+    void clear() {
+        clearUndo();
+        clearRedo();
+        pending.clear();
+        pendingCost = 0;
+        isPendingDropped = false;
+    }
+
+    private void clearUndo() {
+        for (Step step : undoSteps) {
+            keptCost -= step.cost();
+        }
+        undoSteps.clear();
+    }
+
+    private void clearRedo() {
+        for (Step step : redoSteps) {
+            keptCost -= step.cost();
+        }
+        redoSteps.clear();
+    }
+
+    /**
+     * The edits of one undoable step, in the order they were made, and their total cost.
+     */
+    private record Step(List<PersonListEdit> edits, long cost) {}
+}
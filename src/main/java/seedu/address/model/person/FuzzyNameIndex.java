@@ -0,0 +1,360 @@
+package seedu.address.model.person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * BK-tree over the words of the canonical names ({@link Name#getIdentityKey()}) of the persons in a
+ * {@link UniquePersonList}, for finding the words within a small edit distance of a misspelt query word.
+ * <p>
+ * Every node holds a distinct word and the ids of the persons whose name contains it. The children of a node
+ * are keyed by their Damerau-Levenshtein distance to it, so by the triangle inequality a search for words within
+ * distance {@code k} of a query at distance {@code d} from a node only needs to descend into children keyed
+ * {@code d - k} to {@code d + k}, and leaves the rest of the tree unvisited.
+ * <p>
+ * Words whose last person is removed stay in the tree as empty nodes until they outnumber the live words,
+ * at which point the tree is rebuilt from the live words.
+ */
+class FuzzyNameIndex {
+
+    private Node root;
+    private final EditDistance editDistance = new EditDistance();
+    private int liveWords = 0;
+    private int emptyWords = 0;
+    /** Incremented on every change, so that query results can tell when they are out of date. */
+    private int version = 0;
+
+    /**
+     * Receives the words found by {@link #search(String, int, Visitor)}.
+     */
+    interface Visitor {
+        void visit(String word, int distance, int[] ids, int idCount);
+    }
+
+    /**
+     * Indexes the words of {@code name} under the person id {@code id}.
+     */
+    void add(int id, Name name) {
+        for (String word : words(name)) {
+            addWord(word, id);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the words of {@code name}, previously indexed under {@code id}.
+     */
+    void remove(int id, Name name) {
+        for (String word : words(name)) {
+            Node node = find(word);
+            if (node != null && node.removeId(id) && node.idCount == 0) {
+                liveWords--;
+                emptyWords++;
+            }
+        }
+        if (emptyWords > liveWords && emptyWords > 64) {
+            rebuild();
+        }
+        version++;
+    }
+
+    /**
+     * Calls {@code visitor} with every indexed word within edit distance {@code maxDistance} of {@code query}.
+     */
+    void search(String query, int maxDistance, Visitor visitor) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = editDistance.between(query, node.word);
+            if (distance <= maxDistance && node.idCount > 0) {
+                visitor.visit(node.word, distance, node.ids, node.idCount);
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                if (Math.abs(node.childDistances[i] - distance) <= maxDistance) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+    }
+
+    int version() {
+        return version;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(FuzzyNameIndex other) {
+        root = other.root == null ? null : other.root.deepCopy();
+        liveWords = other.liveWords;
+        emptyWords = other.emptyWords;
+        version++;
+    }
+
+    void clear() {
+        root = null;
+        liveWords = 0;
+        emptyWords = 0;
+        version++;
+    }
+
+    /**
+     * Returns the distinct words of the canonical form of {@code name}.
+     */
+    static Set<String> words(Name name) {
+        return splitWords(name.getIdentityKey());
+    }
+
+    /**
+     * Returns the distinct space-separated words of an already canonical string.
+     */
+    static Set<String> splitWords(String canonical) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : canonical.split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private void addWord(String word, int id) {
+        if (root == null) {
+            root = new Node(word);
+            root.addId(id);
+            liveWords++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = editDistance.between(word, node.word);
+            if (distance == 0) {
+                if (node.idCount == 0) {
+                    liveWords++;
+                    emptyWords--;
+                }
+                node.addId(id);
+                return;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                child = new Node(word);
+                child.addId(id);
+                node.addChild(distance, child);
+                liveWords++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private Node find(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = editDistance.between(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.child(distance);
+        }
+        return null;
+    }
+
+    private void rebuild() {
+        List<Node> live = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (node.idCount > 0) {
+                live.add(node);
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                pending.push(node.children[i]);
+            }
+        }
+        root = null;
+        liveWords = 0;
+        emptyWords = 0;
+        for (Node node : live) {
+            for (int i = 0; i < node.idCount; i++) {
+                addWord(node.word, node.ids[i]);
+            }
+        }
+    }
+
+    /**
+     * Computes unrestricted Damerau-Levenshtein distances: the fewest insertions, deletions, substitutions and
+     * swaps of two adjacent characters that turn one word into another. Unlike the restricted variant, which
+     * forbids editing a swapped pair again, it satisfies the triangle inequality that the BK-tree relies on.
+     * <p>
+     * The table and the per-character rows are kept between calls and only grow, so that visiting the nodes of
+     * the tree allocates nothing once the longest words have been seen.
+     */
+    static class EditDistance {
+        private int[] table = new int[0];
+        /** The distinct characters of the first word, and for each character of either word its index there. */
+        private char[] alphabet = new char[0];
+        private int[] codesOfA = new int[0];
+        private int[] codesOfB = new int[0];
+        /** For each character of the alphabet, the last row of the first word in which it was seen. */
+        private int[] lastRows = new int[0];
+
+        /**
+         * Returns the distance between {@code a} and {@code b}.
+         */
+        int between(String a, String b) {
+            int rows = a.length() + 2;
+            int width = b.length() + 2;
+            if (table.length < rows * width) {
+                table = new int[Math.max(rows * width, table.length * 2)];
+            }
+            int alphabetSize = encode(a, b);
+            Arrays.fill(lastRows, 0, alphabetSize, 0);
+
+            // table[(i + 1) * width + j + 1] is the distance between the first i characters of a and the first j of b
+            int infinity = a.length() + b.length();
+            table[0] = infinity;
+            for (int i = 0; i <= a.length(); i++) {
+                table[(i + 1) * width] = infinity;
+                table[(i + 1) * width + 1] = i;
+            }
+            for (int j = 0; j <= b.length(); j++) {
+                table[j + 1] = infinity;
+                table[width + j + 1] = j;
+            }
+            for (int i = 1; i <= a.length(); i++) {
+                int lastMatchingColumn = 0;
+                for (int j = 1; j <= b.length(); j++) {
+                    int k = codesOfB[j - 1] < 0 ? 0 : lastRows[codesOfB[j - 1]];
+                    int l = lastMatchingColumn;
+                    int cost = 1;
+                    if (a.charAt(i - 1) == b.charAt(j - 1)) {
+                        cost = 0;
+                        lastMatchingColumn = j;
+                    }
+                    int substitution = table[i * width + j] + cost;
+                    int edit = Math.min(table[(i + 1) * width + j], table[i * width + j + 1]) + 1;
+                    int swap = table[k * width + l] + (i - k - 1) + 1 + (j - l - 1);
+                    table[(i + 1) * width + j + 1] = Math.min(substitution, Math.min(edit, swap));
+                }
+                lastRows[codesOfA[i - 1]] = i;
+            }
+            return table[(a.length() + 1) * width + b.length() + 1];
+        }
+
+        /**
+         * Numbers the distinct characters of {@code a}, codes the characters of both words with those numbers,
+         * -1 for a character of {@code b} that is not in {@code a}, and returns how many there are.
+         */
+        private int encode(String a, String b) {
+            if (alphabet.length < a.length()) {
+                alphabet = new char[a.length()];
+                codesOfA = new int[a.length()];
+                lastRows = new int[a.length()];
+            }
+            if (codesOfB.length < b.length()) {
+                codesOfB = new int[b.length()];
+            }
+            int alphabetSize = 0;
+            for (int i = 0; i < a.length(); i++) {
+                int code = indexOf(a.charAt(i), alphabetSize);
+                if (code < 0) {
+                    code = alphabetSize;
+                    alphabet[alphabetSize++] = a.charAt(i);
+                }
+                codesOfA[i] = code;
+            }
+            for (int j = 0; j < b.length(); j++) {
+                codesOfB[j] = indexOf(b.charAt(j), alphabetSize);
+            }
+            return alphabetSize;
+        }
+
+        private int indexOf(char c, int alphabetSize) {
+            // names are a few characters long, so a linear search beats hashing
+            for (int i = 0; i < alphabetSize; i++) {
+                if (alphabet[i] == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static class Node {
+        private final String word;
+        private int[] ids = new int[1];
+        private int idCount = 0;
+        private int[] childDistances = new int[0];
+        private Node[] children = new Node[0];
+        private int childCount = 0;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node child(int distance) {
+            for (int i = 0; i < childCount; i++) {
+                if (childDistances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void addChild(int distance, Node child) {
+            if (childCount == children.length) {
+                int capacity = Math.max(2, childCount * 2);
+                children = Arrays.copyOf(children, capacity);
+                childDistances = Arrays.copyOf(childDistances, capacity);
+            }
+            childDistances[childCount] = distance;
+            children[childCount++] = child;
+        }
+
+        void addId(int id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    return;
+                }
+            }
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, idCount * 2);
+            }
+            ids[idCount++] = id;
+        }
+
+        boolean removeId(int id) {
+            for (int i = 0; i < idCount; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--idCount];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Node deepCopy() {
+            Node copy = new Node(word);
+            copy.ids = Arrays.copyOf(ids, Math.max(1, idCount));
+            copy.idCount = idCount;
+            copy.childDistances = Arrays.copyOf(childDistances, childCount);
+            copy.children = new Node[childCount];
+            for (int i = 0; i < childCount; i++) {
+                copy.children[i] = children[i].deepCopy();
+            }
+            copy.childCount = childCount;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The persons of a {@link UniquePersonList} whose name approximately contains every word of a query,
+ * resolved through the list's BK-tree of name words.
+ * <p>
+ * Query and names are compared in their canonical form ({@link Name#normalizeForIdentity(String)}). Each query
+ * word matches the name words within an edit distance that grows with its length, see
+ * {@link #maxDistance(String)}, and the distance of a person is the sum over the query words of the smallest
+ * distance to a word of their name. Matches are recomputed lazily the first time they are needed after the
+ * list's names change, so a {@code FuzzyNameMatches} can be kept as the predicate of a filtered view of the list.
+ * Distances are held in an array indexed by person id, which an edit keeps, so a person edited in other fields
+ * than the name keeps its distance. The order of the matches is worked out once from the distances, by a single
+ * sort of packed (distance, id) keys, so that ordering a view only reads back each person's rank. A person
+ * that is not in the list is reported as not matching.
+ */
+public class FuzzyNameMatches implements Predicate<Person> {
+
+    public static final int NO_MATCH = -1;
+
+    private final UniquePersonList persons;
+    private final String query;
+    private final List<String> queryWords;
+
+    /** The distance of each person id, or {@link #NO_MATCH}. */
+    private int[] distances;
+    /** The position of each matching person id in the order of {@link #getRank(Person)}. */
+    private int[] ranks;
+    private int distancesVersion;
+
+    FuzzyNameMatches(UniquePersonList persons, String query) {
+        requireNonNull(persons);
+        requireNonNull(query);
+        this.persons = persons;
+        this.query = query;
+        this.queryWords = List.copyOf(FuzzyNameIndex.splitWords(Name.normalizeForIdentity(query)));
+    }
+
+    /**
+     * Returns the largest edit distance at which a name word still matches the query word {@code word}:
+     * none for words of up to two characters, one for up to five and two beyond that.
+     */
+    static int maxDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the edit distance between the query and the name of {@code person},
+     * or {@link #NO_MATCH} if the person does not match.
+     */
+    public int getDistance(Person person) {
+        requireNonNull(person);
+        int id = persons.findId(person);
+        if (id < 0) {
+            return NO_MATCH;
+        }
+        refreshDistances();
+        return distances[id];
+    }
+
+    /**
+     * Returns the position of {@code person} among the matching persons of the list, listed from the closest name
+     * to the furthest and then in the order in which they were added to the list. Returns
+     * {@code Integer.MAX_VALUE} if {@code person} does not match or is not in the list.
+     */
+    public int getRank(Person person) {
+        requireNonNull(person);
+        int id = persons.findId(person);
+        if (id < 0) {
+            return Integer.MAX_VALUE;
+        }
+        refreshDistances();
+        if (ranks == null) {
+            ranks = rank(distances);
+        }
+        return ranks[id];
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person) != NO_MATCH;
+    }
+
+    private void refreshDistances() {
+        FuzzyNameIndex index = persons.getFuzzyNameIndex();
+        if (distances == null || distancesVersion != index.version()) {
+            distances = resolve(index, persons.getIdBound());
+            ranks = null;
+            distancesVersion = index.version();
+        }
+    }
+
+    private int[] resolve(FuzzyNameIndex index, int idBound) {
+        // best distance from each query word to a word of each person's name, for persons matching any query word
+        Map<Integer, int[]> bestDistances = new HashMap<>();
+        for (int i = 0; i < queryWords.size(); i++) {
+            int queryWordIndex = i;
+            String queryWord = queryWords.get(i);
+            index.search(queryWord, maxDistance(queryWord), (word, distance, ids, idCount) -> {
+                for (int j = 0; j < idCount; j++) {
+                    int[] best = bestDistances.computeIfAbsent(ids[j], unused -> newUnmatched());
+                    best[queryWordIndex] = Math.min(best[queryWordIndex], distance);
+                }
+            });
+        }
+
+        int[] result = new int[idBound];
+        Arrays.fill(result, NO_MATCH);
+        bestDistances.forEach((id, best) -> {
+            int total = 0;
+            for (int distance : best) {
+                if (distance == Integer.MAX_VALUE) {
+                    return;
+                }
+                total += distance;
+            }
+            result[id] = total;
+        });
+        return result;
+    }
+
+    /**
+     * Returns the rank of every id with a distance, by ascending distance and then ascending id.
+     */
+    private static int[] rank(int[] distances) {
+        // distance in the high half and id in the low half, so ascending keys give the wanted order
+        long[] keys = new long[distances.length];
+        int matchCount = 0;
+        for (int id = 0; id < distances.length; id++) {
+            if (distances[id] != NO_MATCH) {
+                keys[matchCount++] = ((long) distances[id] << 32) | id;
+            }
+        }
+        Arrays.sort(keys, 0, matchCount);
+
+        int[] ranks = new int[distances.length];
+        Arrays.fill(ranks, Integer.MAX_VALUE);
+        for (int rank = 0; rank < matchCount; rank++) {
+            ranks[(int) keys[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    private int[] newUnmatched() {
+        int[] best = new int[queryWords.size()];
+        Arrays.fill(best, Integer.MAX_VALUE);
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
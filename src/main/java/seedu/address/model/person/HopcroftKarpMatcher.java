@@ -0,0 +1,257 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Maximum matching between students and volunteers who share a tag, found with the Hopcroft–Karp algorithm.
+ * <p>
+ * The bipartite graph is never built: the volunteers next to a student are those in the postings of its tags,
+ * so the input takes space proportional to the number of tags held rather than to the number of edges, which
+ * for a few popular subjects is close to the product of the two sides. A greedy pass first matches what it can.
+ * Each phase then layers the graph by a breadth-first search from every unmatched student, and augments along
+ * a maximal set of vertex-disjoint shortest paths found by depth-first search.
+ * <p>
+ * Both searches read every tag posting at most once per phase. In the breadth-first search, the first student
+ * to scan a tag discovers all of its volunteers, so no other student needs to scan it. In the depth-first search,
+ * only students on the layer that scanned a tag can use it, and a cursor per tag skips the volunteers already
+ * used in the phase or lying on another layer for good. A phase therefore costs O(V + P), where P is the total
+ * size of the postings, and there are O(√V) phases.
+ */
+final class HopcroftKarpMatcher {
+
+    /** Marks a student or volunteer without a partner, and a search that found no candidate. */
+    static final int UNMATCHED = -1;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    /** studentTags[s] holds the ids of the tags of student s that some volunteer carries. */
+    private final int[][] studentTags;
+    /** tagVolunteers[t] holds, in ascending order, the volunteers carrying the tag with id t. */
+    private final int[][] tagVolunteers;
+
+    private final int[] volunteerOf;
+    private final int[] studentOf;
+
+    // state of the current phase
+    private final int[] studentLayer;
+    private final int[] volunteerLayer;
+    /** Layer of the students that scanned each tag in the breadth-first search, or UNREACHED. */
+    private final int[] tagLayer;
+    private final int[] tagCursor;
+    private final boolean[] isVolunteerUsed;
+    /** Layer of the students that reached an unmatched volunteer; deeper layers are not searched. */
+    private int lastLayer;
+
+    // the path of the current depth-first search, one student and volunteer per layer
+    private final int[] pathStudents;
+    private final int[] pathVolunteers;
+    private final int[] pathTagPositions;
+    private final int[] queue;
+
+    private HopcroftKarpMatcher(List<TagSet> studentTagSets, List<TagSet> volunteerTagSets) {
+        int tagBound = tagBound(volunteerTagSets);
+        int[] postingSizes = new int[tagBound];
+        for (TagSet tags : volunteerTagSets) {
+            tags.forEachId(tagId -> postingSizes[tagId]++);
+        }
+        tagVolunteers = new int[tagBound][];
+        for (int tagId = 0; tagId < tagBound; tagId++) {
+            tagVolunteers[tagId] = new int[postingSizes[tagId]];
+        }
+        int[] filled = new int[tagBound];
+        for (int v = 0; v < volunteerTagSets.size(); v++) {
+            int volunteer = v;
+            volunteerTagSets.get(v).forEachId(tagId -> tagVolunteers[tagId][filled[tagId]++] = volunteer);
+        }
+
+        studentTags = new int[studentTagSets.size()][];
+        for (int s = 0; s < studentTags.length; s++) {
+            studentTags[s] = studentTagSets.get(s).stream()
+                    .mapToInt(Tag::getId)
+                    .filter(tagId -> tagId < tagBound && postingSizes[tagId] > 0)
+                    .toArray();
+        }
+
+        volunteerOf = new int[studentTags.length];
+        studentOf = new int[volunteerTagSets.size()];
+        Arrays.fill(volunteerOf, UNMATCHED);
+        Arrays.fill(studentOf, UNMATCHED);
+        studentLayer = new int[studentTags.length];
+        volunteerLayer = new int[studentOf.length];
+        tagLayer = new int[tagBound];
+        tagCursor = new int[tagBound];
+        isVolunteerUsed = new boolean[studentOf.length];
+        pathStudents = new int[studentTags.length];
+        pathVolunteers = new int[studentTags.length];
+        pathTagPositions = new int[studentTags.length];
+        queue = new int[studentTags.length];
+    }
+
+    /**
+     * Returns a maximum matching between the students and volunteers whose tags are {@code studentTagSets} and
+     * {@code volunteerTagSets}, in which a student and a volunteer may only be matched if they share a tag.
+     * Element {@code s} of the result is the position in {@code volunteerTagSets} of the volunteer matched to
+     * student {@code s}, or {@link #UNMATCHED}. The result only depends on the order of the inputs.
+     */
+    static int[] match(List<TagSet> studentTagSets, List<TagSet> volunteerTagSets) {
+        HopcroftKarpMatcher matcher = new HopcroftKarpMatcher(studentTagSets, volunteerTagSets);
+        matcher.matchGreedily();
+        while (matcher.layer()) {
+            matcher.augment();
+        }
+        return matcher.volunteerOf;
+    }
+
+    private void matchGreedily() {
+        // volunteers are only ever taken here, so a cursor may skip a taken volunteer for good
+        for (int s = 0; s < studentTags.length; s++) {
+            for (int tagId : studentTags[s]) {
+                int[] volunteers = tagVolunteers[tagId];
+                while (tagCursor[tagId] < volunteers.length
+                        && studentOf[volunteers[tagCursor[tagId]]] != UNMATCHED) {
+                    tagCursor[tagId]++;
+                }
+                if (tagCursor[tagId] < volunteers.length) {
+                    setMatched(s, volunteers[tagCursor[tagId]]);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Layers the graph by a breadth-first search from the unmatched students.
+     *
+     * @return true if an unmatched volunteer was reached, so that a shortest augmenting path exists.
+     */
+    private boolean layer() {
+        Arrays.fill(studentLayer, UNREACHED);
+        Arrays.fill(volunteerLayer, UNREACHED);
+        Arrays.fill(tagLayer, UNREACHED);
+        int head = 0;
+        int tail = 0;
+        for (int s = 0; s < studentTags.length; s++) {
+            if (volunteerOf[s] == UNMATCHED) {
+                studentLayer[s] = 0;
+                queue[tail++] = s;
+            }
+        }
+        lastLayer = UNREACHED;
+        while (head < tail) {
+            int student = queue[head++];
+            int layer = studentLayer[student];
+            if (layer > lastLayer) {
+                break;
+            }
+            for (int tagId : studentTags[student]) {
+                if (tagLayer[tagId] != UNREACHED) {
+                    continue;
+                }
+                tagLayer[tagId] = layer;
+                for (int volunteer : tagVolunteers[tagId]) {
+                    if (volunteerLayer[volunteer] != UNREACHED) {
+                        continue;
+                    }
+                    volunteerLayer[volunteer] = layer + 1;
+                    int next = studentOf[volunteer];
+                    if (next == UNMATCHED) {
+                        lastLayer = layer;
+                    } else {
+                        // a matched student is only reachable through its own volunteer, so it is new
+                        studentLayer[next] = layer + 1;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return lastLayer != UNREACHED;
+    }
+
+    /**
+     * Augments along a maximal set of vertex-disjoint shortest paths in the layered graph.
+     */
+    private void augment() {
+        Arrays.fill(tagCursor, 0);
+        Arrays.fill(isVolunteerUsed, false);
+        for (int s = 0; s < studentTags.length; s++) {
+            if (studentLayer[s] == 0) {
+                augmentFrom(s);
+            }
+        }
+    }
+
+    /**
+     * Searches depth first, without recursion, for a shortest augmenting path from the unmatched student
+     * {@code root}, and flips the matching along it if one is found. Every volunteer tried is used up for the
+     * phase: if the search through it failed, it will fail again, and if it succeeded, the paths of a phase
+     * must not share vertices.
+     */
+    private void augmentFrom(int root) {
+        int depth = 0;
+        pathStudents[0] = root;
+        pathTagPositions[0] = 0;
+        while (depth >= 0) {
+            int volunteer = nextCandidate(depth);
+            if (volunteer == UNMATCHED) {
+                depth--;
+                continue;
+            }
+            isVolunteerUsed[volunteer] = true;
+            pathVolunteers[depth] = volunteer;
+            int next = studentOf[volunteer];
+            if (next == UNMATCHED) {
+                for (int i = 0; i <= depth; i++) {
+                    setMatched(pathStudents[i], pathVolunteers[i]);
+                }
+                return;
+            }
+            if (depth < lastLayer) {
+                depth++;
+                pathStudents[depth] = next;
+                pathTagPositions[depth] = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the next volunteer that the student at {@code depth} of the path can move to in the layered graph
+     * and that is not used up, or {@link #UNMATCHED} if there is none.
+     */
+    private int nextCandidate(int depth) {
+        int[] tags = studentTags[pathStudents[depth]];
+        while (pathTagPositions[depth] < tags.length) {
+            int tagId = tags[pathTagPositions[depth]];
+            if (tagLayer[tagId] == depth) {
+                int[] volunteers = tagVolunteers[tagId];
+                while (tagCursor[tagId] < volunteers.length) {
+                    int volunteer = volunteers[tagCursor[tagId]];
+                    if (!isVolunteerUsed[volunteer] && volunteerLayer[volunteer] == depth + 1) {
+                        return volunteer;
+                    }
+                    tagCursor[tagId]++;
+                }
+            }
+            pathTagPositions[depth]++;
+        }
+        return UNMATCHED;
+    }
+
+    private void setMatched(int student, int volunteer) {
+        volunteerOf[student] = volunteer;
+        studentOf[volunteer] = student;
+    }
+
+    /**
+     * Returns a bound on the ids of the tags in {@code tagSets}; every such id is smaller.
+     */
+    private static int tagBound(List<TagSet> tagSets) {
+        int[] bound = {0};
+        for (TagSet tags : tagSets) {
+            tags.forEachId(tagId -> bound[0] = Math.max(bound[0], tagId + 1));
+        }
+        return bound[0];
+    }
+}
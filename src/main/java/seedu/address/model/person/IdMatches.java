@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+
+/**
+ * A filter on the persons of a {@link UniquePersonList} that resolves to the ids of the persons it accepts, so
+ * that its matches can be listed in list order by walking the ids instead of testing every person.
+ */
+interface IdMatches {
+
+    /**
+     * Returns the ids of the persons of {@code list} that this filter accepts, up to date with the list, or null if
+     * this filter is not over {@code list} or has to test persons one by one. The result must not be modified.
+     */
+    BitSet getMatchedIds(UniquePersonList list);
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, growable list of person ids, used as the posting list of a search index key.
+ * New persons have the largest ids so far, so adding is usually an append.
+ */
+class IdPosting {
+
+    private int[] ids = new int[2];
+    private int size = 0;
+
+    void add(int id) {
+        int pos = size > 0 && ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+        ids[pos] = id;
+        size++;
+    }
+
+    boolean remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return false;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    IdPosting copy() {
+        IdPosting copy = new IdPosting();
+        copy.ids = Arrays.copyOf(ids, Math.max(2, size));
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Returns, in ascending order, the ids present in every one of {@code lists}, which must not be empty.
+     */
+    static int[] intersect(IdPosting... lists) {
+        assert lists.length > 0;
+        // intersect starting from the shortest list, so the candidate set only ever shrinks from its smallest size
+        IdPosting[] sorted = lists.clone();
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.size, b.size));
+        int[] result = Arrays.copyOf(sorted[0].ids, sorted[0].size);
+        int size = result.length;
+        for (int i = 1; i < sorted.length && size > 0; i++) {
+            int kept = 0;
+            for (int j = 0; j < size; j++) {
+                if (sorted[i].contains(result[j])) {
+                    result[kept++] = result[j];
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
@@ -28,8 +28,14 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "^[\\p{L}\\p{M}\\p{N}][\\p{L}\\p{M}\\p{N} .,'’\\-/()]*$";
 
+    /** Characters other than letters, marks and numbers that may follow the first character of a name. */
+    private static final String ALLOWED_PUNCTUATION = " .,'’-/()";
+
     public final String fullName;
 
+    /** Canonical form of {@code fullName}, computed once; see {@link #normalizeForIdentity(String)}. */
+    private final String identityKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -39,13 +45,48 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        identityKey = normalizeForIdentity(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // hand-written equivalent of VALIDATION_REGEX, walking code points like the regex engine does
+        if (test.isEmpty() || !isLetterMarkOrNumber(test.codePointAt(0))) {
+            return false;
+        }
+        int i = Character.charCount(test.codePointAt(0));
+        while (i < test.length()) {
+            int codePoint = test.codePointAt(i);
+            if (!isLetterMarkOrNumber(codePoint) && ALLOWED_PUNCTUATION.indexOf(codePoint) < 0) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code codePoint} is in one of the Unicode categories {@code L}, {@code M} or {@code N}.
+     */
+    private static boolean isLetterMarkOrNumber(int codePoint) {
+        switch (Character.getType(codePoint)) {
+        case Character.UPPERCASE_LETTER:
+        case Character.LOWERCASE_LETTER:
+        case Character.TITLECASE_LETTER:
+        case Character.MODIFIER_LETTER:
+        case Character.OTHER_LETTER:
+        case Character.NON_SPACING_MARK:
+        case Character.ENCLOSING_MARK:
+        case Character.COMBINING_SPACING_MARK:
+        case Character.DECIMAL_DIGIT_NUMBER:
+        case Character.LETTER_NUMBER:
+        case Character.OTHER_NUMBER:
+            return true;
+        default:
+            return false;
+        }
     }
 
     /**
@@ -116,6 +157,13 @@ public class Name {
     }
 
 
+    /**
+     * Returns the canonical form of this name used for identity comparison.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
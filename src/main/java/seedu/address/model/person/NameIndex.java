@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trigram index over the case-folded full names of the persons in a {@link UniquePersonList}.
+ * <p>
+ * Every run of three consecutive characters of {@code fullName.toLowerCase()} maps to the sorted ids of the
+ * persons whose name contains it. A case-insensitive substring of a name contains only trigrams of that name,
+ * so intersecting the posting lists of a keyword's trigrams yields a small superset of the persons whose name
+ * contains the keyword, which can then be verified one by one.
+ */
+class NameIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, IdPosting> postings = new HashMap<>();
+    /** Incremented on every change, so that query results can tell when they are out of date. */
+    private int version = 0;
+
+    /**
+     * Indexes {@code name} under the person id {@code id}.
+     */
+    void add(int id, Name name) {
+        for (long gram : distinctGrams(name.fullName.toLowerCase())) {
+            postings.computeIfAbsent(gram, unused -> new IdPosting()).add(id);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code name}, previously indexed under {@code id}, from the index.
+     */
+    void remove(int id, Name name) {
+        for (long gram : distinctGrams(name.fullName.toLowerCase())) {
+            IdPosting posting = postings.get(gram);
+            if (posting != null && posting.remove(id) && posting.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Returns, in ascending order, the ids of the persons whose case-folded name contains every trigram of
+     * {@code lowerCaseKeyword}. {@code lowerCaseKeyword} must be at least {@link #GRAM_LENGTH} characters long.
+     */
+    int[] candidates(String lowerCaseKeyword) {
+        assert lowerCaseKeyword.length() >= GRAM_LENGTH;
+        long[] grams = distinctGrams(lowerCaseKeyword);
+        IdPosting[] lists = new IdPosting[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        return IdPosting.intersect(lists);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose case-folded name contains {@code lowerCaseKeyword},
+     * the size of the shortest posting list of its trigrams. {@code lowerCaseKeyword} must be at least
+     * {@link #GRAM_LENGTH} characters long.
+     */
+    int estimate(String lowerCaseKeyword) {
+        assert lowerCaseKeyword.length() >= GRAM_LENGTH;
+        int estimate = Integer.MAX_VALUE;
+        for (long gram : distinctGrams(lowerCaseKeyword)) {
+            IdPosting posting = postings.get(gram);
+            estimate = Math.min(estimate, posting == null ? 0 : posting.size());
+        }
+        return estimate;
+    }
+
+    int version() {
+        return version;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(NameIndex other) {
+        postings.clear();
+        other.postings.forEach((gram, posting) -> postings.put(gram, posting.copy()));
+        version++;
+    }
+
+    void clear() {
+        postings.clear();
+        version++;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code s}, each packed into a {@code long}.
+     */
+    private static long[] distinctGrams(String s) {
+        int count = Math.max(0, s.length() - GRAM_LENGTH + 1);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[distinct - 1] != grams[i]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The persons of a {@link UniquePersonList} whose name contains any of a list of keywords, ignoring case,
+ * resolved through the list's trigram name index.
+ * <p>
+ * Accepts exactly the persons that {@link NameContainsKeywordsPredicate} accepts. Keywords of at least three
+ * characters are looked up in the index and only the candidates it returns are checked against the name;
+ * shorter keywords have no trigrams, so they are checked against every name. Matches are recomputed lazily
+ * the first time they are needed after the list's names change, so a {@code NameMatches} can be kept as
+ * the predicate of a filtered view of the list.
+ * <p>
+ * When every keyword can be looked up, matches are held as the ids of the persons, so testing a person costs
+ * the hash probe that finds its id, and the matches can be listed in list order by walking the ids. Ids are kept
+ * across edits, so a person edited in a field other than the name keeps matching without a new lookup. A person
+ * that is not in the list is then reported as not matching.
+ */
+public class NameMatches implements Predicate<Person>, IdMatches {
+
+    private final UniquePersonList persons;
+    private final List<String> keywords;
+    private final boolean hasShortKeyword;
+
+    private BitSet matched;
+    private int matchedVersion;
+
+    NameMatches(UniquePersonList persons, List<String> keywords) {
+        requireNonNull(persons);
+        requireNonNull(keywords);
+        this.persons = persons;
+        this.keywords = List.copyOf(keywords);
+        this.hasShortKeyword = this.keywords.stream()
+                .anyMatch(keyword -> keyword.trim().toLowerCase().length() < NameIndex.GRAM_LENGTH);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        if (hasShortKeyword) {
+            return containsAnyKeyword(person);
+        }
+        int id = persons.findId(person);
+        return id >= 0 && refreshMatched().get(id);
+    }
+
+    @Override
+    public BitSet getMatchedIds(UniquePersonList list) {
+        return list != persons || hasShortKeyword ? null : refreshMatched();
+    }
+
+    private BitSet refreshMatched() {
+        NameIndex index = persons.getNameIndex();
+        if (matched == null || matchedVersion != index.version()) {
+            matched = resolve(index);
+            matchedVersion = index.version();
+        }
+        return matched;
+    }
+
+    private BitSet resolve(NameIndex index) {
+        BitSet result = new BitSet();
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.trim().toLowerCase();
+            for (int id : index.candidates(lowerCaseKeyword)) {
+                // a keyword that is a single trigram matches every candidate
+                if (lowerCaseKeyword.length() == NameIndex.GRAM_LENGTH || persons.getPersonById(id)
+                        .getName().fullName.toLowerCase().contains(lowerCaseKeyword)) {
+                    result.set(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean containsAnyKeyword(Person person) {
+        return keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Undirected graph of pairings between person ids, stored as primitive int adjacency arrays.
+ * <p>
+ * Each node keeps its neighbours in a sorted {@code int[]} that is grown geometrically, so an edge costs
+ * two ints of storage, membership tests are a binary search and iterating over neighbours does not allocate.
+ * Node ids are expected to be small, dense and non-negative, as handed out by {@link UniquePersonList}.
+ */
+class PairingGraph {
+
+    private static final int[] NO_NEIGHBOURS = new int[0];
+    private static final int INITIAL_NEIGHBOUR_CAPACITY = 4;
+
+    /** neighbours[id][0 .. degrees[id]) holds the sorted neighbours of id; the rest of the row is spare. */
+    private int[][] neighbours = new int[0][];
+    private int[] degrees = new int[0];
+    private int edgeCount = 0;
+
+    /**
+     * Adds an edge between {@code a} and {@code b}. Does nothing if the edge already exists.
+     */
+    void addEdge(int a, int b) {
+        if (a < 0 || b < 0) {
+            throw new IllegalArgumentException("negative id: " + Math.min(a, b));
+        }
+        ensureNode(Math.max(a, b));
+        if (insert(a, b)) {
+            insert(b, a);
+            edgeCount++;
+        }
+    }
+
+    /**
+     * Removes the edge between {@code a} and {@code b}, if any.
+     *
+     * @return true if an edge was removed.
+     */
+    boolean removeEdge(int a, int b) {
+        if (!hasNode(a) || !hasNode(b) || !delete(a, b)) {
+            return false;
+        }
+        delete(b, a);
+        edgeCount--;
+        return true;
+    }
+
+    /**
+     * Returns true if {@code a} and {@code b} are joined by an edge.
+     */
+    boolean hasEdge(int a, int b) {
+        return hasNode(a) && indexOf(a, b) >= 0;
+    }
+
+    /**
+     * Removes every edge touching {@code id}.
+     */
+    void removeNode(int id) {
+        if (!hasNode(id)) {
+            return;
+        }
+        int[] row = neighbours[id];
+        for (int i = 0; i < degrees[id]; i++) {
+            delete(row[i], id);
+        }
+        edgeCount -= degrees[id];
+        neighbours[id] = NO_NEIGHBOURS;
+        degrees[id] = 0;
+    }
+
+    /**
+     * Returns the number of neighbours of {@code id}.
+     */
+    int degree(int id) {
+        return hasNode(id) ? degrees[id] : 0;
+    }
+
+    /**
+     * Returns the {@code i}-th smallest neighbour of {@code id}, for {@code 0 <= i < degree(id)}.
+     */
+    int neighbour(int id, int i) {
+        if (i < 0 || i >= degree(id)) {
+            throw new IndexOutOfBoundsException(i);
+        }
+        return neighbours[id][i];
+    }
+
+    /**
+     * Calls {@code action} with every neighbour of {@code id}, in ascending order, without copying.
+     * {@code action} must not modify this graph.
+     */
+    void forEachNeighbour(int id, IntConsumer action) {
+        if (!hasNode(id)) {
+            return;
+        }
+        int[] row = neighbours[id];
+        for (int i = 0, n = degrees[id]; i < n; i++) {
+            action.accept(row[i]);
+        }
+    }
+
+    /**
+     * Returns the number of edges in the graph.
+     */
+    int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Replaces the contents of this graph with a copy of {@code other}.
+     */
+    void setAll(PairingGraph other) {
+        neighbours = new int[other.neighbours.length][];
+        for (int id = 0; id < neighbours.length; id++) {
+            int[] row = other.neighbours[id];
+            neighbours[id] = row.length == 0 ? NO_NEIGHBOURS : Arrays.copyOf(row, other.degrees[id]);
+        }
+        degrees = Arrays.copyOf(other.degrees, other.degrees.length);
+        edgeCount = other.edgeCount;
+    }
+
+    void clear() {
+        neighbours = new int[0][];
+        degrees = new int[0];
+        edgeCount = 0;
+    }
+
+    private boolean hasNode(int id) {
+        return id >= 0 && id < degrees.length;
+    }
+
+    private void ensureNode(int id) {
+        if (id < degrees.length) {
+            return;
+        }
+        int oldLength = degrees.length;
+        int newLength = Math.max(id + 1, oldLength + (oldLength >> 1) + 1);
+        neighbours = Arrays.copyOf(neighbours, newLength);
+        Arrays.fill(neighbours, oldLength, newLength, NO_NEIGHBOURS);
+        degrees = Arrays.copyOf(degrees, newLength);
+    }
+
+    private int indexOf(int id, int other) {
+        return Arrays.binarySearch(neighbours[id], 0, degrees[id], other);
+    }
+
+    private boolean insert(int id, int other) {
+        int pos = indexOf(id, other);
+        if (pos >= 0) {
+            return false;
+        }
+        pos = -pos - 1;
+        int[] row = neighbours[id];
+        int degree = degrees[id];
+        if (degree == row.length) {
+            row = Arrays.copyOf(row, Math.max(INITIAL_NEIGHBOUR_CAPACITY, degree * 2));
+            neighbours[id] = row;
+        }
+        System.arraycopy(row, pos, row, pos + 1, degree - pos);
+        row[pos] = other;
+        degrees[id] = degree + 1;
+        return true;
+    }
+
+    private boolean delete(int id, int other) {
+        int pos = indexOf(id, other);
+        if (pos < 0) {
+            return false;
+        }
+        int[] row = neighbours[id];
+        System.arraycopy(row, pos + 1, row, pos, degrees[id] - pos - 1);
+        degrees[id]--;
+        return true;
+    }
+}
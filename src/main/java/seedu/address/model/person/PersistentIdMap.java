@@ -0,0 +1,228 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Map from person ids to values, held in a trie of 32-way nodes indexed by successive 5-bit digits of the id,
+ * like a persistent vector that may have holes. Ids are expected to be small, dense and non-negative, as handed
+ * out by {@link UniquePersonList}, so the trie stays a few levels deep.
+ * <p>
+ * {@link #snapshot()} freezes the current contents in O(1): the map and the snapshot share every node, and the
+ * map copies a node the first time it changes it after the snapshot, so a change copies at most one path of
+ * O(log n) nodes. Nodes created since the last snapshot belong to the map and are changed in place, so a map
+ * that is never snapshotted costs no more than a mutable trie. Emptied nodes are not pruned.
+ */
+final class PersistentIdMap<V> implements Iterable<V> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * A node of the trie: inner nodes hold child nodes and leaves hold values. A node may only be changed in
+     * place by the map whose current owner token it carries.
+     */
+    private static final class Node {
+        private final Object owner;
+        private final Object[] slots;
+
+        Node(Object owner, Object[] slots) {
+            this.owner = owner;
+            this.slots = slots;
+        }
+    }
+
+    private Node root;
+    /** Bit position of the digit that indexes the root; ids must be below {@code 1 << (shift + BITS)}. */
+    private int shift;
+    private int size;
+    /** Token marking the nodes this map may change in place, or null if this map is a frozen snapshot. */
+    private Object owner;
+
+    PersistentIdMap() {
+        clear();
+    }
+
+    private PersistentIdMap(Node root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+        this.owner = null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value under {@code id}, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    V get(int id) {
+        if (id < 0 || !fits(id)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.slots[(id >>> level) & MASK];
+            if (node == null) {
+                return null;
+            }
+        }
+        return (V) node.slots[id & MASK];
+    }
+
+    /**
+     * Sets the value under {@code id} to {@code value}.
+     */
+    void put(int id, V value) {
+        requireNonNull(value);
+        if (id < 0) {
+            throw new IllegalArgumentException("negative id: " + id);
+        }
+        assert owner != null : "snapshots cannot be changed";
+        while (!fits(id)) {
+            Node newRoot = new Node(owner, new Object[WIDTH]);
+            newRoot.slots[0] = root;
+            root = newRoot;
+            shift += BITS;
+        }
+        Node leaf = editablePathTo(id);
+        if (leaf.slots[id & MASK] == null) {
+            size++;
+        }
+        leaf.slots[id & MASK] = value;
+    }
+
+    /**
+     * Removes the value under {@code id}, if there is one.
+     */
+    void remove(int id) {
+        assert owner != null : "snapshots cannot be changed";
+        if (get(id) == null) {
+            return;
+        }
+        editablePathTo(id).slots[id & MASK] = null;
+        size--;
+    }
+
+    /**
+     * Replaces the contents of this map with those of {@code other}, sharing all of its nodes. Neither map
+     * changes the shared nodes in place afterwards.
+     */
+    void setAll(PersistentIdMap<V> other) {
+        root = other.root;
+        shift = other.shift;
+        size = other.size;
+        owner = new Object();
+        if (other.owner != null) {
+            other.owner = new Object();
+        }
+    }
+
+    void clear() {
+        owner = new Object();
+        root = new Node(owner, new Object[WIDTH]);
+        shift = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns a frozen copy of the current contents of this map, in O(1).
+     */
+    PersistentIdMap<V> snapshot() {
+        if (owner == null) {
+            return this;
+        }
+        // nodes created so far now belong to the snapshot too, so this map must copy them before changing them
+        owner = new Object();
+        return new PersistentIdMap<>(root, shift, size);
+    }
+
+    /**
+     * Returns an iterator over the values of this map in increasing order of their ids.
+     * The iterator is undefined if this map is changed during the iteration; a snapshot never is.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new TrieIterator();
+    }
+
+    private boolean fits(int id) {
+        return shift + BITS >= Integer.SIZE - 1 || (id >>> (shift + BITS)) == 0;
+    }
+
+    /**
+     * Returns the leaf that holds {@code id}, making every node on the way to it editable by this map.
+     */
+    private Node editablePathTo(int id) {
+        root = editable(root);
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            int digit = (id >>> level) & MASK;
+            Node child = (Node) node.slots[digit];
+            child = child == null ? new Node(owner, new Object[WIDTH]) : editable(child);
+            node.slots[digit] = child;
+            node = child;
+        }
+        return node;
+    }
+
+    private Node editable(Node node) {
+        return node.owner == owner ? node : new Node(owner, node.slots.clone());
+    }
+
+    /**
+     * Depth-first walk over the trie, keeping the node and next slot of every level on the current path.
+     */
+    private class TrieIterator implements Iterator<V> {
+        private final Node[] path = new Node[shift / BITS + 1];
+        private final int[] nextSlots = new int[path.length];
+        private int depth = 0;
+        private V next;
+
+        TrieIterator() {
+            path[0] = root;
+            next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V result = next;
+            next = advance();
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V advance() {
+            while (depth >= 0) {
+                if (nextSlots[depth] == WIDTH) {
+                    depth--;
+                    continue;
+                }
+                Object slot = path[depth].slots[nextSlots[depth]++];
+                if (slot == null) {
+                    continue;
+                }
+                if (depth == path.length - 1) {
+                    return (V) slot;
+                }
+                depth++;
+                path[depth] = (Node) slot;
+                nextSlots[depth] = 0;
+            }
+            return null;
+        }
+    }
+}
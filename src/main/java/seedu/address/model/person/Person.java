@@ -3,7 +3,6 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -11,6 +10,7 @@ import java.util.Set;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -31,10 +31,13 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags;
+    private final TagSet tags;
 
     private final PersonBuilder personBuilder;
 
+    /** Cached hash code; persons are immutable and are hashed on every id lookup. 0 until computed. */
+    private int hash;
+
     /**
      * The Builder for the Person class.
      */
@@ -46,7 +49,7 @@ public class Person {
         private Phone phone;
         private Email email;
         private Address address;
-        private Set<Tag> tags;
+        private TagSet tags;
 
         /**
          * Constructor for PersonBuilder.
@@ -63,7 +66,7 @@ public class Person {
             this.phone = p.getPhone();
             this.email = p.getEmail();
             this.address = p.getAddress();
-            this.tags = p.getTags();
+            this.tags = p.getTagSet();
         }
 
         /**
@@ -190,8 +193,7 @@ public class Person {
          */
         public PersonBuilder tags(Set<Tag> tags) {
             if (tags != null) {
-                this.tags = new HashSet<>();
-                this.tags.addAll(tags);
+                this.tags = TagSet.of(tags);
             }
             return this;
         }
@@ -201,10 +203,11 @@ public class Person {
          */
         public PersonBuilder tags(String... tags) {
             if (tags != null) {
-                this.tags = new HashSet<>();
+                Set<Tag> tagSet = new HashSet<>();
                 for (int i = 0; i < tags.length; i++) {
-                    this.tags.add(new Tag(tags[i]));
+                    tagSet.add(new Tag(tags[i]));
                 }
+                this.tags = TagSet.of(tagSet);
             }
             return this;
         }
@@ -214,7 +217,7 @@ public class Person {
          */
         public PersonBuilder tagsIfNotPresent(Set<Tag> tags) {
             if (this.tags == null && tags != null) {
-                this.tags = tags;
+                this.tags = TagSet.of(tags);
             }
             return this;
         }
@@ -290,7 +293,7 @@ public class Person {
         this.phone = builder.phone != null ? builder.phone : DEFAULT_PHONE;
         this.email = builder.email != null ? builder.email : DEFAULT_EMAIL;
         this.address = builder.address != null ? builder.address : DEFAULT_ADDRESS;
-        this.tags = builder.tags != null ? builder.tags : new HashSet<>();
+        this.tags = builder.tags != null ? builder.tags : TagSet.EMPTY;
         this.personBuilder = builder;
     }
 
@@ -330,18 +333,18 @@ public class Person {
     }
 
     /**
-     * Trims and converts the given email to lowercase for consistent comparison.
+     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
      */
-    private String normalizeEmail(String email) {
-        return email.trim().toLowerCase();
+    public Set<Tag> getTags() {
+        return tags;
     }
 
     /**
-     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns the tags of this person as a {@link TagSet}, for id-based tag operations.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTagSet() {
+        return tags;
     }
 
     /**
@@ -358,18 +361,16 @@ public class Person {
             return true;
         }
 
-        // normalize names (case-insensitive, trimmed)
-        String thisName = Name.normalizeForIdentity(this.getName().fullName);
-        String otherName = Name.normalizeForIdentity(otherPerson.getName().fullName);
-        if (!thisName.equals(otherName)) {
+        // names are compared by their canonical keys (case-insensitive, trimmed)
+        if (!getName().getIdentityKey().equals(otherPerson.getName().getIdentityKey())) {
             return false;
         }
 
-        // normalize contact values
-        String thisPhone = Phone.normalizeForIdentity(getPhone().value);
-        String otherPhone = Phone.normalizeForIdentity(otherPerson.getPhone().value);
-        String thisEmail = normalizeEmail(getEmail().value);
-        String otherEmail = normalizeEmail(otherPerson.getEmail().value);
+        // canonical contact values
+        String thisPhone = getPhone().getIdentityKey();
+        String otherPhone = otherPerson.getPhone().getIdentityKey();
+        String thisEmail = getEmail().getIdentityKey();
+        String otherEmail = otherPerson.getEmail().getIdentityKey();
 
 
         // identify real contacts
@@ -411,7 +412,12 @@ public class Person {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, email, address, tags);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(name, phone, email, address, tags);
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -7,12 +7,14 @@ import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s tags includes any of the given tags.
  */
 public class PersonContainsTagPredicate implements Predicate<Person> {
     private final Set<Tag> tags;
+    private final TagSet tagSet;
 
     /**
      * Constructs a {@code NameContainsTagPredicate}
@@ -22,11 +24,12 @@ public class PersonContainsTagPredicate implements Predicate<Person> {
         this.tags = Set.copyOf(tags);
         // Make a copy to ensure that modifying object passed into parameter does not
         // result in unexpected side effects in this predicate
+        this.tagSet = TagSet.of(this.tags);
     }
 
     @Override
     public boolean test(Person person) {
-        return tags.stream().anyMatch(tag -> person.getTags().contains(tag));
+        return tagSet.countCommon(person.getTagSet()) > 0;
     }
 
     public Set<Tag> getTags() {
@@ -0,0 +1,154 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+
+/**
+ * Hash index over the identity fields of the persons in a {@link UniquePersonList}.
+ * <p>
+ * Each person contributes one key per way in which another person could be considered the same as it by
+ * {@link Person#isSamePerson(Person)}: normalized name plus real phone, normalized name plus real email,
+ * or normalized name alone when both phone and email are defaults. Two persons are the same person
+ * exactly when they share at least one key, so a duplicate check is a handful of hash lookups instead
+ * of a scan over the whole list.
+ * <p>
+ * Keys are counted rather than stored once, because an edit that keeps a person's identity is allowed to
+ * overlap with another person's keys and both must survive the removal of either.
+ */
+class PersonIdentityIndex {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final char PHONE_KEY = 'p';
+    private static final char EMAIL_KEY = 'e';
+    private static final char DEFAULT_CONTACT_KEY = 'd';
+
+    private final Multiset<String> keys = HashMultiset.create();
+
+    /**
+     * Returns true if some indexed person is the same person as {@code person}.
+     */
+    boolean containsSamePerson(Person person) {
+        requireNonNull(person);
+        for (String key : identityKeys(person)) {
+            if (keys.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the identity keys of {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        keys.addAll(identityKeys(person));
+    }
+
+    /**
+     * Removes one occurrence of each identity key of {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String key : identityKeys(person)) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with those of {@code other}.
+     */
+    void setAll(PersonIdentityIndex other) {
+        requireNonNull(other);
+        keys.clear();
+        keys.addAll(other.keys);
+    }
+
+    void clear() {
+        keys.clear();
+    }
+
+    /**
+     * Adds every person in {@code persons} to the index in a single pass and returns the groups of persons
+     * in {@code persons} that are the same person as one another.
+     * Persons that are linked through a chain of shared keys end up in the same group. Groups and the
+     * persons within them are in the order of their first appearance in {@code persons}.
+     * An empty result means {@code persons} contains no duplicates.
+     */
+    List<List<Person>> addAllAndFindDuplicates(List<Person> persons) {
+        requireNonNull(persons);
+        int[] parent = new int[persons.size()];
+        Map<String, Integer> firstOwner = new HashMap<>();
+        boolean hasDuplicates = false;
+
+        for (int i = 0; i < persons.size(); i++) {
+            parent[i] = i;
+            for (String key : identityKeys(persons.get(i))) {
+                keys.add(key);
+                Integer owner = firstOwner.putIfAbsent(key, i);
+                if (owner != null) {
+                    union(parent, owner, i);
+                    hasDuplicates = true;
+                }
+            }
+        }
+
+        if (!hasDuplicates) {
+            return List.of();
+        }
+
+        Map<Integer, List<Person>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            groups.computeIfAbsent(find(parent, i), unused -> new ArrayList<>()).add(persons.get(i));
+        }
+        return groups.values().stream().filter(group -> group.size() > 1).toList();
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        // keep the earliest position as the root so that groups are ordered by first appearance
+        parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+    }
+
+    /**
+     * Returns the keys under which {@code person} is indexed.
+     * Mirrors the rules of {@link Person#isSamePerson(Person)}.
+     */
+    static List<String> identityKeys(Person person) {
+        String name = person.getName().getIdentityKey();
+        String phone = person.getPhone().getIdentityKey();
+        String email = person.getEmail().getIdentityKey();
+
+        boolean hasRealPhone = !phone.equals(Person.DEFAULT_PHONE.value);
+        boolean hasRealEmail = !email.equals(Person.DEFAULT_EMAIL.value);
+
+        List<String> result = new ArrayList<>(2);
+        if (hasRealPhone) {
+            result.add(name + SEPARATOR + PHONE_KEY + phone);
+        }
+        if (hasRealEmail) {
+            result.add(name + SEPARATOR + EMAIL_KEY + email);
+        }
+        if (!hasRealPhone && !hasRealEmail) {
+            result.add(name + SEPARATOR + DEFAULT_CONTACT_KEY);
+        }
+        return result;
+    }
+}
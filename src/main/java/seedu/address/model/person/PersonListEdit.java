@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+/**
+ * A single reversible change made to a {@link UniquePersonList}, expressed in terms of person ids.
+ * Edits are recorded so that an open transaction can be rolled back and a committed change can be undone.
+ */
+interface PersonListEdit {
+
+    /**
+     * Returns roughly how much memory keeping this edit costs, in units of one person or pairing.
+     */
+    default int cost() {
+        return 1;
+    }
+
+    /**
+     * Reverts this edit on {@code list}. Edits must be undone in the reverse order in which they were made.
+     */
+    void undo(UniquePersonList list);
+
+    /**
+     * Re-applies this edit on {@code list} after it has been undone.
+     */
+    void redo(UniquePersonList list);
+
+    /**
+     * {@code person} was inserted under {@code id}.
+     */
+    record Insertion(int id, Person person) implements PersonListEdit {
+        @Override
+        public void undo(UniquePersonList list) {
+            list.removeById(id);
+        }
+
+        @Override
+        public void redo(UniquePersonList list) {
+            list.insertWithId(id, person);
+        }
+    }
+
+    /**
+     * The person under {@code id} was replaced from {@code before} to {@code after}.
+     */
+    record Replacement(int id, Person before, Person after) implements PersonListEdit {
+        @Override
+        public void undo(UniquePersonList list) {
+            list.replaceById(id, before);
+        }
+
+        @Override
+        public void redo(UniquePersonList list) {
+            list.replaceById(id, after);
+        }
+    }
+
+    /**
+     * {@code person} under {@code id} was removed together with its pairings to {@code partnerIds}.
+     */
+    record Removal(int id, Person person, int[] partnerIds) implements PersonListEdit {
+        @Override
+        public int cost() {
+            return 1 + partnerIds.length;
+        }
+
+        @Override
+        public void undo(UniquePersonList list) {
+            list.insertWithId(id, person);
+            for (int partnerId : partnerIds) {
+                list.setPairedById(id, partnerId, true);
+            }
+        }
+
+        @Override
+        public void redo(UniquePersonList list) {
+            list.removeById(id);
+        }
+    }
+
+    /**
+     * The pairing between {@code a} and {@code b} was created ({@code isPaired}) or removed.
+     */
+    record PairingChange(int a, int b, boolean isPaired) implements PersonListEdit {
+        @Override
+        public void undo(UniquePersonList list) {
+            list.setPairedById(a, b, !isPaired);
+        }
+
+        @Override
+        public void redo(UniquePersonList list) {
+            list.setPairedById(a, b, isPaired);
+        }
+    }
+
+    /**
+     * The whole list was replaced, from {@code before} to {@code after}.
+     */
+    record Reset(State before, State after) implements PersonListEdit {
+        @Override
+        public int cost() {
+            // the snapshots share storage with the list, but either may end up being the only holder of it
+            return 1 + before.snapshot().size() + after.snapshot().size();
+        }
+
+        @Override
+        public void undo(UniquePersonList list) {
+            list.restoreState(before);
+        }
+
+        @Override
+        public void redo(UniquePersonList list) {
+            list.restoreState(after);
+        }
+    }
+
+    /**
+     * The complete contents of a {@link UniquePersonList}: a snapshot of its persons, their ids and their
+     * pairings, and the next id it would hand out.
+     */
+    record State(PersonListSnapshot snapshot, int nextId) {}
+}
@@ -0,0 +1,186 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * An immutable copy of the persons of a {@link UniquePersonList} and their pairings, as they were when
+ * {@link UniquePersonList#snapshot()} was called.
+ * <p>
+ * A snapshot shares its storage with the list it was taken from, so taking one costs O(1), and the list
+ * carries on changing without affecting it. It can therefore be read, for example to save or export the
+ * address book, while the list is being edited, including from another thread.
+ */
+public final class PersonListSnapshot implements Iterable<Person> {
+
+    private static final int[] NO_PARTNERS = new int[0];
+
+    private final PersistentIdMap<Entry> entries;
+
+    // derived lazily, as most readers only iterate over the persons once
+    private volatile List<Person> persons;
+    private volatile Map<Person, Entry> entriesByPerson;
+
+    PersonListSnapshot(PersistentIdMap<Entry> entries) {
+        this.entries = entries.snapshot();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns an iterator over the persons in the order of the list the snapshot was taken from.
+     */
+    @Override
+    public Iterator<Person> iterator() {
+        Iterator<Entry> entryIterator = entries.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entryIterator.hasNext();
+            }
+
+            @Override
+            public Person next() {
+                return entryIterator.next().person();
+            }
+        };
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons, in the order of the list the snapshot was taken from.
+     */
+    public List<Person> asList() {
+        List<Person> result = persons;
+        if (result == null) {
+            List<Person> list = new ArrayList<>(size());
+            for (Person person : this) {
+                list.add(person);
+            }
+            result = Collections.unmodifiableList(list);
+            persons = result;
+        }
+        return result;
+    }
+
+    public boolean contains(Person person) {
+        requireNonNull(person);
+        return entriesByPerson().containsKey(person);
+    }
+
+    /**
+     * Returns the persons paired to {@code person}.
+     * @throws PersonNotFoundException if {@code person} is not in this snapshot.
+     */
+    public Set<Person> getPairedPersons(Person person) {
+        int[] partnerIds = getEntry(person).partnerIds();
+        Person[] partners = new Person[partnerIds.length];
+        for (int i = 0; i < partners.length; i++) {
+            partners[i] = entries.get(partnerIds[i]).person();
+        }
+        return Set.of(partners);
+    }
+
+    /**
+     * Returns true if {@code a} and {@code b} are paired.
+     * @throws PersonNotFoundException if either person is not in this snapshot.
+     */
+    public boolean isPaired(Person a, Person b) {
+        Entry entryOfB = getEntry(b);
+        return Arrays.binarySearch(getEntry(a).partnerIds(), entryOfB.id()) >= 0;
+    }
+
+    /**
+     * Performs {@code action} once for every pairing, passing the person that comes earlier in the list first.
+     */
+    public void forEachPairing(BiConsumer<Person, Person> action) {
+        requireNonNull(action);
+        for (Entry entry : entries) {
+            // the list is sorted by id, so larger ids are the partners that come later in the list
+            for (int partnerId : entry.partnerIds()) {
+                if (partnerId > entry.id()) {
+                    action.accept(entry.person(), entries.get(partnerId).person());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the entries of this snapshot, which iterate in increasing order of id.
+     */
+    PersistentIdMap<Entry> entries() {
+        return entries;
+    }
+
+    private Entry getEntry(Person person) {
+        requireNonNull(person);
+        Entry entry = entriesByPerson().get(person);
+        if (entry == null) {
+            throw new PersonNotFoundException();
+        }
+        return entry;
+    }
+
+    private Map<Person, Entry> entriesByPerson() {
+        Map<Person, Entry> result = entriesByPerson;
+        if (result == null) {
+            Map<Person, Entry> map = new HashMap<>();
+            for (Entry entry : entries) {
+                map.put(entry.person(), entry);
+            }
+            result = map;
+            entriesByPerson = result;
+        }
+        return result;
+    }
+
+    /**
+     * The person under {@code id} in a {@link UniquePersonList} and the sorted ids of its partners.
+     * Entries are immutable, so they can be shared between a list and its snapshots.
+     */
+    record Entry(int id, Person person, int[] partnerIds) {
+
+        Entry(int id, Person person) {
+            this(id, person, NO_PARTNERS);
+        }
+
+        Entry withPerson(Person newPerson) {
+            return new Entry(id, newPerson, partnerIds);
+        }
+
+        /**
+         * Returns this entry with {@code partnerId} added to or removed from its partners.
+         */
+        Entry withPartner(int partnerId, boolean isPaired) {
+            int position = Arrays.binarySearch(partnerIds, partnerId);
+            if (isPaired == position >= 0) {
+                return this;
+            }
+            int[] newPartnerIds;
+            if (isPaired) {
+                int insertAt = -position - 1;
+                newPartnerIds = new int[partnerIds.length + 1];
+                System.arraycopy(partnerIds, 0, newPartnerIds, 0, insertAt);
+                newPartnerIds[insertAt] = partnerId;
+                System.arraycopy(partnerIds, insertAt, newPartnerIds, insertAt + 1, partnerIds.length - insertAt);
+            } else {
+                newPartnerIds = new int[partnerIds.length - 1];
+                System.arraycopy(partnerIds, 0, newPartnerIds, 0, position);
+                System.arraycopy(partnerIds, position + 1, newPartnerIds, position, newPartnerIds.length - position);
+            }
+            return new Entry(id, person, newPartnerIds);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * Array-backed observable list of persons whose modifications can be grouped into a single change notification.
+ * <p>
+ * Between {@link #beginBatch()} and the matching {@link #endBatch()}, every modification is collected instead of
+ * being published, and listeners receive one combined change when the outermost batch ends. This lets
+ * downstream views such as {@code FilteredList}, {@code SortedList} and the UI re-evaluate once per batch
+ * rather than once per modification.
+ */
+class PersonObservableList extends ModifiableObservableListBase<Person> {
+
+    private final List<Person> persons = new ArrayList<>();
+
+    /**
+     * Starts collecting modifications into a single change. Batches may be nested.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the innermost batch, publishing the combined change if it was the outermost one.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Removes the persons at {@code positions} by compacting the list in a single pass, and publishes one change
+     * with a removal for each run of consecutive positions.
+     */
+    void removeAt(BitSet positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        beginChange();
+        int kept = positions.nextSetBit(0);
+        int read = kept;
+        while (read < persons.size()) {
+            if (positions.get(read)) {
+                int runEnd = Math.min(positions.nextClearBit(read), persons.size());
+                // earlier runs are already gone, so this run now starts at the end of the kept persons
+                nextRemove(kept, new ArrayList<>(persons.subList(read, runEnd)));
+                read = runEnd;
+            } else {
+                persons.set(kept++, persons.get(read++));
+            }
+        }
+        persons.subList(kept, persons.size()).clear();
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        return persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Person element) {
+        persons.add(index, element);
+    }
+
+    @Override
+    protected Person doSet(int index, Person element) {
+        return persons.set(index, element);
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        return persons.remove(index);
+    }
+}
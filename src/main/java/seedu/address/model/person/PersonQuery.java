@@ -0,0 +1,450 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable query over the persons of an address book, built from conditions on a single field joined with
+ * AND, OR and NOT. Conditions are created with the static factory methods of this class.
+ * <p>
+ * A query only describes which persons match. How they are found is decided by the planner behind
+ * {@link UniquePersonList#matchQuery(PersonQuery)}, which looks conditions up in the list's indexes where it can
+ * and tests the remaining ones person by person. The string form of a query is in the syntax of the
+ * {@code query} command.
+ */
+public abstract class PersonQuery {
+
+    /**
+     * How a number of partners is compared against a bound.
+     */
+    public enum Comparison {
+        EQUAL("="),
+        LESS("<"),
+        LESS_OR_EQUAL("<="),
+        GREATER(">"),
+        GREATER_OR_EQUAL(">=");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns true if {@code value} compares to {@code bound} in this way.
+         */
+        public boolean holds(int value, int bound) {
+            switch (this) {
+            case EQUAL:
+                return value == bound;
+            case LESS:
+                return value < bound;
+            case LESS_OR_EQUAL:
+                return value <= bound;
+            case GREATER:
+                return value > bound;
+            default:
+                return value >= bound;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code person}, who has {@code partnerCount} partners, matches this query.
+     */
+    abstract boolean test(Person person, int partnerCount);
+
+    /**
+     * Persons whose name contains {@code keyword}, ignoring case.
+     */
+    public static PersonQuery name(String keyword) {
+        return new NameTerm(keyword);
+    }
+
+    /**
+     * Persons tagged with {@code tag}.
+     */
+    public static PersonQuery tag(Tag tag) {
+        return new TagTerm(tag);
+    }
+
+    /**
+     * Persons of the given entry type.
+     */
+    public static PersonQuery type(EntryType type) {
+        return new TypeTerm(type);
+    }
+
+    /**
+     * Persons whose number of partners compares to {@code bound} as {@code comparison} specifies.
+     */
+    public static PersonQuery partners(Comparison comparison, int bound) {
+        return new PartnerCountTerm(comparison, bound);
+    }
+
+    /**
+     * Persons with at least one partner.
+     */
+    public static PersonQuery paired() {
+        return partners(Comparison.GREATER, 0);
+    }
+
+    /**
+     * Persons without partners.
+     */
+    public static PersonQuery unpaired() {
+        return partners(Comparison.EQUAL, 0);
+    }
+
+    /**
+     * Persons whose phone number contains {@code digits}.
+     */
+    public static PersonQuery phone(String digits) {
+        return new PhoneTerm(digits);
+    }
+
+    /**
+     * Persons whose email contains {@code text}, ignoring case.
+     */
+    public static PersonQuery email(String text) {
+        return new EmailTerm(text);
+    }
+
+    /**
+     * Persons matching every one of {@code operands}, of which there must be at least one.
+     */
+    public static PersonQuery and(List<PersonQuery> operands) {
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    /**
+     * Persons matching any of {@code operands}, of which there must be at least one.
+     */
+    public static PersonQuery or(List<PersonQuery> operands) {
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    /**
+     * Persons not matching {@code operand}.
+     */
+    public static PersonQuery not(PersonQuery operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * A condition on the name.
+     */
+    static final class NameTerm extends PersonQuery {
+        final String keyword;
+
+        NameTerm(String keyword) {
+            requireNonNull(keyword);
+            this.keyword = keyword;
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof NameTerm && keyword.equals(((NameTerm) other).keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return keyword.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "name:" + quoted(keyword);
+        }
+    }
+
+    /**
+     * A condition on the tags.
+     */
+    static final class TagTerm extends PersonQuery {
+        final Tag tag;
+
+        TagTerm(Tag tag) {
+            requireNonNull(tag);
+            this.tag = tag;
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return person.getTagSet().containsId(tag.getId());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof TagTerm && tag.equals(((TagTerm) other).tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return tag.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "tag:" + tag.tagName;
+        }
+    }
+
+    /**
+     * A condition on the entry type.
+     */
+    static final class TypeTerm extends PersonQuery {
+        final EntryType type;
+
+        TypeTerm(EntryType type) {
+            requireNonNull(type);
+            this.type = type;
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return type == EntryType.STUDENT ? person instanceof Student : person instanceof Volunteer;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof TypeTerm && type == ((TypeTerm) other).type;
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "type:" + type.name().toLowerCase();
+        }
+    }
+
+    /**
+     * A condition on the number of partners.
+     */
+    static final class PartnerCountTerm extends PersonQuery {
+        final Comparison comparison;
+        final int bound;
+
+        PartnerCountTerm(Comparison comparison, int bound) {
+            requireNonNull(comparison);
+            this.comparison = comparison;
+            this.bound = bound;
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return comparison.holds(partnerCount, bound);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof PartnerCountTerm)) {
+                return false;
+            }
+            PartnerCountTerm o = (PartnerCountTerm) other;
+            return comparison == o.comparison && bound == o.bound;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(comparison, bound);
+        }
+
+        @Override
+        public String toString() {
+            return "partners" + comparison.getSymbol() + bound;
+        }
+    }
+
+    /**
+     * A condition on the phone number.
+     */
+    static final class PhoneTerm extends PersonQuery {
+        final String digits;
+
+        PhoneTerm(String digits) {
+            requireNonNull(digits);
+            this.digits = digits;
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return person.getPhone().value.contains(digits);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof PhoneTerm && digits.equals(((PhoneTerm) other).digits);
+        }
+
+        @Override
+        public int hashCode() {
+            return digits.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "phone:" + quoted(digits);
+        }
+    }
+
+    /**
+     * A condition on the email.
+     */
+    static final class EmailTerm extends PersonQuery {
+        final String text;
+        private final String lowerCaseText;
+
+        EmailTerm(String text) {
+            requireNonNull(text);
+            this.text = text;
+            this.lowerCaseText = text.toLowerCase();
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return person.getEmail().value.toLowerCase().contains(lowerCaseText);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof EmailTerm && text.equals(((EmailTerm) other).text);
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "email:" + quoted(text);
+        }
+    }
+
+    /**
+     * Persons matching every operand.
+     */
+    static final class And extends PersonQuery {
+        final List<PersonQuery> operands;
+
+        And(List<PersonQuery> operands) {
+            requireNonNull(operands);
+            assert !operands.isEmpty();
+            this.operands = List.copyOf(operands);
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return operands.stream().allMatch(operand -> operand.test(person, partnerCount));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof And && operands.equals(((And) other).operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(PersonQuery::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * Persons matching any operand.
+     */
+    static final class Or extends PersonQuery {
+        final List<PersonQuery> operands;
+
+        Or(List<PersonQuery> operands) {
+            requireNonNull(operands);
+            assert !operands.isEmpty();
+            this.operands = List.copyOf(operands);
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return operands.stream().anyMatch(operand -> operand.test(person, partnerCount));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof Or && operands.equals(((Or) other).operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(PersonQuery::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * Persons not matching the operand.
+     */
+    static final class Not extends PersonQuery {
+        final PersonQuery operand;
+
+        Not(PersonQuery operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        @Override
+        boolean test(Person person, int partnerCount) {
+            return !operand.test(person, partnerCount);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || other instanceof Not && operand.equals(((Not) other).operand);
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    private static String quoted(String value) {
+        return value.chars().anyMatch(c -> Character.isWhitespace(c) || c == '(' || c == ')')
+                ? '"' + value + '"'
+                : value;
+    }
+}
@@ -23,6 +23,9 @@ public class Phone {
     public static final String VALIDATION_REGEX = "^\\+?\\d(?:[ -]?\\d){2,}$";
     public final String value;
 
+    /** Canonical form of {@code value}, computed once; see {@link #normalizeForIdentity(String)}. */
+    private final String identityKey;
+
     /**
      * Constructs a {@code Phone}.
      *
@@ -33,6 +36,7 @@ public class Phone {
         String s = phone.trim();
         checkArgument(isValidPhone(s), MESSAGE_CONSTRAINTS);
         this.value = s;
+        this.identityKey = canonicalize(s);
     }
 
     /**
@@ -40,7 +44,40 @@ public class Phone {
      */
     public static boolean isValidPhone(String test) {
         requireNonNull(test);
-        return test.trim().matches(VALIDATION_REGEX);
+        // hand-written equivalent of VALIDATION_REGEX applied to test.trim(), without copying the string
+        int end = test.length();
+        int i = 0;
+        while (i < end && test.charAt(i) <= ' ') {
+            i++;
+        }
+        while (end > i && test.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (i < end && test.charAt(i) == '+') {
+            i++;
+        }
+        int digits = 0;
+        while (i < end) {
+            char c = test.charAt(i);
+            if (digits > 0 && (c == ' ' || c == '-')) {
+                // a separator must sit between two digits
+                i++;
+                if (i == end) {
+                    return false;
+                }
+                c = test.charAt(i);
+            }
+            if (!isAsciiDigit(c)) {
+                return false;
+            }
+            digits++;
+            i++;
+        }
+        return digits >= 3;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     /** Canonicalize: remove spaces/dashes; preserve a single leading '+', if present. */
@@ -56,6 +93,13 @@ public class Phone {
         return canonicalize(s.trim());
     }
 
+    /**
+     * Returns the canonical form of this phone number used for equality and identity comparison.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -74,12 +118,12 @@ public class Phone {
 
         Phone otherPhone = (Phone) other;
         // Compare using normalized forms so "+65 123-456" == "+65123456" and "123 456" == "123-456"
-        return normalizeForIdentity(this.value).equals(normalizeForIdentity(otherPhone.value));
+        return identityKey.equals(otherPhone.identityKey);
     }
 
     @Override
     public int hashCode() {
-        return normalizeForIdentity(this.value).hashCode();
+        return identityKey.hashCode();
     }
 
 }
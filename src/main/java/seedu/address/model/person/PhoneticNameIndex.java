@@ -0,0 +1,258 @@
+package seedu.address.model.person;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index from the phonetic codes of the words of the persons' canonical names ({@link Name#getIdentityKey()})
+ * in a {@link UniquePersonList} to the sorted ids of the persons whose name contains a word with that code.
+ * <p>
+ * Codes are computed by {@link #encode(String)}, a Metaphone-style reduction of a word to its consonant
+ * sounds, so that spellings which sound alike, such as "Mohammed" and "Muhammad", share a code and are
+ * found with a single hash lookup per query word.
+ */
+class PhoneticNameIndex {
+
+    private static final String VOWELS = "aeiouy";
+
+    private final Map<String, IdPosting> postings = new HashMap<>();
+    /** Incremented on every change, so that query results can tell when they are out of date. */
+    private int version = 0;
+
+    /**
+     * Indexes the words of {@code name} under the person id {@code id}.
+     */
+    void add(int id, Name name) {
+        for (String code : codes(name)) {
+            postings.computeIfAbsent(code, unused -> new IdPosting()).add(id);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the words of {@code name}, previously indexed under {@code id}.
+     */
+    void remove(int id, Name name) {
+        for (String code : codes(name)) {
+            IdPosting posting = postings.get(code);
+            if (posting != null && posting.remove(id) && posting.size() == 0) {
+                postings.remove(code);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Returns, in ascending order, the ids of the persons whose name has a word with each of {@code codes},
+     * which must not be empty.
+     */
+    int[] lookup(Set<String> codes) {
+        assert !codes.isEmpty();
+        IdPosting[] lists = new IdPosting[codes.size()];
+        int i = 0;
+        for (String code : codes) {
+            lists[i] = postings.get(code);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+            i++;
+        }
+        return IdPosting.intersect(lists);
+    }
+
+    int version() {
+        return version;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(PhoneticNameIndex other) {
+        postings.clear();
+        other.postings.forEach((code, posting) -> postings.put(code, posting.copy()));
+        version++;
+    }
+
+    void clear() {
+        postings.clear();
+        version++;
+    }
+
+    /**
+     * Returns the distinct phonetic codes of the words of {@code name}.
+     */
+    static Set<String> codes(Name name) {
+        return codesOf(name.getIdentityKey());
+    }
+
+    /**
+     * Returns the distinct phonetic codes of the space-separated words of an already canonical string.
+     */
+    static Set<String> codesOf(String canonical) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (String word : FuzzyNameIndex.splitWords(canonical)) {
+            codes.add(encode(word));
+        }
+        return codes;
+    }
+
+    /**
+     * Returns the phonetic code of a lower-case {@code word}.
+     * <p>
+     * Only the letters {@code a} to {@code z} are encoded. Vowels are dropped except at the start of the word,
+     * where any vowel becomes {@code A}, and letters that sound alike share a code: {@code ph}, {@code f} and
+     * {@code v} become {@code F}, {@code c}, {@code k}, {@code q} and {@code ch} before {@code r} become {@code K},
+     * soft {@code c}, {@code s} and {@code z} become {@code S}, {@code ch} and {@code sh} become {@code X}, soft
+     * {@code g}, {@code dg} and {@code j} become {@code J}, {@code d}, {@code t} and {@code th} become {@code T},
+     * and {@code h} and {@code w} are kept only between a vowel or the start of the word and a vowel.
+     * Repeated codes are collapsed. A word without any of these letters is its own code.
+     */
+    static String encode(String word) {
+        StringBuilder letters = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                letters.append(c);
+            }
+        }
+        if (letters.length() == 0) {
+            return word;
+        }
+        String s = skipSilentStart(letters.toString());
+
+        StringBuilder code = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            char next = i + 1 < s.length() ? s.charAt(i + 1) : 0;
+            char afterNext = i + 2 < s.length() ? s.charAt(i + 2) : 0;
+            switch (c) {
+            case 'a':
+            case 'e':
+            case 'i':
+            case 'o':
+            case 'u':
+            case 'y':
+                if (i == 0) {
+                    append(code, 'A');
+                }
+                break;
+            case 'b':
+                append(code, 'B');
+                break;
+            case 'c':
+                if (next == 'h') {
+                    append(code, afterNext == 'r' ? 'K' : 'X');
+                    i++;
+                } else if (next == 'e' || next == 'i' || next == 'y') {
+                    append(code, 'S');
+                } else {
+                    append(code, 'K');
+                }
+                break;
+            case 'd':
+                if (next == 'g' && isSoft(afterNext)) {
+                    append(code, 'J');
+                    i++;
+                } else {
+                    append(code, 'T');
+                }
+                break;
+            case 'f':
+            case 'v':
+                append(code, 'F');
+                break;
+            case 'g':
+                if (next == 'h') {
+                    // "gh" is silent unless it starts a syllable, as in "ghana"
+                    if (isVowel(afterNext)) {
+                        append(code, 'K');
+                    }
+                    i++;
+                } else if (isSoft(next)) {
+                    append(code, 'J');
+                } else {
+                    append(code, 'K');
+                }
+                break;
+            case 'h':
+            case 'w':
+                if ((i == 0 || isVowel(s.charAt(i - 1))) && isVowel(next)) {
+                    append(code, Character.toUpperCase(c));
+                }
+                break;
+            case 'j':
+                append(code, 'J');
+                break;
+            case 'k':
+            case 'q':
+                append(code, 'K');
+                break;
+            case 'p':
+                if (next == 'h') {
+                    append(code, 'F');
+                    i++;
+                } else {
+                    append(code, 'P');
+                }
+                break;
+            case 's':
+                if (next == 'h') {
+                    append(code, 'X');
+                    i++;
+                } else {
+                    append(code, 'S');
+                }
+                break;
+            case 't':
+                append(code, 'T');
+                if (next == 'h') {
+                    i++;
+                }
+                break;
+            case 'x':
+                append(code, 'K');
+                append(code, 'S');
+                break;
+            case 'z':
+                append(code, 'S');
+                break;
+            default:
+                // l, m, n and r sound as written
+                append(code, Character.toUpperCase(c));
+                break;
+            }
+        }
+        return code.length() == 0 ? "A" : code.toString();
+    }
+
+    /**
+     * Drops the silent first letter of {@code kn}, {@code gn}, {@code pn}, {@code ps} and {@code wr} at the start
+     * of {@code s}, and turns a leading {@code x} into {@code s}.
+     */
+    private static String skipSilentStart(String s) {
+        if (s.length() >= 2) {
+            String start = s.substring(0, 2);
+            if (start.equals("kn") || start.equals("gn") || start.equals("pn") || start.equals("ps")
+                    || start.equals("wr")) {
+                return s.substring(1);
+            }
+        }
+        return s.charAt(0) == 'x' ? "s" + s.substring(1) : s;
+    }
+
+    private static void append(StringBuilder code, char c) {
+        if (code.length() == 0 || code.charAt(code.length() - 1) != c) {
+            code.append(c);
+        }
+    }
+
+    private static boolean isVowel(char c) {
+        return c != 0 && VOWELS.indexOf(c) >= 0;
+    }
+
+    private static boolean isSoft(char c) {
+        return c == 'e' || c == 'i' || c == 'y';
+    }
+}
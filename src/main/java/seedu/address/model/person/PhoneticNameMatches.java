@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The persons of a {@link UniquePersonList} whose name has, for every word of a query, a word that sounds
+ * like it, resolved through the list's phonetic name index.
+ * <p>
+ * Two words sound alike when they have the same {@link PhoneticNameIndex#encode(String) phonetic code}, so
+ * "Mohammed" finds "Muhammad" and "Stephen" finds "Steven". Matches are recomputed lazily the first time they
+ * are needed after the list's names change, so a {@code PhoneticNameMatches} can be kept as the predicate of
+ * a filtered view of the list. Matches are held as the ids of the persons, which are kept across edits, so a
+ * person edited in a field other than the name keeps matching. A person that is not in the list is reported as
+ * not matching.
+ */
+public class PhoneticNameMatches implements Predicate<Person> {
+
+    private final UniquePersonList persons;
+    private final String query;
+    private final Set<String> queryCodes;
+
+    private BitSet matched;
+    private int matchedVersion;
+
+    PhoneticNameMatches(UniquePersonList persons, String query) {
+        requireNonNull(persons);
+        requireNonNull(query);
+        this.persons = persons;
+        this.query = query;
+        this.queryCodes = PhoneticNameIndex.codesOf(Name.normalizeForIdentity(query));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        PhoneticNameIndex index = persons.getPhoneticNameIndex();
+        if (matched == null || matchedVersion != index.version()) {
+            matched = resolve(index);
+            matchedVersion = index.version();
+        }
+        int id = persons.findId(person);
+        return id >= 0 && matched.get(id);
+    }
+
+    private BitSet resolve(PhoneticNameIndex index) {
+        BitSet result = new BitSet();
+        if (queryCodes.isEmpty()) {
+            return result;
+        }
+        for (int id : index.lookup(queryCodes)) {
+            result.set(id);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * A pairing between a student and a volunteer that has been proposed but not yet made.
+ */
+public record ProposedPairing(Person student, Person volunteer) {
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ProposedPairing {
+        requireAllNonNull(student, volunteer);
+    }
+
+    /**
+     * Returns the number of tags the student and the volunteer have in common, which is how
+     * {@code findtag} ranks persons.
+     */
+    public int countCommonTags() {
+        return student.getTagSet().countCommon(volunteer.getTagSet());
+    }
+
+    @Override
+    public String toString() {
+        return student.getName() + " - " + volunteer.getName();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The persons of a {@link UniquePersonList} matching a {@link PersonQuery}, found by a {@link QueryPlan}.
+ * <p>
+ * The query is planned and executed again the first time the matches are needed after the list or its pairings
+ * change, so a {@code QueryMatches} can be kept as the predicate of a filtered view of the list. Matches are
+ * held as a set of persons compared by identity, so testing a person costs a single identity hash probe, and
+ * as the ids the plan returned, so they can be listed in list order.
+ * A person that is not in the list is reported as not matching.
+ */
+public class QueryMatches implements Predicate<Person>, IdMatches {
+
+    private final UniquePersonList persons;
+    private final PersonQuery query;
+
+    private QueryPlan plan;
+    private Set<Person> matched;
+    private BitSet matchedIds;
+    private int matchedVersion;
+
+    QueryMatches(UniquePersonList persons, PersonQuery query) {
+        requireNonNull(persons);
+        requireNonNull(query);
+        this.persons = persons;
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        return resolve().contains(person);
+    }
+
+    @Override
+    public BitSet getMatchedIds(UniquePersonList list) {
+        if (list != persons) {
+            return null;
+        }
+        resolve();
+        return matchedIds;
+    }
+
+    /**
+     * Returns the plan by which the matches were found, one step per line, with the number of persons each step
+     * was given and let through and the time it took.
+     */
+    public String explain() {
+        resolve();
+        return plan.explain();
+    }
+
+    private Set<Person> resolve() {
+        if (matched == null || matchedVersion != persons.version()) {
+            plan = new QueryPlan(persons, query);
+            BitSet ids = plan.execute();
+            Set<Person> result = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                result.add(persons.getPersonById(id));
+            }
+            matched = result;
+            matchedIds = ids;
+            matchedVersion = persons.version();
+        }
+        return matched;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
@@ -0,0 +1,316 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Execution plan of a {@link PersonQuery} over the persons of a {@link UniquePersonList}.
+ * <p>
+ * Every node of the plan turns a domain of person ids into the ids of the domain that match it. Tags are looked
+ * up in the tag index, names of at least three characters in the trigram name index and numbers of partners in
+ * the degree index; other conditions are tested person by person, but only against the ids that are still in the
+ * domain. The operands of an AND are executed index lookups first and smallest estimated result first, each one
+ * narrowing the domain of the next, so a scan usually only visits the few persons that the cheaper operands let
+ * through. A NOT of an index lookup is the complement of its ids and needs no scan either.
+ * <p>
+ * Executing the plan records, for every node, how many ids went in and came out and how long it took, which
+ * {@link #explain()} reports.
+ */
+class QueryPlan {
+
+    private final UniquePersonList persons;
+    private final int personCount;
+    private final Node root;
+
+    QueryPlan(UniquePersonList persons, PersonQuery query) {
+        this.persons = persons;
+        this.personCount = persons.asUnmodifiableObservableList().size();
+        this.root = plan(query);
+    }
+
+    /**
+     * Returns the ids of the persons matching the query.
+     */
+    BitSet execute() {
+        return root.execute(persons.getLiveIds());
+    }
+
+    /**
+     * Returns the plan as an indented tree, one node per line, with the figures of the last execution.
+     */
+    String explain() {
+        StringBuilder builder = new StringBuilder();
+        root.describe(builder, 0);
+        return builder.toString();
+    }
+
+    private Node plan(PersonQuery query) {
+        if (query instanceof PersonQuery.TagTerm) {
+            return new TagLookup((PersonQuery.TagTerm) query);
+        }
+        if (query instanceof PersonQuery.PartnerCountTerm) {
+            return new DegreeLookup((PersonQuery.PartnerCountTerm) query);
+        }
+        if (query instanceof PersonQuery.NameTerm
+                && ((PersonQuery.NameTerm) query).keyword.length() >= NameIndex.GRAM_LENGTH) {
+            return new NameLookup((PersonQuery.NameTerm) query);
+        }
+        if (query instanceof PersonQuery.And) {
+            return new AndNode(planAll(((PersonQuery.And) query).operands));
+        }
+        if (query instanceof PersonQuery.Or) {
+            return new OrNode(planAll(((PersonQuery.Or) query).operands));
+        }
+        if (query instanceof PersonQuery.Not) {
+            return new NotNode(plan(((PersonQuery.Not) query).operand));
+        }
+        return new Scan(query);
+    }
+
+    private List<Node> planAll(List<PersonQuery> queries) {
+        List<Node> nodes = new ArrayList<>();
+        for (PersonQuery query : queries) {
+            nodes.add(plan(query));
+        }
+        // index lookups first, then the smallest estimated results, so the domain shrinks as early as possible
+        nodes.sort(Comparator.comparing((Node node) -> node.needsScan).thenComparingInt(node -> node.estimate));
+        return nodes;
+    }
+
+    /**
+     * A step of the plan.
+     */
+    private abstract class Node {
+        /** True if executing this node tests persons one by one rather than only combining index postings. */
+        final boolean needsScan;
+        /** Estimated number of ids in the result, before narrowing to a domain. */
+        final int estimate;
+
+        private int rowsIn;
+        private int rowsOut;
+        private long nanos;
+
+        Node(boolean needsScan, int estimate) {
+            this.needsScan = needsScan;
+            this.estimate = estimate;
+        }
+
+        final BitSet execute(BitSet domain) {
+            long start = System.nanoTime();
+            BitSet result = run(domain);
+            nanos = System.nanoTime() - start;
+            rowsIn = domain.cardinality();
+            rowsOut = result.cardinality();
+            return result;
+        }
+
+        /**
+         * Returns the ids in {@code domain} that match this node, without modifying {@code domain}.
+         */
+        abstract BitSet run(BitSet domain);
+
+        abstract String label();
+
+        void describe(StringBuilder builder, int depth) {
+            builder.append("  ".repeat(depth)).append(label())
+                    .append(String.format(" (est %d, %d -> %d rows, %.3f ms)\n",
+                            estimate, rowsIn, rowsOut, nanos / 1e6));
+        }
+    }
+
+    private class TagLookup extends Node {
+        private final PersonQuery.TagTerm term;
+
+        TagLookup(PersonQuery.TagTerm term) {
+            super(false, persons.getTagIndex().posting(term.tag.getId()).cardinality());
+            this.term = term;
+        }
+
+        @Override
+        BitSet run(BitSet domain) {
+            BitSet result = (BitSet) persons.getTagIndex().posting(term.tag.getId()).clone();
+            result.and(domain);
+            return result;
+        }
+
+        @Override
+        String label() {
+            return term + " via tag index";
+        }
+    }
+
+    private class NameLookup extends Node {
+        private final PersonQuery.NameTerm term;
+        private final String lowerCaseKeyword;
+
+        NameLookup(PersonQuery.NameTerm term) {
+            this(term, term.keyword.toLowerCase());
+        }
+
+        private NameLookup(PersonQuery.NameTerm term, String lowerCaseKeyword) {
+            super(false, persons.getNameIndex().estimate(lowerCaseKeyword));
+            this.term = term;
+            this.lowerCaseKeyword = lowerCaseKeyword;
+        }
+
+        @Override
+        BitSet run(BitSet domain) {
+            BitSet result = new BitSet();
+            for (int id : persons.getNameIndex().candidates(lowerCaseKeyword)) {
+                // a keyword that is a single trigram matches every candidate
+                if (domain.get(id) && (lowerCaseKeyword.length() == NameIndex.GRAM_LENGTH
+                        || persons.getPersonById(id).getName().fullName.toLowerCase().contains(lowerCaseKeyword))) {
+                    result.set(id);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        String label() {
+            return term + " via name trigram index";
+        }
+    }
+
+    private class DegreeLookup extends Node {
+        private final PersonQuery.PartnerCountTerm term;
+
+        DegreeLookup(PersonQuery.PartnerCountTerm term) {
+            super(false, persons.getDegreeIndex().count(term.comparison, term.bound));
+            this.term = term;
+        }
+
+        @Override
+        BitSet run(BitSet domain) {
+            BitSet result = persons.getDegreeIndex().matching(term.comparison, term.bound);
+            result.and(domain);
+            return result;
+        }
+
+        @Override
+        String label() {
+            return term + " via degree index";
+        }
+    }
+
+    private class Scan extends Node {
+        private final PersonQuery query;
+
+        Scan(PersonQuery query) {
+            super(true, personCount);
+            this.query = query;
+        }
+
+        @Override
+        BitSet run(BitSet domain) {
+            BitSet result = new BitSet();
+            for (int id = domain.nextSetBit(0); id >= 0; id = domain.nextSetBit(id + 1)) {
+                if (query.test(persons.getPersonById(id), persons.getPairedCountById(id))) {
+                    result.set(id);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        String label() {
+            return query + " via scan";
+        }
+    }
+
+    private class AndNode extends Node {
+        private final List<Node> operands;
+
+        AndNode(List<Node> operands) {
+            super(operands.stream().allMatch(node -> node.needsScan),
+                    operands.stream().mapToInt(node -> node.estimate).min().orElse(0));
+            this.operands = operands;
+        }
+
+        @Override
+        BitSet run(BitSet domain) {
+            BitSet result = domain;
+            for (Node operand : operands) {
+                result = operand.execute(result);
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result == domain ? (BitSet) domain.clone() : result;
+        }
+
+        @Override
+        String label() {
+            return "AND";
+        }
+
+        @Override
+        void describe(StringBuilder builder, int depth) {
+            super.describe(builder, depth);
+            operands.forEach(operand -> operand.describe(builder, depth + 1));
+        }
+    }
+
+    private class OrNode extends Node {
+        private final List<Node> operands;
+
+        OrNode(List<Node> operands) {
+            super(operands.stream().anyMatch(node -> node.needsScan),
+                    (int) Math.min(personCount, operands.stream().mapToLong(node -> node.estimate).sum()));
+            this.operands = operands;
+        }
+
+        @Override
+        BitSet run(BitSet domain) {
+            BitSet result = new BitSet();
+            BitSet remaining = (BitSet) domain.clone();
+            for (Node operand : operands) {
+                // ids already matched need not be tested again by the operands that follow
+                BitSet matched = operand.execute(remaining);
+                result.or(matched);
+                remaining.andNot(matched);
+            }
+            return result;
+        }
+
+        @Override
+        String label() {
+            return "OR";
+        }
+
+        @Override
+        void describe(StringBuilder builder, int depth) {
+            super.describe(builder, depth);
+            operands.forEach(operand -> operand.describe(builder, depth + 1));
+        }
+    }
+
+    private class NotNode extends Node {
+        private final Node operand;
+
+        NotNode(Node operand) {
+            super(operand.needsScan, operand.needsScan ? personCount : Math.max(0, personCount - operand.estimate));
+            this.operand = operand;
+        }
+
+        @Override
+        BitSet run(BitSet domain) {
+            BitSet result = (BitSet) domain.clone();
+            result.andNot(operand.execute(domain));
+            return result;
+        }
+
+        @Override
+        String label() {
+            return operand.needsScan ? "NOT" : "NOT via complement";
+        }
+
+        @Override
+        void describe(StringBuilder builder, int depth) {
+            super.describe(builder, depth);
+            operand.describe(builder, depth + 1);
+        }
+    }
+}
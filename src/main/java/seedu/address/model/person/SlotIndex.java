@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Maps person ids to their current position (slot) in a {@link UniquePersonList}.
+ * <p>
+ * Ids are handed out in increasing order as persons are appended and are kept across edits, so the persons
+ * in the list are always sorted by id. The slot of an id is therefore the number of live ids smaller than it,
+ * which a Fenwick tree over the id space answers in O(log n). Removing a person only clears its own entry;
+ * the slots of everyone behind it shift implicitly instead of being rewritten.
+ */
+class SlotIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BitSet live = new BitSet();
+    /** 1-based Fenwick tree of live counts over ids [0, capacity). */
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int size = 0;
+
+    /**
+     * Marks {@code id} as live.
+     */
+    void add(int id) {
+        assert !contains(id) : "id is already live";
+        if (id >= capacity()) {
+            grow(id + 1);
+        }
+        live.set(id);
+        size++;
+        for (int i = id + 1; i < tree.length; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    /**
+     * Marks {@code id} as no longer live.
+     */
+    void remove(int id) {
+        if (!contains(id)) {
+            throw new PersonNotFoundException();
+        }
+        live.clear(id);
+        size--;
+        for (int i = id + 1; i < tree.length; i += i & -i) {
+            tree[i]--;
+        }
+    }
+
+    boolean contains(int id) {
+        return id >= 0 && live.get(id);
+    }
+
+    /**
+     * Returns the smallest live id at or after {@code fromId}, or -1 if there is none.
+     */
+    int nextLive(int fromId) {
+        return live.nextSetBit(fromId);
+    }
+
+    /**
+     * Returns the largest live id at or before {@code fromId}, or -1 if there is none.
+     */
+    int previousLive(int fromId) {
+        return live.previousSetBit(fromId);
+    }
+
+    /**
+     * Returns a copy of the set of live ids.
+     */
+    BitSet liveIds() {
+        return (BitSet) live.clone();
+    }
+
+    /**
+     * Returns the current slot of the live id {@code id}.
+     */
+    int slotOf(int id) {
+        if (!contains(id)) {
+            throw new PersonNotFoundException();
+        }
+        int slot = 0;
+        for (int i = id; i > 0; i -= i & -i) {
+            slot += tree[i];
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the number of live ids.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Replaces the contents of this index with ids {@code 0 .. count - 1}, all live.
+     */
+    void reset(int count) {
+        live.clear();
+        live.set(0, count);
+        size = count;
+        rebuild(Math.max(INITIAL_CAPACITY, count));
+    }
+
+    /**
+     * Replaces the contents of this index with {@code liveIds}, all live.
+     */
+    void reset(int[] liveIds) {
+        live.clear();
+        int maxId = -1;
+        for (int id : liveIds) {
+            live.set(id);
+            maxId = Math.max(maxId, id);
+        }
+        size = liveIds.length;
+        rebuild(Math.max(INITIAL_CAPACITY, maxId + 1));
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(SlotIndex other) {
+        live.clear();
+        live.or(other.live);
+        size = other.size;
+        tree = Arrays.copyOf(other.tree, other.tree.length);
+    }
+
+    private int capacity() {
+        return tree.length - 1;
+    }
+
+    private void grow(int minCapacity) {
+        rebuild(Math.max(minCapacity, capacity() * 2));
+    }
+
+    /**
+     * Rebuilds the Fenwick tree from {@code live} in linear time.
+     */
+    private void rebuild(int newCapacity) {
+        tree = new int[newCapacity + 1];
+        for (int id = live.nextSetBit(0); id >= 0; id = live.nextSetBit(id + 1)) {
+            tree[id + 1] = 1;
+        }
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Inverted index from tag ids to the ids of the persons in a {@link UniquePersonList} carrying that tag.
+ * <p>
+ * Each posting list is a bitmap over person ids. Person ids are dense, so a bitmap costs one bit per person
+ * in the book and a query never has to look at persons that carry none of the queried tags.
+ */
+class TagIndex {
+
+    private static final BitSet NO_PERSONS = new BitSet();
+
+    /** postings[tagId] holds the ids of the persons tagged with tagId; null if there are none yet. */
+    private BitSet[] postings = new BitSet[0];
+    /** Incremented on every change, so that query results can tell when they are out of date. */
+    private int version = 0;
+
+    /**
+     * Records that the person {@code personId} carries {@code tags}.
+     */
+    void add(int personId, TagSet tags) {
+        tags.forEachId(tagId -> postingForUpdate(tagId).set(personId));
+        version++;
+    }
+
+    /**
+     * Records that the person {@code personId} no longer carries {@code tags}.
+     */
+    void remove(int personId, TagSet tags) {
+        tags.forEachId(tagId -> posting(tagId).clear(personId));
+        version++;
+    }
+
+    /**
+     * Returns the ids of the persons tagged with {@code tagId}. The result must not be modified.
+     */
+    BitSet posting(int tagId) {
+        return tagId < postings.length && postings[tagId] != null ? postings[tagId] : NO_PERSONS;
+    }
+
+    /**
+     * Returns, for every person id below {@code idBound}, how many of the tags in {@code query} the person carries.
+     * The posting lists of the queried tags are walked once each; persons outside them are never visited.
+     */
+    int[] countMatches(TagSet query, int idBound) {
+        int[] counts = new int[idBound];
+        query.forEachId(tagId -> {
+            BitSet posting = posting(tagId);
+            for (int id = posting.nextSetBit(0); id >= 0 && id < idBound; id = posting.nextSetBit(id + 1)) {
+                counts[id]++;
+            }
+        });
+        return counts;
+    }
+
+    int version() {
+        return version;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    void setAll(TagIndex other) {
+        postings = new BitSet[other.postings.length];
+        for (int tagId = 0; tagId < postings.length; tagId++) {
+            if (other.postings[tagId] != null) {
+                postings[tagId] = (BitSet) other.postings[tagId].clone();
+            }
+        }
+        version++;
+    }
+
+    void clear() {
+        postings = new BitSet[0];
+        version++;
+    }
+
+    private BitSet postingForUpdate(int tagId) {
+        if (tagId >= postings.length) {
+            postings = Arrays.copyOf(postings, Math.max(tagId + 1, postings.length * 2));
+        }
+        if (postings[tagId] == null) {
+            postings[tagId] = new BitSet();
+        }
+        return postings[tagId];
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * The persons of a {@link UniquePersonList} that carry any of a set of tags, resolved through the list's
+ * inverted tag index, together with the number of those tags each of them carries.
+ * <p>
+ * Counts are computed for the whole list in one pass over the posting lists of the queried tags, and are
+ * recomputed lazily the first time they are needed after the list's tags change, so a {@code TagMatches}
+ * can be kept as the predicate of a filtered view of the list. The order in which matching persons are listed
+ * is likewise worked out once from the counts, by a single sort of packed (count, id) keys, so that ordering
+ * the view only reads back each person's rank.
+ */
+public class TagMatches implements Predicate<Person>, IdMatches {
+
+    private final UniquePersonList persons;
+    private final TagSet query;
+
+    private int[] counts;
+    private int[] ranks;
+    private BitSet matchedIds;
+    private int countsVersion;
+
+    TagMatches(UniquePersonList persons, Set<Tag> tags) {
+        requireNonNull(persons);
+        requireNonNull(tags);
+        this.persons = persons;
+        this.query = TagSet.of(tags);
+    }
+
+    /**
+     * Returns how many of the queried tags {@code person} carries.
+     */
+    public int getMatchCount(Person person) {
+        requireNonNull(person);
+        int id = persons.findId(person);
+        if (id < 0) {
+            // not in the list, so not in the index either
+            return query.countCommon(person.getTagSet());
+        }
+        refreshCounts();
+        return counts[id];
+    }
+
+    /**
+     * Returns the position of {@code person} among the matching persons of the list, listed by descending number
+     * of queried tags carried and then in the order in which they were added to the list. Returns
+     * {@code Integer.MAX_VALUE} if {@code person} does not match or is not in the list.
+     */
+    public int getRank(Person person) {
+        requireNonNull(person);
+        int id = persons.findId(person);
+        if (id < 0) {
+            return Integer.MAX_VALUE;
+        }
+        refreshCounts();
+        if (ranks == null) {
+            ranks = rank(counts);
+        }
+        return ranks[id];
+    }
+
+    private void refreshCounts() {
+        TagIndex index = persons.getTagIndex();
+        if (counts == null || countsVersion != index.version()) {
+            counts = index.countMatches(query, persons.getIdBound());
+            ranks = null;
+            matchedIds = null;
+            countsVersion = index.version();
+        }
+    }
+
+    @Override
+    public BitSet getMatchedIds(UniquePersonList list) {
+        if (list != persons) {
+            return null;
+        }
+        refreshCounts();
+        if (matchedIds == null) {
+            matchedIds = new BitSet(counts.length);
+            for (int id = 0; id < counts.length; id++) {
+                if (counts[id] > 0) {
+                    matchedIds.set(id);
+                }
+            }
+        }
+        return matchedIds;
+    }
+
+    /**
+     * Returns the rank of every id with a nonzero count, by descending count and then ascending id.
+     */
+    private static int[] rank(int[] counts) {
+        // negated count in the high half and id in the low half, so ascending keys give the wanted order
+        long[] keys = new long[counts.length];
+        int matchCount = 0;
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                keys[matchCount++] = ((long) -counts[id] << 32) | id;
+            }
+        }
+        Arrays.sort(keys, 0, matchCount);
+
+        int[] ranks = new int[counts.length];
+        Arrays.fill(ranks, Integer.MAX_VALUE);
+        for (int rank = 0; rank < matchCount; rank++) {
+            ranks[(int) keys[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns true if {@code person} carries at least one of the queried tags.
+     */
+    @Override
+    public boolean test(Person person) {
+        return getMatchCount(person) > 0;
+    }
+
+    public Set<Tag> getTags() {
+        return query;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tags", query).toString();
+    }
+}
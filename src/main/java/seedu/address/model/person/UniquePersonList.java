@@ -3,46 +3,93 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.PersonListEdit.State;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 //@@author c-j-lh:reused
 //ChatGPT-5 with minor modifications
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
+ * <p>
+ * Changes can be grouped into transactions with {@link #beginTransaction()}, {@link #commitTransaction()} and
+ * {@link #rollbackTransaction()}. Listeners of {@link #asUnmodifiableObservableList()} are notified once per
+ * outermost transaction, and a rolled back transaction leaves the list as it was when the transaction began.
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    /** Default capacity of the undo history, in units of {@link PersonListEdit#cost()}. */
+    public static final long DEFAULT_HISTORY_CAPACITY = 2_000_000;
+
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
     private final BiMap<Person, Integer> ids = HashBiMap.create();
     private int nextId = 0;
+    private final SlotIndex slots = new SlotIndex();
+
+    private final PairingGraph links = new PairingGraph();
+    private final DegreeIndex degreeIndex = new DegreeIndex();
+    private final ComponentIndex componentIndex = new ComponentIndex();
+    /** The persons and their pairings again, in persistent form so that snapshots of them are cheap. */
+    private final PersistentIdMap<PersonListSnapshot.Entry> entries = new PersistentIdMap<>();
+
+    private PersonIdentityIndex identityIndex = new PersonIdentityIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex();
+    private final PhoneticNameIndex phoneticNameIndex = new PhoneticNameIndex();
+    /** Incremented on every change to the persons or their pairings, so query results can tell they are stale. */
+    private int version = 0;
+
+    /** Edits made since the outermost open transaction began. */
+    private final List<PersonListEdit> transactionLog = new ArrayList<>();
+    /** Position in {@code transactionLog} at which each open transaction began, innermost on top. */
+    private final Deque<Integer> transactionStarts = new ArrayDeque<>();
+
+    private final EditHistory history;
+
+    public UniquePersonList() {
+        this(DEFAULT_HISTORY_CAPACITY);
+    }
 
-    private final SetMultimap<Integer, Integer> links = HashMultimap.create();
+    /**
+     * Creates an empty list whose undo history keeps edits of a total cost of at most {@code historyCapacity}.
+     */
+    UniquePersonList(long historyCapacity) {
+        history = new EditHistory(historyCapacity);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsSamePerson(toCheck);
     }
 
     /**
@@ -53,75 +100,629 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
-        ids.put(toAdd, nextId++);
+        int id = nextId++;
+        insertWithId(id, toAdd);
+        record(new PersonListEdit.Insertion(id, toAdd));
     }
 
+    /**
+     * Replaces the person {@code target} in the list with {@code editedPerson}, keeping its position and pairings.
+     */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        int id = getId(target);
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        // migrate id FIRST, so listeners triggered by internalList.set(...) can resolve editedPerson
-        Integer id = ids.remove(target);
-        if (id == null) {
-            throw new PersonNotFoundException();
-        }
-        ids.put(editedPerson, id);
-
-        internalList.set(index, editedPerson);
+        Person before = replaceById(id, editedPerson);
+        record(new PersonListEdit.Replacement(id, before, editedPerson));
     }
 
-
-
     /**
      * Removes the equivalent person from the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        int id = getId(toRemove);
+        int[] partnerIds = new int[links.degree(id)];
+        for (int i = 0; i < partnerIds.length; i++) {
+            partnerIds[i] = links.neighbour(id, i);
+        }
+
+        Person removed = removeById(id);
+        record(new PersonListEdit.Removal(id, removed, partnerIds));
+    }
+
+    /**
+     * Removes the equivalents of all of {@code toRemove} from the list, along with their pairings.
+     * The list is compacted in a single pass, so listeners receive one change however many persons are removed.
+     *
+     * @throws PersonNotFoundException if any of them is not in the list, in which case nothing is removed.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        BitSet idsToRemove = new BitSet();
+        for (Person person : toRemove) {
+            idsToRemove.set(getId(person));
         }
-        Integer id = ids.remove(toRemove);
-        if (id != null) {
-            unpairAllById(id);
+        BitSet positions = new BitSet();
+        for (int id = idsToRemove.nextSetBit(0); id >= 0; id = idsToRemove.nextSetBit(id + 1)) {
+            positions.set(slots.slotOf(id));
         }
+
+        for (int id = idsToRemove.nextSetBit(0); id >= 0; id = idsToRemove.nextSetBit(id + 1)) {
+            int[] partnerIds = new int[links.degree(id)];
+            for (int i = 0; i < partnerIds.length; i++) {
+                partnerIds[i] = links.neighbour(id, i);
+            }
+            Person removed = detachById(id);
+            record(new PersonListEdit.Removal(id, removed, partnerIds));
+        }
+        internalList.removeAt(positions);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        State before = captureState();
+        identityIndex.setAll(replacement.identityIndex);
         ids.clear();
         ids.putAll(replacement.ids);
         nextId = replacement.nextId;
-        links.clear();
-        links.putAll(replacement.links);
+        slots.setAll(replacement.slots);
+        links.setAll(replacement.links);
+        degreeIndex.setAll(replacement.degreeIndex);
+        componentIndex.markStale();
+        entries.setAll(replacement.entries);
+        tagIndex.setAll(replacement.tagIndex);
+        nameIndex.setAll(replacement.nameIndex);
+        fuzzyNameIndex.setAll(replacement.fuzzyNameIndex);
+        phoneticNameIndex.setAll(replacement.phoneticNameIndex);
+        version++;
+        internalList.setAll(replacement.internalList);
+        recordReset(before);
     }
 
+    /**
+     * Replaces the contents of this list with {@code persons}, dropping all pairings.
+     * Uniqueness is validated and the identity index is built in a single hashed pass over {@code persons}.
+     *
+     * @throws DuplicatePersonException listing every group of duplicates if {@code persons} contains any,
+     *     in which case this list is left unchanged.
+     */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        PersonIdentityIndex newIdentityIndex = new PersonIdentityIndex();
+        List<List<Person>> duplicateGroups = newIdentityIndex.addAllAndFindDuplicates(persons);
+        if (!duplicateGroups.isEmpty()) {
+            throw new DuplicatePersonException(duplicateGroups);
         }
-        internalList.setAll(persons);
+        State before = captureState();
+        identityIndex = newIdentityIndex;
         ids.clear();
         nextId = 0;
-        for (Person p : internalList) {
+        for (Person p : persons) {
             ids.put(p, nextId++);
         }
+        slots.reset(nextId);
         links.clear();
+        rebuildEntries();
+        rebuildSearchIndexes();
+        version++;
+        internalList.setAll(persons);
+        recordReset(before);
     }
 
     public ObservableList<Person> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable copy of the persons in this list and their pairings, in O(1).
+     * Later changes to this list do not affect the snapshot.
+     */
+    public PersonListSnapshot snapshot() {
+        return new PersonListSnapshot(entries);
+    }
+
+    //// transactions
+
+    /**
+     * Opens a transaction. Until the matching {@link #commitTransaction()} or {@link #rollbackTransaction()},
+     * changes to this list are recorded and list change notifications are held back.
+     * Transactions may be nested.
+     */
+    public void beginTransaction() {
+        transactionStarts.push(transactionLog.size());
+        internalList.beginBatch();
+    }
+
+    /**
+     * Closes the innermost open transaction, keeping its changes.
+     * If it was the outermost transaction, listeners receive a single change covering all of them.
+     */
+    public void commitTransaction() {
+        if (transactionStarts.isEmpty()) {
+            throw new IllegalStateException("no open transaction");
+        }
+        transactionStarts.pop();
+        if (transactionStarts.isEmpty()) {
+            transactionLog.clear();
+        }
+        internalList.endBatch();
+    }
+
+    /**
+     * Closes the innermost open transaction, reverting every change made since it was opened.
+     */
+    public void rollbackTransaction() {
+        if (transactionStarts.isEmpty()) {
+            throw new IllegalStateException("no open transaction");
+        }
+        int start = transactionStarts.pop();
+        List<PersonListEdit> edits = transactionLog.subList(start, transactionLog.size());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).undo(this);
+        }
+        history.discardLast(edits.size());
+        edits.clear();
+        internalList.endBatch();
+    }
+
+    public boolean isInTransaction() {
+        return !transactionStarts.isEmpty();
+    }
+
+    private void record(PersonListEdit edit) {
+        if (isInTransaction()) {
+            transactionLog.add(edit);
+        }
+        history.record(edit);
+    }
+
+    private void recordReset(State before) {
+        record(new PersonListEdit.Reset(before, captureState()));
+    }
+
+    //// undo history
+
+    /**
+     * Ends the current undo step: the changes made since the previous call are undone together by
+     * {@link #undo()}. Committing a step with changes discards any steps that could be redone.
+     * Does nothing while a transaction is open, as a step cannot end part way through a transaction.
+     */
+    public void commitHistory() {
+        if (!isInTransaction()) {
+            history.commit();
+        }
+    }
+
+    /**
+     * Returns true if there is a committed step to undo.
+     */
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    /**
+     * Returns true if there is an undone step to redo.
+     */
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Reverts the most recent committed step by applying the inverse of each of its changes.
+     * Listeners are notified once.
+     *
+     * @throws IllegalStateException if there is no step to undo, or a transaction or step is in progress.
+     */
+    public void undo() {
+        checkHistoryUsable(history.canUndo());
+        internalList.beginBatch();
+        history.undo(this);
+        internalList.endBatch();
+    }
+
+    /**
+     * Re-applies the most recently undone step. Listeners are notified once.
+     *
+     * @throws IllegalStateException if there is no step to redo, or a transaction or step is in progress.
+     */
+    public void redo() {
+        checkHistoryUsable(history.canRedo());
+        internalList.beginBatch();
+        history.redo(this);
+        internalList.endBatch();
+    }
+
+    /**
+     * Forgets all steps that could be undone or redone.
+     */
+    public void clearHistory() {
+        history.clear();
+    }
+
+    private void checkHistoryUsable(boolean hasStep) {
+        if (!hasStep) {
+            throw new IllegalStateException("no step to undo or redo");
+        }
+        if (isInTransaction()) {
+            throw new IllegalStateException("cannot undo or redo during a transaction");
+        }
+        // changes made since the last commit would otherwise be lost from the history
+        history.commit();
+    }
+
+    //// id-level operations, shared by the public operations and by undoing or redoing recorded edits
+
+    /**
+     * Inserts {@code person} under {@code id}, at the position implied by its id.
+     */
+    void insertWithId(int id, Person person) {
+        identityIndex.add(person);
+        ids.put(person, id);
+        slots.add(id);
+        degreeIndex.add(id, 0);
+        componentIndex.add(id);
+        entries.put(id, new PersonListSnapshot.Entry(id, person));
+        tagIndex.add(id, person.getTagSet());
+        nameIndex.add(id, person.getName());
+        fuzzyNameIndex.add(id, person.getName());
+        phoneticNameIndex.add(id, person.getName());
+        version++;
+        internalList.add(slots.slotOf(id), person);
+    }
+
+    /**
+     * Replaces the person under {@code id} with {@code person} and returns the person it replaced.
+     */
+    Person replaceById(int id, Person person) {
+        Person before = getPersonById(id);
+        int index = slots.slotOf(id);
+
+        // migrate id FIRST, so listeners triggered by internalList.set(...) can resolve the new person
+        ids.remove(before);
+        ids.put(person, id);
+
+        identityIndex.remove(before);
+        identityIndex.add(person);
+        entries.put(id, entries.get(id).withPerson(person));
+        if (!before.getTagSet().equals(person.getTagSet())) {
+            tagIndex.remove(id, before.getTagSet());
+            tagIndex.add(id, person.getTagSet());
+        }
+        if (!before.getName().equals(person.getName())) {
+            nameIndex.remove(id, before.getName());
+            nameIndex.add(id, person.getName());
+            fuzzyNameIndex.remove(id, before.getName());
+            fuzzyNameIndex.add(id, person.getName());
+            phoneticNameIndex.remove(id, before.getName());
+            phoneticNameIndex.add(id, person.getName());
+        }
+        version++;
+        internalList.set(index, person);
+        return before;
+    }
+
+    /**
+     * Removes the person under {@code id} along with all its pairings and returns it.
+     */
+    Person removeById(int id) {
+        int index = slots.slotOf(id);
+        Person removed = detachById(id);
+        internalList.remove(index);
+        return removed;
+    }
+
+    /**
+     * Removes the person under {@code id} and all its pairings from everything but {@code internalList}, and
+     * returns it. The caller must remove the person from {@code internalList}.
+     */
+    private Person detachById(int id) {
+        Person removed = getPersonById(id);
+
+        identityIndex.remove(removed);
+        ids.remove(removed);
+        slots.remove(id);
+        links.forEachNeighbour(id, partnerId -> {
+            setEntriesPaired(partnerId, id, false);
+            degreeIndex.move(partnerId, links.degree(partnerId), links.degree(partnerId) - 1);
+        });
+        degreeIndex.remove(id, links.degree(id));
+        if (links.degree(id) == 1) {
+            componentIndex.detach(id);
+        } else if (links.degree(id) > 1) {
+            componentIndex.markStale();
+        }
+        entries.remove(id);
+        links.removeNode(id);
+        tagIndex.remove(id, removed.getTagSet());
+        nameIndex.remove(id, removed.getName());
+        fuzzyNameIndex.remove(id, removed.getName());
+        phoneticNameIndex.remove(id, removed.getName());
+        version++;
+        return removed;
+    }
+
+    void setPairedById(int a, int b, boolean isPaired) {
+        if (links.hasEdge(a, b) == isPaired) {
+            return;
+        }
+        if (isPaired) {
+            links.addEdge(a, b);
+        } else {
+            links.removeEdge(a, b);
+        }
+        pairingChanged(a, b, isPaired);
+    }
+
+    /**
+     * Brings everything derived from the pairings up to date after the edge between {@code a} and {@code b}
+     * was added to or removed from {@code links}.
+     */
+    private void pairingChanged(int a, int b, boolean isPaired) {
+        setEntriesPaired(a, b, isPaired);
+        int change = isPaired ? 1 : -1;
+        degreeIndex.move(a, links.degree(a) - change, links.degree(a));
+        degreeIndex.move(b, links.degree(b) - change, links.degree(b));
+        if (isPaired) {
+            componentIndex.union(a, b);
+        } else if (links.degree(a) == 0) {
+            componentIndex.detach(a);
+        } else if (links.degree(b) == 0) {
+            componentIndex.detach(b);
+        } else {
+            // both still have partners, so the component may or may not have split
+            componentIndex.markStale();
+        }
+        version++;
+    }
+
+    private void setEntriesPaired(int a, int b, boolean isPaired) {
+        entries.put(a, entries.get(a).withPartner(b, isPaired));
+        entries.put(b, entries.get(b).withPartner(a, isPaired));
+    }
+
+    private State captureState() {
+        return new State(snapshot(), nextId);
+    }
+
+    void restoreState(State state) {
+        PersonListSnapshot snapshot = state.snapshot();
+        List<Person> persons = snapshot.asList();
+        PersonIdentityIndex newIdentityIndex = new PersonIdentityIndex();
+        newIdentityIndex.addAllAndFindDuplicates(persons);
+        identityIndex = newIdentityIndex;
+        ids.clear();
+        links.clear();
+        int[] idsInOrder = new int[persons.size()];
+        int slot = 0;
+        for (PersonListSnapshot.Entry entry : snapshot.entries()) {
+            ids.put(entry.person(), entry.id());
+            idsInOrder[slot++] = entry.id();
+            for (int partnerId : entry.partnerIds()) {
+                if (partnerId > entry.id()) {
+                    links.addEdge(entry.id(), partnerId);
+                }
+            }
+        }
+        slots.reset(idsInOrder);
+        entries.setAll(snapshot.entries());
+        nextId = state.nextId();
+        rebuildSearchIndexes();
+        version++;
+        internalList.setAll(persons);
+    }
+
+    private void rebuildEntries() {
+        entries.clear();
+        ids.forEach((person, id) -> {
+            int[] partnerIds = new int[links.degree(id)];
+            for (int i = 0; i < partnerIds.length; i++) {
+                partnerIds[i] = links.neighbour(id, i);
+            }
+            entries.put(id, new PersonListSnapshot.Entry(id, person, partnerIds));
+        });
+    }
+
+    private void rebuildSearchIndexes() {
+        componentIndex.markStale();
+        degreeIndex.clear();
+        tagIndex.clear();
+        nameIndex.clear();
+        fuzzyNameIndex.clear();
+        phoneticNameIndex.clear();
+        ids.forEach((person, id) -> {
+            degreeIndex.add(id, links.degree(id));
+            tagIndex.add(id, person.getTagSet());
+            nameIndex.add(id, person.getName());
+            fuzzyNameIndex.add(id, person.getName());
+            phoneticNameIndex.add(id, person.getName());
+        });
+    }
+
+    //// search queries
+
+    /**
+     * Returns the persons in this list whose name contains any of {@code keywords}, ignoring case,
+     * resolved through the name index. The result stays valid as this list changes.
+     */
+    public NameMatches matchNames(List<String> keywords) {
+        requireNonNull(keywords);
+        return new NameMatches(this, keywords);
+    }
+
+    /**
+     * Returns the persons in this list tagged with any of {@code tags}, resolved through the tag index.
+     * The result stays valid as this list changes.
+     */
+    public TagMatches matchTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        return new TagMatches(this, tags);
+    }
+
+    /**
+     * Returns the persons in this list whose name approximately contains every word of {@code query},
+     * resolved through the BK-tree of name words. The result stays valid as this list changes.
+     */
+    public FuzzyNameMatches matchNamesFuzzy(String query) {
+        requireNonNull(query);
+        return new FuzzyNameMatches(this, query);
+    }
+
+    /**
+     * Returns the persons in this list whose name has a word that sounds like each word of {@code query},
+     * resolved through the phonetic name index. The result stays valid as this list changes.
+     */
+    public PhoneticNameMatches matchNamesPhonetic(String query) {
+        requireNonNull(query);
+        return new PhoneticNameMatches(this, query);
+    }
+
+    /**
+     * Returns the persons in this list matching {@code query}, found by a plan that looks conditions up in this
+     * list's indexes before testing persons one by one. The result stays valid as this list changes.
+     */
+    public QueryMatches matchQuery(PersonQuery query) {
+        requireNonNull(query);
+        return new QueryMatches(this, query);
+    }
+
+    //// matching
+
+    /**
+     * Returns a largest set of new pairings between the unpaired students and the unpaired volunteers in this list,
+     * in which a student and a volunteer are only paired if they share a tag and nobody gets more than one partner.
+     * Persons who already have partners keep them and are left out. The proposal is ordered by student, and only
+     * depends on the contents and order of this list. This list is not changed.
+     */
+    public List<ProposedPairing> proposeMatching() {
+        List<Person> students = new ArrayList<>();
+        List<Person> volunteers = new ArrayList<>();
+        BitSet unpaired = degreeIndex.matching(PersonQuery.Comparison.EQUAL, 0);
+        for (int id = unpaired.nextSetBit(0); id >= 0; id = unpaired.nextSetBit(id + 1)) {
+            Person person = getPersonById(id);
+            if (person instanceof Student) {
+                students.add(person);
+            } else if (person instanceof Volunteer) {
+                volunteers.add(person);
+            }
+        }
+
+        int[] volunteerOf = HopcroftKarpMatcher.match(
+                students.stream().map(Person::getTagSet).toList(),
+                volunteers.stream().map(Person::getTagSet).toList());
+        List<ProposedPairing> proposal = new ArrayList<>();
+        for (int s = 0; s < volunteerOf.length; s++) {
+            if (volunteerOf[s] != HopcroftKarpMatcher.UNMATCHED) {
+                proposal.add(new ProposedPairing(students.get(s), volunteers.get(volunteerOf[s])));
+            }
+        }
+        return proposal;
+    }
+
+    /**
+     * Returns an engine that assigns the unpaired students in this list to volunteers sharing tags with them,
+     * each volunteer taking up to {@code capacity} students. The engine works on a snapshot of this list as it
+     * is now, so it can be run on another thread while this list carries on changing.
+     *
+     * @see AssignmentEngine
+     */
+    public AssignmentEngine prepareAssignment(int capacity) {
+        return new AssignmentEngine(snapshot(), capacity);
+    }
+
+    //// clusters
+
+    /**
+     * Returns the clusters of this list: the groups of persons linked to each other through chains of pairings,
+     * such as the students of a volunteer and the other volunteers of those students, each with its first
+     * {@code maxMembersEach} persons. Persons without partners are left out. Larger clusters come first, and
+     * clusters of the same size, like the persons in each cluster, are in list order. Takes near-linear time in
+     * the number of paired persons; the sizes come from the component index, so only the members returned are
+     * looked up.
+     */
+    public List<Cluster> getClusters(int maxMembersEach) {
+        if (componentIndex.isStale()) {
+            componentIndex.rebuild(links, slots.liveIds());
+        }
+        Map<Integer, List<Person>> membersByComponent = new LinkedHashMap<>();
+        Map<Integer, Integer> sizesByComponent = new HashMap<>();
+        // ids ascend in list order
+        BitSet paired = degreeIndex.matching(PersonQuery.Comparison.GREATER, 0);
+        for (int id = paired.nextSetBit(0); id >= 0; id = paired.nextSetBit(id + 1)) {
+            int component = componentIndex.find(id);
+            List<Person> members = membersByComponent.get(component);
+            if (members == null) {
+                int size = componentIndex.componentSize(id);
+                sizesByComponent.put(component, size);
+                members = new ArrayList<>(Math.min(size, maxMembersEach));
+                membersByComponent.put(component, members);
+            }
+            if (members.size() < maxMembersEach) {
+                members.add(getPersonById(id));
+            }
+        }
+        List<Cluster> clusters = new ArrayList<>(membersByComponent.size());
+        membersByComponent.forEach((component, members) ->
+                clusters.add(new Cluster(sizesByComponent.get(component), members)));
+        // stable, so clusters of the same size stay in the order of their first persons
+        clusters.sort(Comparator.comparingInt(Cluster::size).reversed());
+        return clusters;
+    }
+
+    TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    FuzzyNameIndex getFuzzyNameIndex() {
+        return fuzzyNameIndex;
+    }
+
+    PhoneticNameIndex getPhoneticNameIndex() {
+        return phoneticNameIndex;
+    }
+
+    DegreeIndex getDegreeIndex() {
+        return degreeIndex;
+    }
+
+    /**
+     * Returns the ids of the persons in this list.
+     */
+    BitSet getLiveIds() {
+        return slots.liveIds();
+    }
+
+    int getPairedCountById(int id) {
+        return links.degree(id);
+    }
+
+    int version() {
+        return version;
+    }
+
+    /**
+     * Returns the id of {@code person}, or -1 if it is not in this list.
+     */
+    int findId(Person person) {
+        Integer id = ids.get(person);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns a bound on the ids in use; every id in this list is smaller.
+     */
+    int getIdBound() {
+        return nextId;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -149,6 +750,70 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the insertion ordinal of {@code p}. Persons added later have larger ordinals, an edited person
+     * keeps the ordinal of the person it replaced, and the list is always in ascending ordinal order.
+     *
+     * @throws PersonNotFoundException if {@code p} is not in this list.
+     */
+    public int getOrdinal(Person p) {
+        return getId(p);
+    }
+
+    /**
+     * Returns a bound on the ordinals of this list; every person in this list has a smaller ordinal.
+     */
+    public int getOrdinalBound() {
+        return nextId;
+    }
+
+    /**
+     * Returns the person of this list with ordinal {@code ordinal}.
+     *
+     * @throws PersonNotFoundException if no person in this list has that ordinal.
+     */
+    public Person getPersonByOrdinal(int ordinal) {
+        return getPersonById(ordinal);
+    }
+
+    /**
+     * Returns the smallest ordinal at or after {@code fromOrdinal} of a person in this list that {@code filter} may
+     * accept, or -1 if there is none. For matches resolved through the indexes of this list, such as
+     * {@link NameMatches}, {@link TagMatches} and {@link QueryMatches}, this is the next match, found by walking
+     * the ids of the matches. For any other filter, this is the next person of the list, which the caller tests.
+     */
+    public int nextCandidateOrdinal(Predicate<? super Person> filter, int fromOrdinal) {
+        requireNonNull(filter);
+        assert fromOrdinal >= 0;
+        BitSet matched = filter instanceof IdMatches ? ((IdMatches) filter).getMatchedIds(this) : null;
+        int id = matched == null ? slots.nextLive(fromOrdinal) : matched.nextSetBit(fromOrdinal);
+        assert id < 0 || slots.contains(id) : "matches are resolved to live ids";
+        return id;
+    }
+
+    /**
+     * Returns the largest ordinal before {@code toOrdinal} of a person in this list that {@code filter} may
+     * accept, or -1 if there is none, in the same way as {@link #nextCandidateOrdinal(Predicate, int)}.
+     */
+    public int previousCandidateOrdinal(Predicate<? super Person> filter, int toOrdinal) {
+        requireNonNull(filter);
+        assert toOrdinal >= 0;
+        BitSet matched = filter instanceof IdMatches ? ((IdMatches) filter).getMatchedIds(this) : null;
+        int id = matched == null ? slots.previousLive(toOrdinal - 1) : matched.previousSetBit(toOrdinal - 1);
+        assert id < 0 || slots.contains(id) : "matches are resolved to live ids";
+        return id;
+    }
+
+    /**
+     * Returns the position of {@code p} in this list, or -1 if it is not in this list.
+     * Unlike {@link List#indexOf(Object)}, this takes logarithmic time.
+     */
+    public int indexOf(Person p) {
+        requireNonNull(p);
+        Integer id = ids.get(p);
+        return id == null ? -1 : slots.slotOf(id);
+    }
+
     private Integer getId(Person p) {
         requireNonNull(p);
         Integer id = ids.get(p);
@@ -158,7 +823,7 @@ public class UniquePersonList implements Iterable<Person> {
         return id;
     }
 
-    private Person getPersonById(int id) {
+    Person getPersonById(int id) {
         Person p = ids.inverse().get(id);
         if (p == null) {
             throw new PersonNotFoundException();
@@ -181,8 +846,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (!ids.inverse().containsKey(a) || !ids.inverse().containsKey(b)) {
             throw new NoSuchElementException("id not found");
         }
-        links.put(a, b);
-        links.put(b, a);
+        if (!links.hasEdge(a, b)) {
+            links.addEdge(a, b);
+            pairingChanged(a, b, true);
+            record(new PersonListEdit.PairingChange(a, b, true));
+        }
     }
 
     /**
@@ -194,8 +862,10 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     private void unpairById(int a, int b) {
-        links.remove(a, b);
-        links.remove(b, a);
+        if (links.removeEdge(a, b)) {
+            pairingChanged(a, b, false);
+            record(new PersonListEdit.PairingChange(a, b, false));
+        }
     }
 
     /**
@@ -207,11 +877,72 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     private void unpairAllById(int id) {
-        Set<Integer> partners = Set.copyOf(links.get(id));
-        for (Integer other : partners) {
-            links.remove(other, id);
+        while (links.degree(id) > 0) {
+            unpairById(id, links.neighbour(id, 0));
+        }
+    }
+
+    /**
+     * Pairs each person in {@code persons} to the person at the same position in {@code partners}; pairs that
+     * are already paired are skipped. Every person whose pairings changed is refreshed once, and listeners
+     * receive a single change for all of them.
+     *
+     * @throws PersonNotFoundException if any of the persons is not in this list, in which case nothing is paired.
+     */
+    public void pairEach(List<Person> persons, List<Person> partners) {
+        setPairedEach(persons, partners, true);
+    }
+
+    /**
+     * Unpairs each person in {@code persons} from the person at the same position in {@code partners}; pairs
+     * that are not paired are skipped. Every person whose pairings changed is refreshed once, and listeners
+     * receive a single change for all of them.
+     *
+     * @throws PersonNotFoundException if any of the persons is not in this list, in which case nothing is unpaired.
+     */
+    public void unpairEach(List<Person> persons, List<Person> partners) {
+        setPairedEach(persons, partners, false);
+    }
+
+    private void setPairedEach(List<Person> persons, List<Person> partners, boolean isPaired) {
+        requireAllNonNull(persons, partners);
+        if (persons.size() != partners.size()) {
+            throw new IllegalArgumentException("every person needs a partner");
+        }
+        int[] idsOfPersons = new int[persons.size()];
+        int[] idsOfPartners = new int[partners.size()];
+        for (int i = 0; i < idsOfPersons.length; i++) {
+            idsOfPersons[i] = getId(persons.get(i));
+            idsOfPartners[i] = getId(partners.get(i));
+            if (idsOfPersons[i] == idsOfPartners[i]) {
+                throw new IllegalArgumentException("cannot pair with self");
+            }
+        }
+
+        BitSet changedIds = new BitSet();
+        internalList.beginBatch();
+        try {
+            for (int i = 0; i < idsOfPersons.length; i++) {
+                int a = idsOfPersons[i];
+                int b = idsOfPartners[i];
+                if (isPairedById(a, b) == isPaired) {
+                    continue;
+                }
+                if (isPaired) {
+                    pairById(a, b);
+                } else {
+                    unpairById(a, b);
+                }
+                changedIds.set(a);
+                changedIds.set(b);
+            }
+            // setting a person to itself shows its new pairings; in id order, the changes merge into runs
+            for (int id = changedIds.nextSetBit(0); id >= 0; id = changedIds.nextSetBit(id + 1)) {
+                internalList.set(slots.slotOf(id), getPersonById(id));
+            }
+        } finally {
+            internalList.endBatch();
         }
-        links.removeAll(id);
     }
 
     /**
@@ -223,11 +954,7 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     private boolean isPairedById(int a, int b) {
-        return links.get(a).contains(b);
-    }
-
-    private Set<Integer> getPairedIds(int id) {
-        return Collections.unmodifiableSet(new LinkedHashSet<>(links.get(id)));
+        return links.hasEdge(a, b);
     }
 
     /**
@@ -236,19 +963,44 @@ public class UniquePersonList implements Iterable<Person> {
     public Set<Person> getPairedPersons(Person p) {
         requireNonNull(p);
         int id = getId(p);
-        return getPairedIds(id).stream()
-                .map(this::getPersonById)
-                .collect(Collectors.toUnmodifiableSet());
+        Person[] partners = new Person[links.degree(id)];
+        for (int i = 0; i < partners.length; i++) {
+            partners[i] = getPersonById(links.neighbour(id, i));
+        }
+        return Set.of(partners);
+    }
+
+    /**
+     * Returns the number of persons paired to {@code p}.
+     */
+    public int getPairedCount(Person p) {
+        requireNonNull(p);
+        return links.degree(getId(p));
     }
 
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    /**
+     * Performs {@code action} once for every pairing, passing the person that comes earlier in this list first.
+     * Runs in O(V + E) without copying the pairings. {@code action} must not modify this list.
+     */
+    public void forEachPairing(BiConsumer<Person, Person> action) {
+        requireNonNull(action);
+        for (Person person : internalList) {
+            int id = ids.get(person);
+            // the list is sorted by id, so larger ids are the partners that come later in the list
+            links.forEachNeighbour(id, partnerId -> {
+                if (partnerId > id) {
+                    action.accept(person, getPersonById(partnerId));
                 }
-            }
+            });
         }
-        return true;
+    }
+
+    /**
+     * Performs {@code action} on every person paired to {@code p} without copying the pairings.
+     * {@code action} must not modify this list.
+     */
+    public void forEachPairedPerson(Person p, Consumer<? super Person> action) {
+        requireAllNonNull(p, action);
+        links.forEachNeighbour(getId(p), id -> action.accept(getPersonById(id)));
     }
 }
@@ -1,11 +1,38 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<List<Person>> duplicateGroups;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.duplicateGroups = List.of();
+    }
+
+    /**
+     * Creates an exception reporting every group of persons that share an identity.
+     */
+    public DuplicatePersonException(List<List<Person>> duplicateGroups) {
+        super("Operation would result in duplicate persons: " + duplicateGroups.stream()
+                .map(group -> group.stream()
+                        .map(person -> person.getName().fullName)
+                        .collect(Collectors.joining(", ", "{", "}")))
+                .collect(Collectors.joining(", ")));
+        this.duplicateGroups = List.copyOf(duplicateGroups);
+    }
+
+    /**
+     * Returns the groups of duplicate persons that caused this exception, or an empty list if not known.
+     */
+    public List<List<Person>> getDuplicateGroups() {
+        return duplicateGroups;
     }
 }
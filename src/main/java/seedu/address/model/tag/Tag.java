@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * <p>
+ * Tags are compared case-insensitively through the id that {@link TagRegistry} assigns to their name.
  */
 public class Tag {
 
@@ -14,6 +16,8 @@ public class Tag {
 
     public final String tagName;
 
+    private final int id;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -23,13 +27,31 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.id = TagRegistry.intern(tagName);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // hand-written equivalent of VALIDATION_REGEX; \p{Alnum} is ASCII-only
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the {@link TagRegistry} id shared by all tags with this name, ignoring case.
+     */
+    public int getId() {
+        return id;
     }
 
     @Override
@@ -44,14 +66,13 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equalsIgnoreCase(otherTag.tagName);
+        return id == otherTag.id;
     }
 
     @Override
     public int hashCode() {
-        return tagName.toLowerCase().hashCode();
-        // Converts tagName to lower case because Tag::equals() ignores case when comparing.
-        // This is to fulfil the hashCode() contract, where two equal objects must return the same hashCode.
+        // tags that are equal ignoring case share an id, which fulfils the hashCode() contract
+        return id;
     }
 
     /**
@@ -0,0 +1,29 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Global dictionary of the tag names in use, interned case-insensitively.
+ * <p>
+ * Every spelling of a tag name that only differs in case is given the same small integer id, assigned in the
+ * order the names are first seen. Ids are never reused, so they can safely be stored in place of the tags
+ * themselves, e.g. as bits of a {@link TagSet}. Only the ids are shared: each {@link Tag} keeps its own spelling.
+ */
+final class TagRegistry {
+
+    private static final Map<String, Integer> IDS_BY_KEY = new HashMap<>();
+
+    private TagRegistry() {}
+
+    /**
+     * Returns the id shared by every spelling of {@code tagName}, registering it if it has not been seen before.
+     */
+    static synchronized int intern(String tagName) {
+        requireNonNull(tagName);
+        return IDS_BY_KEY.computeIfAbsent(tagName.toLowerCase(Locale.ROOT), unused -> IDS_BY_KEY.size());
+    }
+}
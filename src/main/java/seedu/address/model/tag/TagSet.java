@@ -0,0 +1,168 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as a bitset over {@link TagRegistry} ids.
+ * <p>
+ * A person with a handful of tags drawn from a few dozen subjects needs a single {@code long}, and membership,
+ * overlap and equality tests are word operations. The tags themselves are kept alongside in id order, so that
+ * iteration yields them as they were spelt when the set was made.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new long[0], new Tag[0]);
+
+    private final long[] words;
+    /** The tags of this set, one per id, in ascending order of id. */
+    private final Tag[] tags;
+
+    private TagSet(long[] words, Tag[] tags) {
+        this.words = words;
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} with the same tags as {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        Tag[] distinct = new Tag[tags.size()];
+        int size = 0;
+        for (Tag tag : tags) {
+            int id = tag.getId();
+            int wordIndex = id >>> 6;
+            if (wordIndex >= words.length) {
+                words = Arrays.copyOf(words, wordIndex + 1);
+            }
+            if ((words[wordIndex] & (1L << id)) == 0) {
+                words[wordIndex] |= 1L << id;
+                distinct[size++] = tag;
+            }
+        }
+        distinct = Arrays.copyOf(distinct, size);
+        Arrays.sort(distinct, Comparator.comparingInt(Tag::getId));
+        return new TagSet(words, distinct);
+    }
+
+    /**
+     * Returns true if the tag with registry id {@code id} is in this set.
+     */
+    public boolean containsId(int id) {
+        int wordIndex = id >>> 6;
+        return id >= 0 && wordIndex < words.length && (words[wordIndex] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns the number of tags that are in both this set and {@code other}.
+     */
+    public int countCommon(TagSet other) {
+        requireNonNull(other);
+        int count = 0;
+        for (int i = 0, n = Math.min(words.length, other.words.length); i < n; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Calls {@code action} with the registry id of every tag in this set, in ascending order.
+     */
+    public void forEachId(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && containsId(((Tag) o).getId());
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            TagSet otherTagSet = (TagSet) other;
+            int n = Math.max(words.length, otherTagSet.words.length);
+            for (int i = 0; i < n; i++) {
+                if (wordAt(i) != otherTagSet.wordAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // must agree with the hash code of any other Set<Tag> holding the same tags
+        int sum = 0;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                sum += (i << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return sum;
+    }
+
+    private long wordAt(int i) {
+        return i < words.length ? words[i] : 0L;
+    }
+}
@@ -1,11 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -16,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 //@@author c-j-lh:reused
 //ChatGPT-5 with minor modifications
@@ -45,47 +44,35 @@ class JsonSerializableAddressBook {
         List<Person> list = source.getPersonList();
         persons.addAll(list.stream().map(JsonAdaptedPerson::new).toList());
 
-        // index persons by position to emit unique edges
+        // index persons by position to emit edges by index
         Map<Person, Integer> index = new IdentityHashMap<>();
         for (int k = 0; k < list.size(); k++) {
             index.put(list.get(k), k);
         }
 
-        Set<Long> seen = new HashSet<>();
-        for (int a = 0; a < list.size(); a++) {
-            for (Person q : source.getPairedPersons(list.get(a))) {
-                Integer b = index.get(q);
-                if (b == null) {
-                    continue;
-                }
-                int x = Math.min(a, b);
-                int y = Math.max(a, b);
-                long key = (((long) x) << 32) ^ (y & 0xffffffffL);
-                if (!seen.add(key)) {
-                    Logger.getGlobal().warning("Ignoring and not loading duplicate pairing: "
-                            + list.get(x) + " and " + list.get(y));
-                    continue;
-                }
-
-                if (list.get(x).getType().equals(list.get(y).getType())) {
-                    Logger.getGlobal().warning("Ignoring and not loading pairing between two persons"
-                            + " of the same type: " + list.get(x) + " and " + list.get(y));
-                    continue;
-                }
-                pairings.add(new JsonPairing(x, y));
+        // each pairing is visited exactly once, with the earlier person first
+        source.forEachPairing((a, b) -> {
+            if (a.getType().equals(b.getType())) {
+                Logger.getGlobal().warning("Ignoring and not loading pairing between two persons"
+                        + " of the same type: " + a + " and " + b);
+                return;
             }
-        }
+            pairings.add(new JsonPairing(index.get(a), index.get(b)));
+        });
     }
 
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
 
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jap : persons) {
-            Person p = jap.toModelType();
-            if (addressBook.hasPerson(p)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(p);
+            modelPersons.add(jap.toModelType());
+        }
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            Logger.getGlobal().warning(e.getMessage());
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, e);
         }
 
         var loaded = addressBook.getPersonList();
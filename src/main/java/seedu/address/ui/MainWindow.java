@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,6 +16,8 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundWork;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -25,12 +30,20 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_BACKGROUND_WORK_FAILED = "The command could not be completed: %s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
 
+    /** Runs the background work of commands one at a time, so that the UI thread stays responsive. */
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-work");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
@@ -112,7 +125,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
         //@@author
-        personListPanel = new PersonListPanel(logic.getAddressBook(), logic.getProcessedPersonList());
+        personListPanel = new PersonListPanel(logic);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -216,6 +229,8 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
+            commandResult.getBackgroundWork().ifPresent(this::runInBackground);
+
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("An error occurred while executing command: " + commandText);
@@ -223,4 +238,34 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Runs {@code work} off the UI thread, showing its progress, and then executes the command it returns on the
+     * UI thread and shows the result.
+     */
+    private void runInBackground(BackgroundWork work) {
+        backgroundExecutor.execute(() -> {
+            Command command;
+            try {
+                command = work.run(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+            } catch (RuntimeException e) {
+                logger.warning("Background work failed: " + e);
+                Platform.runLater(() -> resultDisplay.setFeedbackToUser(
+                        String.format(MESSAGE_BACKGROUND_WORK_FAILED, e.getMessage())));
+                return;
+            }
+            Platform.runLater(() -> executeBackgroundCommand(command));
+        });
+    }
+
+    private void executeBackgroundCommand(Command command) {
+        try {
+            CommandResult commandResult = logic.execute(command);
+            logger.info("Result: " + commandResult.getFeedbackToUser());
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        } catch (CommandException e) {
+            logger.info("An error occurred while executing command: " + command);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+        }
+    }
 }
@@ -1,19 +1,25 @@
 package seedu.address.ui;
 
-import java.util.logging.Level;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Logic;
+import seedu.address.model.PersonPage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
@@ -21,129 +27,307 @@ import seedu.address.model.person.Volunteer;
 
 /**
  * Panel showing two side-by-side lists: Students (left) and Volunteers (right).
+ * <p>
+ * Each list holds only the pages of the processed person list that have been scrolled to, and fetches the next
+ * or previous page when the user scrolls to its end or start, so a very large address book costs a few pages
+ * of work to show.
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+    /** Number of persons fetched into a list at a time */
+    private static final int PAGE_SIZE = 50;
+
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     @FXML private ListView<Person> studentListView;
     @FXML private ListView<Person> volunteerListView;
 
-    /** List of all Persons, regardless of subtype */
-    private final ObservableList<Person> masterList;
-
+    private final Logic logic;
     private final ReadOnlyAddressBook addressBook;
+    /** Processed list of all Persons, regardless of subtype, which the displayed indexes refer to */
+    private final ObservableList<Person> processedList;
 
     /** Person with index and Person object, for displaying */
     public record IndexedPerson(int index, Person person) {}
 
     /**
-     * Creates a {@code PersonListPanel} that renders a split view for students and volunteers.
+     * Creates a {@code PersonListPanel} that renders a split view for the students and volunteers of the
+     * processed person list of {@code logic}.
      *
-     * @param masterList the observable list of persons to display; must contain the same instances
-     *                   the model uses for indexing so that global indices remain consistent.
-     * @throws NullPointerException if {@code masterList} is {@code null}.
+     * @throws NullPointerException if {@code logic} is {@code null}.
      */
-    public PersonListPanel(ReadOnlyAddressBook addressBook, ObservableList<Person> masterList) {
+    public PersonListPanel(Logic logic) {
         super(FXML);
-        this.masterList = masterList;
-        this.addressBook = addressBook;
+        this.logic = logic;
+        this.addressBook = logic.getAddressBook();
+        this.processedList = logic.getProcessedPersonList();
 
         // Assert FXML injected fields are present
         assert studentListView != null : "FXML injection failed: studentListView is null";
         assert volunteerListView != null : "FXML injection failed: volunteerListView is null";
 
-        FilteredList<Person> students = new FilteredList<>(masterList, p -> p instanceof Student);
-        FilteredList<Person> volunteers = new FilteredList<>(masterList, p -> p instanceof Volunteer);
-
-        studentListView.setItems(students);
-        volunteerListView.setItems(volunteers);
+        Lane students = new Lane(studentListView, p -> p instanceof Student, "student");
+        Lane volunteers = new Lane(volunteerListView, p -> p instanceof Volunteer, "volunteer");
 
-        studentListView.setCellFactory(lv -> new PersonListViewCell(
-                this.addressBook, this.masterList, "student"));
-        volunteerListView.setCellFactory(lv -> new PersonListViewCell(
-                this.addressBook, this.masterList, "volunteer"));
+        // start at the end of both lists, where newly added persons appear
+        students.showAround(processedList.size() - 1, true);
+        volunteers.showAround(processedList.size() - 1, true);
 
-        logger.info(() -> String.format(
-                "PersonListPanel initialized. masterList=%d, students=%d, volunteers=%d",
-                masterList.size(), students.size(), volunteers.size()
-        ));
+        logger.info(() -> String.format("PersonListPanel initialized. processedList=%d, students=%d, volunteers=%d",
+                processedList.size(), students.items.size(), volunteers.items.size()));
 
-        // when the master list order/contents change, refresh both lists so numbers will update
-        this.masterList.addListener((javafx.collections.ListChangeListener<Person>) c -> {
+        // when the processed list order/contents change, update both lists so numbers will update
+        processedList.addListener((ListChangeListener<Person>) change -> {
             int additions = 0;
             int removals = 0;
-            while (c.next()) {
-                additions += c.getAddedSize();
-                removals += c.getRemovedSize();
-            }
-            logger.fine(String.format(
-                    "masterList changed: +%d/-%d -> %d total",
-                    additions, removals, masterList.size()
-            ));
-            logger.fine("Master list: " + String.format(masterList.stream().map(Person::getName).toList().toString()));
-            logger.fine("Students: " + String.format(students.stream().map(Person::getName).toList().toString()));
-            logger.fine("Volunteers: " + String.format(volunteers.stream().map(Person::getName).toList().toString()));
-            studentListView.refresh();
-            volunteerListView.refresh();
+            boolean isPermutation = false;
+            List<Person> added = new ArrayList<>();
+            List<Person> removed = new ArrayList<>();
+            int changedPosition = -1;
+            while (change.next()) {
+                additions += change.getAddedSize();
+                removals += change.getRemovedSize();
+                isPermutation |= change.wasPermutated();
+                // the persons of a large change are not needed, as such a change reloads both lists anyway
+                if (additions + removals <= PAGE_SIZE) {
+                    added.addAll(change.getAddedSubList());
+                    removed.addAll(change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    // Scroll to last added or replaced item
+                    changedPosition = change.getTo() - 1;
+                } else if (change.wasRemoved()) {
+                    // If items were removed, keep the viewport near where the change happened
+                    changedPosition = change.getFrom();
+                }
+            }
+            final int totalAdditions = additions;
+            final int totalRemovals = removals;
+            logger.fine(() -> String.format("processedList changed: +%d/-%d -> %d total",
+                    totalAdditions, totalRemovals, processedList.size()));
+            if (isPermutation || additions + removals > PAGE_SIZE) {
+                // e.g. a new filter or order, which leaves little of the loaded persons in place
+                students.reload(changedPosition);
+                volunteers.reload(changedPosition);
+            } else {
+                students.update(added, removed, changedPosition);
+                volunteers.update(added, removed, changedPosition);
+            }
         });
+    }
 
-        autoScrollOnChange(studentListView, students);
-        autoScrollOnChange(volunteerListView, volunteers);
+    /**
+     * One of the two lists of the panel: the persons of the processed list accepted by a filter, of which only
+     * those between the cursors {@code [from, to)} of the processed list are loaded.
+     */
+    private class Lane {
+        private final ListView<Person> view;
+        private final Predicate<Person> filter;
+        /** "student" or "volunteer" for logs */
+        private final String name;
+        private final ObservableList<Person> items = FXCollections.observableArrayList();
+        /** Zero-based positions in the processed list of {@code items} */
+        private final List<Integer> indexes = new ArrayList<>();
+        private int from;
+        private int to;
+        private boolean hasPrevious;
+        private boolean hasNext;
+        private boolean isLoadScheduled;
 
-        // prime scroll once the scene is ready; avoids first-update misses
-        Platform.runLater(() -> {
-            studentListView.refresh();
-            volunteerListView.refresh();
+        Lane(ListView<Person> view, Predicate<Person> filter, String name) {
+            this.view = view;
+            this.filter = filter;
+            this.name = name;
+            view.setItems(items);
+            view.setCellFactory(lv -> new PersonListViewCell(this));
+        }
 
-            if (!students.isEmpty()) {
-                studentListView.scrollTo(students.size() - 1);
-                studentListView.getSelectionModel().select(students.size() - 1);
+        /**
+         * Updates this list after the processed list changed at {@code changedPosition}, where {@code added}
+         * persons were added and {@code removed} persons removed. The persons of this list are fetched again only
+         * if the change falls between its cursors {@code [from, to)}; otherwise they are only numbered again.
+         */
+        void update(List<Person> added, List<Person> removed, int changedPosition) {
+            if (items.isEmpty() || isChangeLoaded(added, removed)) {
+                reload(changedPosition);
+                return;
             }
-            if (!volunteers.isEmpty()) {
-                volunteerListView.scrollTo(volunteers.size() - 1);
-                volunteerListView.getSelectionModel().select(volunteers.size() - 1);
+            for (int row = 0; row < items.size(); row++) {
+                indexes.set(row, logic.getProcessedIndexOf(items.get(row)));
             }
-        });
-    }
+            // redraws the cards, whose numbers and partners' numbers may have changed
+            view.refresh();
+        }
 
-    private static void autoScrollOnChange(ListView<Person> view, ObservableList<Person> list) {
-        list.addListener((ListChangeListener<Person>) change -> {
-            Integer target = null;
-            while (change.next()) {
-                if (change.wasAdded()) {
-                    // Scroll to last added item
-                    target = change.getTo() - 1; // safe even for multi-add
-                } else if (change.wasReplaced()) {
-                    // Treat like add: scroll to the end of the replaced range
-                    target = change.getTo() - 1;
-                } else if (change.wasRemoved()) {
-                    // If items were removed, keep the viewport near where the change happened
-                    int idx = Math.min(change.getFrom(), Math.max(0, list.size() - 1));
-                    target = (list.isEmpty() ? null : idx);
+        /**
+         * Returns true if a loaded person of this list was removed, or a person of its own was added between its
+         * cursors.
+         */
+        private boolean isChangeLoaded(List<Person> added, List<Person> removed) {
+            Set<Person> loaded = Collections.newSetFromMap(new IdentityHashMap<>());
+            loaded.addAll(items);
+            if (removed.stream().anyMatch(loaded::contains)) {
+                return true;
+            }
+            // the cursors of a sorted list are positions, which the change may have moved
+            if (hasPrevious) {
+                from = logic.getProcessedCursorOf(items.get(0));
+            }
+            if (hasNext) {
+                to = logic.getProcessedCursorOf(items.get(items.size() - 1)) + 1;
+            }
+            return added.stream()
+                    .filter(filter)
+                    .mapToInt(logic::getProcessedCursorOf)
+                    .anyMatch(cursor -> cursor >= 0 && (!hasPrevious || cursor >= from) && (!hasNext || cursor < to));
+        }
+
+        /**
+         * Reloads this list after the processed list changed at {@code changedPosition}, or at no particular
+         * position if it is -1. The list moves to a changed person of its own, and otherwise stays where it was.
+         */
+        void reload(int changedPosition) {
+            boolean isOwnChange = changedPosition >= 0 && changedPosition < processedList.size()
+                    && filter.test(processedList.get(changedPosition));
+            if (isOwnChange) {
+                showAround(changedPosition, true);
+                return;
+            }
+            // stay at the selected person, or else the first loaded one, wherever the change moved them
+            int selectedRow = view.getSelectionModel().getSelectedIndex();
+            int keptRow = selectedRow >= 0 && selectedRow < items.size() ? selectedRow : 0;
+            int position = items.isEmpty() ? -1 : logic.getProcessedIndexOf(items.get(keptRow));
+            if (position < 0 && !indexes.isEmpty()) {
+                // the person is gone, so stay near where it was
+                position = Math.min(indexes.get(keptRow), processedList.size() - 1);
+            }
+            showAround(position, selectedRow >= 0 && position >= 0);
+        }
+
+        /**
+         * Replaces the loaded persons with a page on either side of {@code position} of the processed list,
+         * and scrolls to the last of them at or before {@code position}, selecting it if {@code isSelecting}.
+         */
+        void showAround(int position, boolean isSelecting) {
+            int anchor = cursorAfter(position);
+            PersonPage before = logic.getProcessedPersonPageBefore(anchor, PAGE_SIZE, filter);
+            PersonPage after = logic.getProcessedPersonPage(anchor, PAGE_SIZE, filter);
+            from = before.getFrom();
+            to = after.getTo();
+            hasPrevious = before.hasPrevious();
+            hasNext = after.hasNext();
+
+            List<Person> persons = new ArrayList<>(before.getPersons());
+            persons.addAll(after.getPersons());
+            indexes.clear();
+            addIndexes(indexes, before);
+            addIndexes(indexes, after);
+            items.setAll(persons);
+
+            view.getSelectionModel().clearSelection();
+            if (items.isEmpty()) {
+                // nothing was found within the read limit of a page, so read on from either cursor
+                if (hasNext || hasPrevious) {
+                    scheduleLoad(hasNext);
                 }
+                return;
             }
-            if (target != null && !list.isEmpty()) {
-                final int scrollIndex = Math.max(0, Math.min(target, list.size() - 1));
-                Platform.runLater(() -> view.scrollTo(scrollIndex));
-                view.getSelectionModel().select(scrollIndex);
+            int row = Math.max(0, before.size() - 1);
+            Platform.runLater(() -> view.scrollTo(row));
+            if (isSelecting) {
+                view.getSelectionModel().select(row);
             }
-        });
+        }
+
+        /**
+         * Returns the cursor just after {@code position} of the processed list, which is clamped to the list.
+         */
+        private int cursorAfter(int position) {
+            if (position < 0 || processedList.isEmpty()) {
+                return 0;
+            }
+            Person person = processedList.get(Math.min(position, processedList.size() - 1));
+            return logic.getProcessedCursorOf(person) + 1;
+        }
+
+        /**
+         * Fetches the persons after or before the loaded ones once a row at the end or start of this list is shown.
+         */
+        void onRowShown(int row) {
+            if (row >= items.size() - 1 && hasNext) {
+                scheduleLoad(true);
+            } else if (row == 0 && hasPrevious) {
+                scheduleLoad(false);
+            }
+        }
+
+        private void scheduleLoad(boolean isNext) {
+            if (isLoadScheduled) {
+                return;
+            }
+            // the rows of a list view cannot change while its cells are being laid out
+            isLoadScheduled = true;
+            Platform.runLater(() -> {
+                isLoadScheduled = false;
+                if (isNext) {
+                    loadNext();
+                } else {
+                    loadPrevious();
+                }
+            });
+        }
+
+        /**
+         * Fetches the page after the loaded persons. A page reads a bounded number of persons, so an empty page
+         * of a sparse list is followed by another fetch at a later pulse rather than in a loop on this one.
+         */
+        private void loadNext() {
+            PersonPage page = logic.getProcessedPersonPage(to, PAGE_SIZE, filter);
+            to = page.getTo();
+            hasNext = page.hasNext();
+            addIndexes(indexes, page);
+            items.addAll(page.getPersons());
+            logger.fine(() -> String.format("Loaded a page of %ss, %d loaded", name, items.size()));
+            if (page.isEmpty() && hasNext) {
+                scheduleLoad(true);
+            }
+        }
+
+        /**
+         * Fetches the page before the loaded persons, in the same way as {@link #loadNext()}.
+         */
+        private void loadPrevious() {
+            PersonPage page = logic.getProcessedPersonPageBefore(from, PAGE_SIZE, filter);
+            from = page.getFrom();
+            hasPrevious = page.hasPrevious();
+            if (page.isEmpty()) {
+                if (hasPrevious) {
+                    scheduleLoad(false);
+                }
+                return;
+            }
+            List<Integer> pageIndexes = new ArrayList<>();
+            addIndexes(pageIndexes, page);
+            indexes.addAll(0, pageIndexes);
+            items.addAll(0, page.getPersons());
+            // keep the row that was at the top in view
+            view.scrollTo(page.size());
+        }
     }
 
+    private static void addIndexes(List<Integer> target, PersonPage page) {
+        for (int i = 0; i < page.size(); i++) {
+            target.add(page.getIndex(i));
+        }
+    }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
-    static class PersonListViewCell extends ListCell<Person> {
-        private final ObservableList<Person> masterList;
-        private final ReadOnlyAddressBook addressBook;
-        /** "student" or "volunteer" for logs*/
-        private final String lane;
-
-        PersonListViewCell(ReadOnlyAddressBook addressBook, ObservableList<Person> masterList, String lane) {
-            this.masterList = masterList;
-            this.addressBook = addressBook;
+    private class PersonListViewCell extends ListCell<Person> {
+        private final Lane lane;
+
+        PersonListViewCell(Lane lane) {
             this.lane = lane;
         }
 
@@ -151,28 +335,20 @@ public class PersonListPanel extends UiPart<Region> {
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
 
-            if (empty || person == null) {
-                setGraphic(null);
-                setText(null);
-                return;
-            }
-
-            int idx = masterList.indexOf(person);
-            if (idx < 0) {
-                // Unexpected: the cell's person is not in the master list (index would be wrong)
-                LogsCenter.getLogger(PersonListViewCell.class)
-                        .log(Level.WARNING, () -> "Person not found in masterList while rendering (" + lane + "): "
-                                + person);
+            if (empty || person == null || getIndex() >= lane.indexes.size()) {
                 setGraphic(null);
                 setText(null);
                 return;
             }
 
-            // indexes here are based on the master list to avoid breaking the pair function
-            int globalIndex = Index.fromZeroBased(idx).getOneBased();
-            Stream<IndexedPerson> indexedPartners = addressBook.getPairedPersons(person).stream()
-                    .map(pairing -> new IndexedPerson(masterList.indexOf(pairing), pairing));
-            setGraphic(new PersonCard(addressBook, new IndexedPerson(globalIndex, person), indexedPartners).getRoot());
+            // indexes here are based on the processed list to avoid breaking the pair function
+            int globalIndex = Index.fromZeroBased(lane.indexes.get(getIndex())).getOneBased();
+            List<IndexedPerson> indexedPartners = new ArrayList<>();
+            addressBook.forEachPairedPerson(person, partner ->
+                    indexedPartners.add(new IndexedPerson(logic.getProcessedIndexOf(partner), partner)));
+            setGraphic(new PersonCard(addressBook, new IndexedPerson(globalIndex, person), indexedPartners.stream())
+                    .getRoot());
+            lane.onRowShown(getIndex());
         }
     }
 }
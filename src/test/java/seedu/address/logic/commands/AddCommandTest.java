@@ -10,8 +10,11 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,10 +25,21 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.PersonPage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.AssignmentEngine;
+import seedu.address.model.person.Cluster;
+import seedu.address.model.person.FuzzyNameMatches;
+import seedu.address.model.person.NameMatches;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PhoneticNameMatches;
+import seedu.address.model.person.ProposedPairing;
+import seedu.address.model.person.QueryMatches;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.TagMatches;
+import seedu.address.model.tag.Tag;
 
 public class AddCommandTest {
 
@@ -140,6 +154,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -150,6 +194,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(Collection<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -160,6 +209,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonPage getProcessedPersonPage(int fromCursor, int limit, Predicate<? super Person> filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonPage getProcessedPersonPageBefore(int toCursor, int limit, Predicate<? super Person> filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getProcessedCursorOf(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getProcessedIndexOf(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void filterPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -170,6 +239,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public NameMatches matchNames(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FuzzyNameMatches matchNamesFuzzy(String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PhoneticNameMatches matchNamesPhonetic(String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryMatches matchQuery(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TagMatches matchTags(Set<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ProposedPairing> proposeMatching() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AssignmentEngine prepareAssignment(int capacity) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Cluster> getClusters(int maxMembersEach) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyBatch(Consumer<Model> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void pair(Person a, Person b) {
             throw new AssertionError("This method should not be called.");
@@ -180,6 +294,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void pairEach(List<Person> persons, List<Person> partners) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unpairEach(List<Person> persons, List<Person> partners) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isPaired(Person a, Person b) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Assignment;
+import seedu.address.model.person.ProposedPairing;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ApplyAssignmentCommand.
+ */
+public class ApplyAssignmentCommandTest {
+
+    private static final ProposedPairing BENSON_TO_ELLE = new ProposedPairing(BENSON, ELLE);
+    private static final ProposedPairing DANIEL_TO_FIONA = new ProposedPairing(DANIEL, FIONA);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_studentPairedMeanwhile_leftOut() {
+        model.pair(DANIEL, ELLE);
+        Assignment assignment = new Assignment(List.of(BENSON_TO_ELLE, DANIEL_TO_FIONA), true);
+
+        CommandResult result = new ApplyAssignmentCommand(assignment, 2).execute(model);
+
+        assertEquals(String.format(ApplyAssignmentCommand.MESSAGE_SUCCESS, 1, 0, BENSON_TO_ELLE) + "\n"
+                + String.format(ApplyAssignmentCommand.MESSAGE_PAIRINGS_LEFT_OUT, 1), result.getFeedbackToUser());
+        assertTrue(model.isPaired(BENSON, ELLE));
+        assertFalse(model.isPaired(DANIEL, FIONA));
+    }
+
+    @Test
+    public void execute_volunteerFullOrPersonDeleted_leftOut() {
+        model.deletePerson(FIONA);
+        Assignment assignment = new Assignment(List.of(BENSON_TO_ELLE, new ProposedPairing(DANIEL, ELLE),
+                DANIEL_TO_FIONA), true);
+
+        new ApplyAssignmentCommand(assignment, 1).execute(model);
+
+        assertEquals(List.of(ELLE), List.copyOf(model.getPairedPersons(BENSON)));
+        assertTrue(model.getPairedPersons(DANIEL).isEmpty());
+    }
+
+    @Test
+    public void execute_incompleteAssignment_saysTimeLimitWasReached() {
+        CommandResult result = new ApplyAssignmentCommand(new Assignment(List.of(), false), 1).execute(model);
+
+        assertEquals(ApplyAssignmentCommand.MESSAGE_NO_PAIRINGS + "\n"
+                + ApplyAssignmentCommand.MESSAGE_TIME_LIMIT_REACHED, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        Assignment assignment = new Assignment(List.of(BENSON_TO_ELLE), true);
+        ApplyAssignmentCommand command = new ApplyAssignmentCommand(assignment, 1);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ApplyAssignmentCommand(new Assignment(List.of(BENSON_TO_ELLE), true), 1)));
+        assertFalse(command.equals(new ApplyAssignmentCommand(new Assignment(List.of(BENSON_TO_ELLE), false), 1)));
+        assertFalse(command.equals(new ApplyAssignmentCommand(assignment, 2)));
+        assertFalse(command.equals(null));
+    }
+}
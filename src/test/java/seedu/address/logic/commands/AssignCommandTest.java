@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Volunteer;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for AssignCommand.
+ */
+public class AssignCommandTest {
+
+    private static final Person FRIENDLY_VOLUNTEER = new Volunteer.VolunteerBuilder()
+            .name("Vera Tan").phone("81111111").tags("friends").build();
+    private static final Person LENDING_VOLUNTEER = new Volunteer.VolunteerBuilder()
+            .name("Victor Lim").phone("82222222").tags("owesMoney", "friends").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addPerson(FRIENDLY_VOLUNTEER);
+        model.addPerson(LENDING_VOLUNTEER);
+        // Alice is already paired, so only Benson and Daniel can be assigned
+        model.pair(ALICE, ELLE);
+    }
+
+    @Test
+    public void execute_backgroundWorkNotRun_modelUnchanged() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        CommandResult result = new AssignCommand(1, 5).execute(model);
+
+        assertEquals(String.format(AssignCommand.MESSAGE_STARTED, 1, 5), result.getFeedbackToUser());
+        assertTrue(result.getBackgroundWork().isPresent());
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_backgroundWorkRun_returnsCommandMakingBestPairings() throws Exception {
+        List<String> progress = new ArrayList<>();
+        Command apply = new AssignCommand(1, 5).execute(model).getBackgroundWork().get().run(progress::add);
+
+        assertEquals(String.format(AssignCommand.MESSAGE_PROGRESS, 2, 2), progress.get(progress.size() - 1));
+        assertFalse(model.isPaired(BENSON, LENDING_VOLUNTEER));
+
+        // Benson shares two tags with Victor, and Daniel only shares one with either volunteer
+        CommandResult result = apply.execute(model);
+        assertEquals(String.format(ApplyAssignmentCommand.MESSAGE_SUCCESS, 2, 3,
+                BENSON.getName() + " - " + LENDING_VOLUNTEER.getName() + "\n"
+                        + DANIEL.getName() + " - " + FRIENDLY_VOLUNTEER.getName()), result.getFeedbackToUser());
+        assertTrue(model.isPaired(BENSON, LENDING_VOLUNTEER));
+        assertTrue(model.isPaired(DANIEL, FRIENDLY_VOLUNTEER));
+    }
+
+    @Test
+    public void execute_capacity_volunteerTakesSeveralStudents() throws Exception {
+        model.deletePerson(FRIENDLY_VOLUNTEER);
+
+        new AssignCommand(2, 5).execute(model).getBackgroundWork().get().run(message -> { }).execute(model);
+
+        assertTrue(model.isPaired(BENSON, LENDING_VOLUNTEER));
+        assertTrue(model.isPaired(DANIEL, LENDING_VOLUNTEER));
+    }
+
+    @Test
+    public void equals() {
+        AssignCommand assignCommand = new AssignCommand(2, 10);
+
+        assertTrue(assignCommand.equals(assignCommand));
+        assertTrue(assignCommand.equals(new AssignCommand(2, 10)));
+        assertFalse(assignCommand.equals(new AssignCommand(1, 10)));
+        assertFalse(assignCommand.equals(new AssignCommand(2, 20)));
+        assertFalse(assignCommand.equals(null));
+    }
+}
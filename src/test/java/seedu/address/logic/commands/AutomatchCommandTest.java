@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ProposedPairing;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Volunteer;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for AutomatchCommand.
+ */
+public class AutomatchCommandTest {
+
+    private static final Person FRIENDLY_VOLUNTEER = new Volunteer.VolunteerBuilder()
+            .name("Vera Tan").phone("81111111").tags("friends").build();
+    private static final Person LENDING_VOLUNTEER = new Volunteer.VolunteerBuilder()
+            .name("Victor Lim").phone("82222222").tags("owesMoney").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addPerson(FRIENDLY_VOLUNTEER);
+        model.addPerson(LENDING_VOLUNTEER);
+        // Alice is already paired, so only Benson and Daniel can be matched
+        model.pair(ALICE, ELLE);
+    }
+
+    @Test
+    public void execute_preview_showsPairingsWithoutMakingThem() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(AutomatchCommand.MESSAGE_PREVIEW, 2,
+                BENSON.getName() + " - " + LENDING_VOLUNTEER.getName() + "\n"
+                        + DANIEL.getName() + " - " + FRIENDLY_VOLUNTEER.getName());
+
+        assertCommandSuccess(new AutomatchCommand(false), model, expectedMessage, expectedModel);
+        assertFalse(model.isPaired(DANIEL, FRIENDLY_VOLUNTEER));
+    }
+
+    @Test
+    public void execute_confirmed_makesProposedPairings() {
+        new AutomatchCommand(true).execute(model);
+
+        assertTrue(model.isPaired(BENSON, LENDING_VOLUNTEER));
+        assertTrue(model.isPaired(DANIEL, FRIENDLY_VOLUNTEER));
+        assertEquals(Set.of(ELLE), model.getPairedPersons(ALICE));
+        assertEquals(AutomatchCommand.MESSAGE_NO_PAIRINGS,
+                new AutomatchCommand(true).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_confirmedThenUndone_removesAllPairingsInOneStep() {
+        model.commitAddressBook();
+        new AutomatchCommand(true).execute(model);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertFalse(model.isPaired(BENSON, LENDING_VOLUNTEER));
+        assertFalse(model.isPaired(DANIEL, FRIENDLY_VOLUNTEER));
+        assertTrue(model.isPaired(ALICE, ELLE));
+    }
+
+    @Test
+    public void execute_manyPairings_listsOnlyTheFirst() {
+        for (int i = 0; i < AutomatchCommand.MAX_PAIRINGS_SHOWN + 3; i++) {
+            model.addPerson(new Student.StudentBuilder().name("Student " + i).phone("9000" + (1000 + i))
+                    .tags("maths").build());
+            model.addPerson(new Volunteer.VolunteerBuilder().name("Tutor " + i).phone("8000" + (1000 + i))
+                    .tags("maths").build());
+        }
+
+        List<ProposedPairing> proposal = model.proposeMatching();
+        assertEquals(AutomatchCommand.MAX_PAIRINGS_SHOWN + 5, proposal.size());
+        String expectedPairings = IntStream.range(0, AutomatchCommand.MAX_PAIRINGS_SHOWN)
+                .mapToObj(i -> proposal.get(i).toString())
+                .collect(Collectors.joining("\n"))
+                + "\n" + String.format(AutomatchCommand.MESSAGE_MORE_PAIRINGS, 5);
+        assertEquals(String.format(AutomatchCommand.MESSAGE_PREVIEW, proposal.size(), expectedPairings),
+                new AutomatchCommand(false).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        AutomatchCommand preview = new AutomatchCommand(false);
+
+        assertTrue(preview.equals(preview));
+        assertTrue(preview.equals(new AutomatchCommand(false)));
+        assertFalse(preview.equals(new AutomatchCommand(true)));
+        assertFalse(preview.equals(null));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Volunteer;
+
+/**
+ * Contains integration tests (interaction with the Model) for ClustersCommand.
+ */
+public class ClustersCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_nobodyPaired_showsNoClusters() {
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(new ClustersCommand(), model, ClustersCommand.MESSAGE_NO_CLUSTERS, expectedModel);
+    }
+
+    @Test
+    public void execute_pairings_listsClustersLargestFirst() {
+        model.pair(CARL, FIONA);
+        model.pair(ALICE, ELLE);
+        model.pair(BENSON, ELLE);
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(ClustersCommand.MESSAGE_SUCCESS, 2,
+                String.format(ClustersCommand.MESSAGE_CLUSTER, 1, 3, "Alice Pauline, Benson Meier, Elle Meyer")
+                        + "\n" + String.format(ClustersCommand.MESSAGE_CLUSTER, 2, 2, "Carl Kurz, Fiona Kunz"));
+        assertCommandSuccess(new ClustersCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyClusters_listsOnlyTheFirst() {
+        Person bigTutor = new Volunteer.VolunteerBuilder().name("Big Tutor").build();
+        model.addPerson(bigTutor);
+        int bigClusterSize = ClustersCommand.MAX_MEMBERS_SHOWN + 3;
+        for (int i = 1; i < bigClusterSize; i++) {
+            Person student = new Student.StudentBuilder().name("Student " + i).build();
+            model.addPerson(student);
+            model.pair(student, bigTutor);
+        }
+        int smallClusterCount = ClustersCommand.MAX_CLUSTERS_SHOWN + 1;
+        for (int i = 0; i < smallClusterCount; i++) {
+            Person student = new Student.StudentBuilder().name("Pupil " + i).build();
+            Person tutor = new Volunteer.VolunteerBuilder().name("Tutor " + i).build();
+            model.addPerson(student);
+            model.addPerson(tutor);
+            model.pair(student, tutor);
+        }
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String smallClusters = IntStream.range(0, ClustersCommand.MAX_CLUSTERS_SHOWN - 1)
+                .mapToObj(i -> String.format(ClustersCommand.MESSAGE_CLUSTER, i + 2, 2,
+                        "Pupil " + i + ", Tutor " + i))
+                .collect(Collectors.joining("\n"));
+        String expectedMessage = String.format(ClustersCommand.MESSAGE_SUCCESS, 1 + smallClusterCount,
+                String.format(ClustersCommand.MESSAGE_CLUSTER, 1, bigClusterSize, bigClusterNames(bigClusterSize))
+                        + "\n" + smallClusters + "\n"
+                        + String.format(ClustersCommand.MESSAGE_MORE_CLUSTERS, 2));
+        assertCommandSuccess(new ClustersCommand(), model, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns the names shown for the cluster of the big tutor, who was added first, and their students.
+     */
+    private static String bigClusterNames(int bigClusterSize) {
+        return "Big Tutor, " + IntStream.range(1, ClustersCommand.MAX_MEMBERS_SHOWN)
+                .mapToObj(i -> "Student " + i)
+                .collect(Collectors.joining(", "))
+                + ", " + String.format(ClustersCommand.MESSAGE_MORE_MEMBERS,
+                        bigClusterSize - ClustersCommand.MAX_MEMBERS_SHOWN);
+    }
+}
@@ -8,17 +8,27 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 //import static seedu.address.testutil.TypicalPersons.getSelfPairingAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -114,6 +124,68 @@ public class DeleteCommandTest {
         assertEquals(expected, deleteCommand.toString());
     }
 
+    @Test
+    public void execute_rangeWithRepeats_deletesEachPersonOnce() {
+        List<Person> personsToDelete = model.getProcessedPersonList().subList(1, 4);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(List.copyOf(personsToDelete));
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(Index.fromOneBased(2), Index.fromOneBased(3),
+                Index.fromOneBased(4), Index.fromOneBased(3)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3,
+                "Benson Meier, Carl Kurz, Daniel Meier");
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_listsInvalidIndexesCompactly() {
+        int size = model.getProcessedPersonList().size();
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON, Index.fromOneBased(size + 1),
+                Index.fromOneBased(size + 2), Index.fromOneBased(size + 3)));
+
+        assertCommandFailure(deleteCommand, model, String.format(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDICES,
+                (size + 1) + "-" + (size + 3)));
+    }
+
+    @Test
+    public void execute_shownPersons_deletesOnlyThoseAndTheirPairings() {
+        model.pair(ALICE, ELLE);
+        model.pair(BENSON, ELLE);
+        model.filterPersonList(person -> person.getName().fullName.contains("Meier"));
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(List.of(BENSON, DANIEL));
+        expectedModel.filterPersonList(person -> false);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2,
+                "Benson Meier, Daniel Meier");
+        assertCommandSuccess(DeleteCommand.deleteShownPersons(), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE), List.copyOf(model.getPairedPersons(ELLE)));
+    }
+
+    @Test
+    public void execute_manyPersons_listsOnlyTheFirstNames() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 1; i <= DeleteCommand.MAX_PERSONS_SHOWN + 2; i++) {
+            addressBook.addPerson(new Student.StudentBuilder().name("Student " + i).build());
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        ModelManager expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS,
+                DeleteCommand.MAX_PERSONS_SHOWN + 2, IntStream.rangeClosed(1, DeleteCommand.MAX_PERSONS_SHOWN)
+                        .mapToObj(i -> "Student " + i)
+                        .collect(Collectors.joining(", "))
+                        + ", " + String.format(DeleteCommand.MESSAGE_MORE_PERSONS, 2));
+        assertCommandSuccess(DeleteCommand.deleteShownPersons(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noPersonsShown_throwsCommandException() {
+        showNoPerson(model);
+
+        assertCommandFailure(DeleteCommand.deleteShownPersons(), model, DeleteCommand.MESSAGE_NO_PERSONS_SHOWN);
+    }
+
     //@@author c-j-lh
     /**
      * Updates {@code model}'s filtered list to show no one.
@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -55,6 +58,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, FindCommand.Mode.FUZZY)));
     }
 
     @Test
@@ -77,11 +83,51 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getProcessedPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeyword_closestNamesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommand(preparePredicate("Meyer"), FindCommand.Mode.FUZZY);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyMisspelling_personFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(preparePredicate("Fiono Kuns"), FindCommand.Mode.FUZZY);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Collections.singletonList(FIONA), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_fuzzySwappedLetters_personFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(preparePredicate("alcie"), FindCommand.Mode.FUZZY);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Collections.singletonList(ALICE), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_phoneticKeyword_soundAlikesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommand(preparePredicate("Mayer"), FindCommand.Mode.PHONETIC);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_phoneticKeywords_allMustSoundAlike() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(preparePredicate("Karl Kurs"), FindCommand.Mode.PHONETIC);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Collections.singletonList(CARL), model.getProcessedPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + ", mode=SUBSTRING}";
         assertEquals(expected, findCommand.toString());
     }
 
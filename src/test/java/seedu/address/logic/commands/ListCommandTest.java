@@ -1,16 +1,34 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PersonPage;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.Comparison;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -36,4 +54,56 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_unpairedMode_showsPersonsWithoutPartners() {
+        model.pair(ALICE, ELLE);
+        model.pair(ALICE, FIONA);
+        model.pair(BENSON, FIONA);
+
+        CommandResult result = new ListCommand(PersonQuery.unpaired()).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(List.of(CARL, DANIEL, GEORGE), model.getProcessedPersonList());
+
+        // the listed persons follow later changes to the pairings
+        model.unpair(ALICE, ELLE);
+        model.deletePerson(CARL);
+        assertEquals(List.of(DANIEL, ELLE, GEORGE), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_degreeMode_showsPersonsWithMatchingPartnerCount() {
+        model.pair(ALICE, ELLE);
+        model.pair(ALICE, FIONA);
+        model.pair(BENSON, FIONA);
+
+        new ListCommand(PersonQuery.partners(Comparison.GREATER, 1)).execute(model);
+        assertEquals(List.of(ALICE, FIONA), model.getProcessedPersonList());
+        new ListCommand(PersonQuery.partners(Comparison.EQUAL, 1)).execute(model);
+        assertEquals(List.of(BENSON, ELLE), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_degreeMode_pagesReadOnlyMatchingPersons() {
+        model.pair(ALICE, ELLE);
+        model.pair(ALICE, FIONA);
+        model.pair(BENSON, FIONA);
+        new ListCommand(PersonQuery.partners(Comparison.GREATER, 1)).execute(model);
+
+        List<Person> read = new ArrayList<>();
+        PersonPage page = model.getProcessedPersonPage(0, 10, read::add);
+        assertEquals(List.of(ALICE, FIONA), page.getPersons());
+        assertEquals(List.of(ALICE, FIONA), read);
+    }
+
+    @Test
+    public void equals() {
+        ListCommand unpaired = new ListCommand(PersonQuery.unpaired());
+
+        assertTrue(unpaired.equals(new ListCommand(PersonQuery.partners(Comparison.EQUAL, 0))));
+        assertTrue(new ListCommand().equals(new ListCommand()));
+        assertFalse(unpaired.equals(new ListCommand()));
+        assertFalse(unpaired.equals(new ListCommand(PersonQuery.partners(Comparison.GREATER, 0))));
+        assertFalse(unpaired.equals(null));
+    }
 }
@@ -3,13 +3,23 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.OptionalInt;
 import java.util.stream.IntStream;
 
@@ -89,6 +99,64 @@ public class PairCommandTest {
         assertThrows(CommandException.class, () -> pairCommand.execute(model));
     }
 
+    @Test
+    public void execute_rangeOfPartners_pairsAllInOneCommand() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Person student : List.of(ALICE, BENSON, CARL, DANIEL)) {
+            expectedModel.pair(ELLE, student);
+        }
+        PairCommand pairCommand = new PairCommand(Index.fromOneBased(5), List.of(Index.fromOneBased(1),
+                Index.fromOneBased(2), Index.fromOneBased(3), Index.fromOneBased(4)));
+
+        String expectedMessage = String.format(PairCommand.MESSAGE_EDIT_PERSON_SUCCESS, "Elle Meyer",
+                "{Alice Pauline, Benson Meier, Carl Kurz, Daniel Meier}");
+        assertCommandSuccess(pairCommand, model, expectedMessage, expectedModel);
+        assertEquals(4, model.getPairedPersons(ELLE).size());
+    }
+
+    @Test
+    public void execute_zippedIndexes_pairsOneToOne() {
+        PairCommand pairCommand = new PairCommand(
+                List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3), Index.fromOneBased(5)),
+                List.of(Index.fromOneBased(5), Index.fromOneBased(6), Index.fromOneBased(7), Index.fromOneBased(1)));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.pair(ALICE, ELLE);
+        expectedModel.pair(BENSON, FIONA);
+        expectedModel.pair(CARL, GEORGE);
+
+        String expectedMessage = Messages.MESSAGE_DUPLICATE_INDEX + "\n"
+                + String.format(PairCommand.MESSAGE_EDIT_PERSON_SUCCESS, "Alice Pauline", "{Elle Meyer}") + "\n"
+                + String.format(PairCommand.MESSAGE_EDIT_PERSON_SUCCESS, "Benson Meier", "{Fiona Kunz}") + "\n"
+                + String.format(PairCommand.MESSAGE_EDIT_PERSON_SUCCESS, "Carl Kurz", "{George Best}");
+        assertCommandSuccess(pairCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.isPaired(CARL, GEORGE));
+        assertFalse(model.isPaired(ALICE, FIONA));
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_listsInvalidIndexesCompactly() {
+        int size = model.getProcessedPersonList().size();
+        PairCommand pairCommand = new PairCommand(INDEX_FIRST_PERSON, List.of(Index.fromOneBased(5),
+                Index.fromOneBased(size + 1), Index.fromOneBased(size + 2), Index.fromOneBased(size + 3),
+                Index.fromOneBased(size + 5)));
+
+        assertCommandFailure(pairCommand, model, String.format(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDICES,
+                (size + 1) + "-" + (size + 3) + ", " + (size + 5)));
+    }
+
+    @Test
+    public void execute_someInvalidPairs_pairsNothing() {
+        model.pair(ALICE, ELLE);
+        PairCommand pairCommand = new PairCommand(Index.fromOneBased(5),
+                List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(6), Index.fromOneBased(7)));
+
+        String expectedMessage = String.format(PairCommand.MESSAGE_SAME_CLASS, 5, "Elle Meyer",
+                "6: Fiona Kunz, 7: George Best", "Volunteer") + "\n"
+                + String.format(PairCommand.MESSAGE_PAIRING_ALREADY_EXISTS, 5, "Elle Meyer", "1: Alice Pauline");
+        assertCommandFailure(pairCommand, model, expectedMessage);
+        assertFalse(model.isPaired(BENSON, ELLE));
+    }
+
     @Test
     public void equals() {
         PairCommand pairFirstCommand = new PairCommand(INDEX_FIRST_PERSON,
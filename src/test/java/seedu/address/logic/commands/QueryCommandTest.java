@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.EntryType;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand first = new QueryCommand(PersonQuery.name("first"), false);
+        QueryCommand second = new QueryCommand(PersonQuery.name("second"), false);
+
+        assertTrue(first.equals(first));
+        assertTrue(first.equals(new QueryCommand(PersonQuery.name("first"), false)));
+        assertFalse(first.equals(1));
+        assertFalse(first.equals(null));
+        assertFalse(first.equals(second));
+        assertFalse(first.equals(new QueryCommand(PersonQuery.name("first"), true)));
+    }
+
+    @Test
+    public void execute_tagAndNotName_personsFound() {
+        PersonQuery query = PersonQuery.and(List.of(
+                PersonQuery.tag(new Tag("friends")), PersonQuery.not(PersonQuery.name("meier"))));
+        CommandResult result = new QueryCommand(query, false).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertEquals(List.of(ALICE), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_pairingConditions_personsFound() {
+        model.pair(ALICE, ELLE);
+        PersonQuery unpairedVolunteers = PersonQuery.and(List.of(
+                PersonQuery.type(EntryType.VOLUNTEER), PersonQuery.unpaired()));
+        new QueryCommand(unpairedVolunteers, false).execute(model);
+        assertEquals(Arrays.asList(FIONA, GEORGE), model.getProcessedPersonList());
+
+        PersonQuery pairedOrKurz = PersonQuery.or(List.of(PersonQuery.paired(), PersonQuery.name("kurz")));
+        new QueryCommand(pairedOrKurz, false).execute(model);
+        assertEquals(Arrays.asList(ALICE, CARL, ELLE), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_explain_showsPlan() {
+        PersonQuery query = PersonQuery.and(List.of(
+                PersonQuery.type(EntryType.STUDENT), PersonQuery.tag(new Tag("friends"))));
+        String feedback = new QueryCommand(query, true).execute(model).getFeedbackToUser();
+        String[] lines = feedback.split("\n");
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), lines[0]);
+        assertEquals("Plan:", lines[1]);
+        assertTrue(lines[2].startsWith("AND (est 3, 7 -> 3 rows"));
+        // the tag lookup runs first and leaves the scan only the three tagged persons
+        assertTrue(lines[3].startsWith("  tag:friends via tag index (est 3, 7 -> 3 rows"));
+        assertTrue(lines[4].startsWith("  type:student via scan (est 7, 3 -> 3 rows"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonQuery query = PersonQuery.unpaired();
+        QueryCommand command = new QueryCommand(query, true);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + query + ", isExplain=true}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -1,9 +1,21 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -19,4 +31,34 @@ class UnpairCommandTest {
         // Fresh model EVERY test run
         model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     }
+
+    @Test
+    public void execute_zippedIndexes_unpairsOneToOne() {
+        model.pair(ALICE, ELLE);
+        model.pair(BENSON, ELLE);
+        model.pair(BENSON, FIONA);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.unpair(ALICE, ELLE);
+        expectedModel.unpair(BENSON, FIONA);
+        UnpairCommand unpairCommand = new UnpairCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(6)),
+                List.of(Index.fromOneBased(5), Index.fromOneBased(2)));
+
+        String expectedMessage = String.format(UnpairCommand.MESSAGE_EDIT_PERSON_SUCCESS, "Alice Pauline",
+                "{Elle Meyer}") + "\n"
+                + String.format(UnpairCommand.MESSAGE_EDIT_PERSON_SUCCESS, "Fiona Kunz", "{Benson Meier}");
+        assertCommandSuccess(unpairCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.isPaired(BENSON, ELLE));
+        assertFalse(model.isPaired(BENSON, FIONA));
+    }
+
+    @Test
+    public void execute_notYetPaired_unpairsNothing() {
+        model.pair(ALICE, ELLE);
+        UnpairCommand unpairCommand = new UnpairCommand(Index.fromOneBased(5),
+                List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3)));
+
+        assertCommandFailure(unpairCommand, model, String.format(UnpairCommand.MESSAGE_PAIRING_DOES_NOT_EXIST_YET,
+                5, "Elle Meyer", "2: Benson Meier, 3: Carl Kurz"));
+        assertTrue(model.isPaired(ALICE, ELLE));
+    }
 }
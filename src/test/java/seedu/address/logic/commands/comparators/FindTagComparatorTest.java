@@ -0,0 +1,52 @@
+package seedu.address.logic.commands.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagMatches;
+import seedu.address.model.tag.Tag;
+
+public class FindTagComparatorTest {
+
+    @Test
+    public void compare_sortsByMatchCountThenInsertionOrder() {
+        Person one = new Person.PersonBuilder().name("One").tags("english").build();
+        Person two = new Person.PersonBuilder().name("Two").tags("english", "history").build();
+        Person three = new Person.PersonBuilder().name("Three").tags("history").build();
+        Person four = new Person.PersonBuilder().name("Four").tags("English", "History", "art").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(one, two, three, four));
+
+        TagMatches matches = addressBook.matchTags(Set.of(new Tag("english"), new Tag("history")));
+        List<Person> sorted = new ArrayList<>(List.of(three, four, one, two));
+        sorted.sort(new FindTagComparator(matches));
+
+        assertEquals(List.of(two, four, one, three), sorted);
+    }
+
+    @Test
+    public void compare_afterTagsEdited_followsNewCounts() {
+        Person one = new Person.PersonBuilder().name("One").tags("english").build();
+        Person two = new Person.PersonBuilder().name("Two").tags("english", "history").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(one, two));
+        TagMatches matches = addressBook.matchTags(Set.of(new Tag("english"), new Tag("history")));
+        FindTagComparator comparator = new FindTagComparator(matches);
+        assertTrue(comparator.compare(two, one) < 0);
+
+        Person editedOne = new Person.PersonBuilder(one).tags("english", "History").build();
+        addressBook.setPerson(one, editedOne);
+        assertTrue(comparator.compare(editedOne, two) < 0);
+
+        Person stranger = new Person.PersonBuilder().name("Stranger").tags("english", "history").build();
+        assertTrue(comparator.compare(two, stranger) < 0);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.FuzzyNameMatches;
+import seedu.address.model.person.Person;
+
+public class FuzzyNameComparatorTest {
+
+    @Test
+    public void compare_sortsByDistanceThenInsertionOrder() {
+        Person mayer = new Person.PersonBuilder().name("Anna Mayer").build();
+        Person meyer = new Person.PersonBuilder().name("Elle Meyer").build();
+        Person meier = new Person.PersonBuilder().name("Daniel Meier").build();
+        Person moyer = new Person.PersonBuilder().name("Tom Moyer").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(mayer, meyer, meier, moyer));
+
+        FuzzyNameMatches matches = addressBook.matchNamesFuzzy("meyer");
+        List<Person> sorted = new ArrayList<>(List.of(moyer, meier, mayer, meyer));
+        sorted.sort(new FuzzyNameComparator(matches));
+
+        assertEquals(List.of(meyer, mayer, meier, moyer), sorted);
+    }
+
+    @Test
+    public void compare_afterNameEdited_followsNewDistances() {
+        Person meyer = new Person.PersonBuilder().name("Elle Meyer").build();
+        Person meier = new Person.PersonBuilder().name("Daniel Meier").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(meier, meyer));
+        FuzzyNameComparator comparator = new FuzzyNameComparator(addressBook.matchNamesFuzzy("meyer"));
+        assertTrue(comparator.compare(meyer, meier) < 0);
+
+        Person renamed = new Person.PersonBuilder(meyer).name("Elle Mayer").build();
+        addressBook.setPerson(meyer, renamed);
+        assertTrue(comparator.compare(meier, renamed) < 0);
+    }
+}
@@ -24,7 +24,10 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AssignCommand;
+import seedu.address.logic.commands.AutomatchCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ClustersCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
@@ -33,11 +36,15 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PairCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnpairCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsTagPredicate;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Volunteer;
 import seedu.address.model.tag.Tag;
@@ -106,6 +113,15 @@ public class AddressBookParserTest {
                 command);
     }
 
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(
+                QueryCommand.COMMAND_WORD + " tag:" + VALID_TAG_FRIEND + " unpaired");
+        PersonQuery expectedQuery = PersonQuery.and(List.of(
+                PersonQuery.tag(new Tag(VALID_TAG_FRIEND)), PersonQuery.unpaired()));
+        assertEquals(new QueryCommand(expectedQuery, false), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -116,6 +132,29 @@ public class AddressBookParserTest {
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " unpaired") instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_assign() throws Exception {
+        assertEquals(new AssignCommand(3, 20), parser.parseCommand(AssignCommand.COMMAND_WORD + " k/3 s/20"));
+    }
+
+    @Test
+    public void parseCommand_automatch() throws Exception {
+        assertEquals(new AutomatchCommand(true),
+                parser.parseCommand(AutomatchCommand.COMMAND_WORD + " " + AutomatchCommand.CONFIRM_FLAG));
+    }
+
+    @Test
+    public void parseCommand_clusters() throws Exception {
+        assertTrue(parser.parseCommand(ClustersCommand.COMMAND_WORD) instanceof ClustersCommand);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
     }
 
     @Test
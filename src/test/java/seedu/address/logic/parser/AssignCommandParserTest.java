@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AssignCommand;
+
+public class AssignCommandParserTest {
+
+    private AssignCommandParser parser = new AssignCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAssignCommand() {
+        assertParseSuccess(parser, "", new AssignCommand(AssignCommand.DEFAULT_CAPACITY,
+                AssignCommand.DEFAULT_TIME_LIMIT_SECONDS));
+        assertParseSuccess(parser, " k/3", new AssignCommand(3, AssignCommand.DEFAULT_TIME_LIMIT_SECONDS));
+        assertParseSuccess(parser, " s/30 k/2 ", new AssignCommand(2, 30));
+        assertParseSuccess(parser, " k/1000 s/3600", new AssignCommand(1000, 3600));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " 3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " k/0", AssignCommandParser.MESSAGE_INVALID_CAPACITY);
+        assertParseFailure(parser, " k/1001", AssignCommandParser.MESSAGE_INVALID_CAPACITY);
+        assertParseFailure(parser, " k/two", AssignCommandParser.MESSAGE_INVALID_CAPACITY);
+        assertParseFailure(parser, " s/3601", AssignCommandParser.MESSAGE_INVALID_TIME_LIMIT);
+        assertParseFailure(parser, " s/-1", AssignCommandParser.MESSAGE_INVALID_TIME_LIMIT);
+        assertParseFailure(parser, " k/1 k/2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_CAPACITY));
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AutomatchCommand;
+
+public class AutomatchCommandParserTest {
+
+    private AutomatchCommandParser parser = new AutomatchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAutomatchCommand() {
+        assertParseSuccess(parser, "", new AutomatchCommand(false));
+        assertParseSuccess(parser, " --confirm ", new AutomatchCommand(true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " confirm",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutomatchCommand.MESSAGE_USAGE));
+    }
+}
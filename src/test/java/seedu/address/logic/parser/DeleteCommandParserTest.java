@@ -4,6 +4,10 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,4 +33,23 @@ public class DeleteCommandParserTest {
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_indexesAndRanges_returnsDeleteCommand() {
+        assertParseSuccess(parser, " 1-2  3 ", new DeleteCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON,
+                INDEX_THIRD_PERSON)));
+    }
+
+    @Test
+    public void parse_filteredFlag_returnsDeleteCommand() {
+        assertParseSuccess(parser, " " + DeleteCommand.FILTERED_FLAG, DeleteCommand.deleteShownPersons());
+        assertParseFailure(parser, DeleteCommand.FILTERED_FLAG + " 1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, "5-2", String.format(ParserUtil.MESSAGE_INVALID_INDEX_RANGE, "5-2"));
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+    }
 }
@@ -31,4 +31,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alcie", "Bob")), FindCommand.Mode.FUZZY);
+        assertParseSuccess(parser, " --fuzzy Alcie  Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_phoneticFlag_returnsPhoneticFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Mohammed")), FindCommand.Mode.PHONETIC);
+        assertParseSuccess(parser, " --phonetic  Mohammed ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " --fuzzy ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " --phonetic ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
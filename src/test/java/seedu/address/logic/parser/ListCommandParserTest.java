@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.Comparison;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "  ", new ListCommand());
+    }
+
+    @Test
+    public void parse_otherArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, " 3", new ListCommand());
+        assertParseSuccess(parser, " unpaired degree>1", new ListCommand());
+    }
+
+    @Test
+    public void parse_modes_returnsListCommandWithPartnerCondition() {
+        assertParseSuccess(parser, " UNPAIRED ", new ListCommand(PersonQuery.unpaired()));
+        assertParseSuccess(parser, " degree>3", new ListCommand(PersonQuery.partners(Comparison.GREATER, 3)));
+        assertParseSuccess(parser, " degree <= 1",
+                new ListCommand(PersonQuery.partners(Comparison.LESS_OR_EQUAL, 1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " degree>", expectedMessage);
+        assertParseFailure(parser, " degree=-1", expectedMessage);
+        assertParseFailure(parser, " degree 3", expectedMessage);
+    }
+}
@@ -5,11 +5,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.PairCommand;
 
 
@@ -32,4 +35,39 @@ public class PairCommandParserTest {
     public void parse_invalidNumberOfArgs_throwsParseException() {
         assertParseFailure(parser, "1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, PairCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_ranges_returnsPairCommand() {
+        assertParseSuccess(parser, "1 2-3 5", new PairCommand(INDEX_FIRST_PERSON,
+                List.of(INDEX_SECOND_PERSON, INDEX_THIRD_PERSON, Index.fromOneBased(5))));
+    }
+
+    @Test
+    public void parse_zipped_returnsPairCommand() {
+        assertParseSuccess(parser, "1-2 3 to 5-7", new PairCommand(
+                List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON),
+                List.of(Index.fromOneBased(5), Index.fromOneBased(6), Index.fromOneBased(7))));
+
+        // one person before "to" is the same as one person paired to many
+        assertParseSuccess(parser, "1 to 2", new PairCommand(INDEX_FIRST_PERSON, List.of(INDEX_SECOND_PERSON)));
+    }
+
+    @Test
+    public void parse_zippedSidesDiffer_throwsParseException() {
+        assertParseFailure(parser, "1-3 to 5-6", String.format(IndexPairs.MESSAGE_SIDES_DIFFER, 3, 2));
+        assertParseFailure(parser, "1 to", String.format(MESSAGE_INVALID_COMMAND_FORMAT, PairCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "to 2", String.format(MESSAGE_INVALID_COMMAND_FORMAT, PairCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_pairedToSelf_throwsParseException() {
+        assertParseFailure(parser, "2 1-3", "Cannot pair to yourself.");
+        assertParseFailure(parser, "1-3 to 4 2 5", "Cannot pair to yourself.");
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, "1 3-2", String.format(ParserUtil.MESSAGE_INVALID_INDEX_RANGE, "3-2"));
+        assertParseFailure(parser, "1 x", "Invalid index: x");
+    }
 }
@@ -2,13 +2,19 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MAX_INDEX_RANGE_LENGTH;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INDEX_RANGE_TOO_LONG;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -56,6 +62,35 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRange_validInput_success() throws Exception {
+        assertEquals(List.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexRange(" 1 "));
+        assertEquals(List.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexRange("1-1"));
+        assertEquals(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON),
+                ParserUtil.parseIndexRange("1-3"));
+    }
+
+    @Test
+    public void parseIndexRange_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRange("0"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "3-1"), ()
+            -> ParserUtil.parseIndexRange("3-1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "1-"), ()
+            -> ParserUtil.parseIndexRange("1-"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "0-2"), ()
+            -> ParserUtil.parseIndexRange("0-2"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "1-2-3"), ()
+            -> ParserUtil.parseIndexRange("1-2-3"));
+    }
+
+    @Test
+    public void parseIndexRange_tooLong_throwsParseException() throws Exception {
+        String range = "1-" + (MAX_INDEX_RANGE_LENGTH + 1);
+        assertThrows(ParseException.class, String.format(MESSAGE_INDEX_RANGE_TOO_LONG, range), ()
+            -> ParserUtil.parseIndexRange(range));
+        assertEquals(MAX_INDEX_RANGE_LENGTH, ParserUtil.parseIndexRange("2-" + (MAX_INDEX_RANGE_LENGTH + 1)).size());
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
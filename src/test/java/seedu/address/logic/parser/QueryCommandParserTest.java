@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.EntryType;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.PersonQuery.Comparison;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private final QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " --explain ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_singleCondition_returnsQueryCommand() {
+        assertParseSuccess(parser, " name:alex", new QueryCommand(PersonQuery.name("alex"), false));
+        assertParseSuccess(parser, " TAG:Maths", new QueryCommand(PersonQuery.tag(new Tag("Maths")), false));
+        assertParseSuccess(parser, " type:Volunteer", new QueryCommand(PersonQuery.type(EntryType.VOLUNTEER), false));
+        assertParseSuccess(parser, " phone:9123", new QueryCommand(PersonQuery.phone("9123"), false));
+        assertParseSuccess(parser, " email:EXAMPLE.com", new QueryCommand(PersonQuery.email("EXAMPLE.com"), false));
+        assertParseSuccess(parser, " paired", new QueryCommand(PersonQuery.paired(), false));
+        assertParseSuccess(parser, " unpaired", new QueryCommand(PersonQuery.unpaired(), false));
+        assertParseSuccess(parser, " partners>=2",
+                new QueryCommand(PersonQuery.partners(Comparison.GREATER_OR_EQUAL, 2), false));
+        assertParseSuccess(parser, " name:\"Alex Yeoh\"", new QueryCommand(PersonQuery.name("Alex Yeoh"), false));
+    }
+
+    @Test
+    public void parse_operators_notBindsTighterThanAndThanOr() {
+        PersonQuery alex = PersonQuery.name("alex");
+        PersonQuery maths = PersonQuery.tag(new Tag("maths"));
+        PersonQuery student = PersonQuery.type(EntryType.STUDENT);
+        PersonQuery expected = PersonQuery.or(List.of(
+                PersonQuery.and(List.of(alex, PersonQuery.not(maths))), student));
+
+        assertParseSuccess(parser, " name:alex AND NOT tag:maths OR type:student", new QueryCommand(expected, false));
+        // AND is implied between adjacent conditions, and keywords are case insensitive
+        assertParseSuccess(parser, " name:alex not tag:maths or type:student", new QueryCommand(expected, false));
+
+        PersonQuery grouped = PersonQuery.and(List.of(alex, PersonQuery.or(List.of(maths, student))));
+        assertParseSuccess(parser, " name:alex (tag:maths OR type:student)", new QueryCommand(grouped, false));
+        assertParseSuccess(parser, " name:alex AND(tag:maths OR type:student)", new QueryCommand(grouped, false));
+    }
+
+    @Test
+    public void parse_explainFlag_returnsExplainingQueryCommand() {
+        assertParseSuccess(parser, " --explain unpaired", new QueryCommand(PersonQuery.unpaired(), true));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, " name:alex OR", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " AND name:alex", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " (name:alex", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, " name:alex)", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, " name:\"alex", QueryCommandParser.MESSAGE_UNTERMINATED_QUOTE);
+        assertParseFailure(parser, " alex", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CONDITION, "alex"));
+        assertParseFailure(parser, " age:3", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CONDITION, "age:3"));
+        assertParseFailure(parser, " name:", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CONDITION, "name:"));
+        assertParseFailure(parser, " partners>x",
+                String.format(QueryCommandParser.MESSAGE_UNKNOWN_CONDITION, "partners>x"));
+        assertParseFailure(parser, " type:tutor", String.format(QueryCommandParser.MESSAGE_INVALID_TYPE, "tutor"));
+        assertParseFailure(parser, " phone:91-23", String.format(QueryCommandParser.MESSAGE_INVALID_PHONE, "91-23"));
+        assertParseFailure(parser, " tag:a_b", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -5,11 +5,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.UnpairCommand;
 
 public class UnpairCommandParserTest {
@@ -31,4 +34,11 @@ public class UnpairCommandParserTest {
     public void parse_invalidNumberOfArgs_throwsParseException() {
         assertParseFailure(parser, "1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnpairCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_zippedRanges_returnsUnpairCommand() {
+        assertParseSuccess(parser, "1-2 to 3 5", new UnpairCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                List.of(INDEX_THIRD_PERSON, Index.fromOneBased(5))));
+        assertParseFailure(parser, "1-2 to 1 3", "Cannot unpair from yourself.");
+    }
 }
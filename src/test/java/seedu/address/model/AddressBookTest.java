@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -43,6 +44,50 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withPairings_copiesPairings() {
+        AddressBook source = getTypicalAddressBook();
+        List<Person> persons = source.getPersonList();
+        source.pair(persons.get(0), persons.get(4));
+        source.pair(persons.get(2), persons.get(1));
+
+        // copied wholesale from another AddressBook
+        addressBook.resetData(source);
+        assertTrue(addressBook.isPaired(persons.get(0), persons.get(4)));
+        assertTrue(addressBook.isPaired(persons.get(1), persons.get(2)));
+        assertFalse(addressBook.isPaired(persons.get(0), persons.get(1)));
+
+        // replayed through forEachPairing from any other ReadOnlyAddressBook
+        AddressBook copy = new AddressBook();
+        copy.resetData(new DelegatingAddressBook(source));
+        List<List<Person>> pairings = new ArrayList<>();
+        copy.forEachPairing((a, b) -> pairings.add(List.of(a, b)));
+        assertEquals(List.of(List.of(persons.get(0), persons.get(4)), List.of(persons.get(1), persons.get(2))),
+                pairings);
+    }
+
+    @Test
+    public void snapshot_readOnlyCopyUnaffectedByEdits() {
+        AddressBook source = getTypicalAddressBook();
+        List<Person> persons = new ArrayList<>(source.getPersonList());
+        source.pair(persons.get(0), persons.get(4));
+        ReadOnlyAddressBook snapshot = source.snapshot();
+
+        source.removePerson(persons.get(0));
+        source.pair(persons.get(1), persons.get(2));
+
+        assertEquals(persons, snapshot.getPersonList());
+        assertEquals(Set.of(persons.get(4)), snapshot.getPairedPersons(persons.get(0)));
+        assertFalse(snapshot.isPaired(persons.get(1), persons.get(2)));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.pair(persons.get(1), persons.get(2)));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+
+        // copying a snapshot back restores the address book as it was
+        AddressBook restored = new AddressBook(snapshot);
+        assertEquals(persons, restored.getPersonList());
+        assertTrue(restored.isPaired(persons.get(0), persons.get(4)));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -93,6 +138,42 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    /**
+     * A ReadOnlyAddressBook that is not an AddressBook, answering queries from a wrapped AddressBook.
+     */
+    private static class DelegatingAddressBook implements ReadOnlyAddressBook {
+        private final AddressBook delegate;
+
+        DelegatingAddressBook(AddressBook delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return delegate.getPersonList();
+        }
+
+        @Override
+        public void pair(Person a, Person b) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unpair(Person a, Person b) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPaired(Person a, Person b) {
+            return delegate.isPaired(a, b);
+        }
+
+        @Override
+        public Set<Person> getPairedPersons(Person p) {
+            return delegate.getPairedPersons(p);
+        }
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
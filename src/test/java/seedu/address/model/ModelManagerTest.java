@@ -7,15 +7,29 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.AddressBookBuilder;
 
 // Some below wrongly attributed to recursive-rc due to method renaming
@@ -96,6 +110,173 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getProcessedPersonList().remove(0));
     }
 
+    @Test
+    public void getProcessedPersonPage_stopsReadingWhenPageIsFull() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> tested = new ArrayList<>();
+        Predicate<Person> notBenson = person -> tested.add(person) && !person.equals(BENSON);
+
+        PersonPage page = modelManager.getProcessedPersonPage(0, 2, notBenson);
+        assertEquals(List.of(ALICE, CARL), page.getPersons());
+        assertEquals(0, page.getIndex(0));
+        assertEquals(2, page.getIndex(1));
+        assertEquals(List.of(ALICE, BENSON, CARL), tested);
+        assertFalse(page.hasPrevious());
+        assertTrue(page.hasNext());
+
+        PersonPage next = modelManager.getProcessedPersonPage(page.getTo(), 10, notBenson);
+        assertEquals(List.of(DANIEL, ELLE, FIONA, GEORGE), next.getPersons());
+        assertFalse(next.hasNext());
+    }
+
+    @Test
+    public void getProcessedPersonPageBefore_readsBackwardsInListOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonPage page = modelManager.getProcessedPersonPageBefore(7, 2, person -> !person.equals(FIONA));
+        assertEquals(List.of(ELLE, GEORGE), page.getPersons());
+        assertEquals(4, page.getIndex(0));
+        assertEquals(6, page.getIndex(1));
+        assertEquals(4, page.getFrom());
+        assertTrue(page.hasPrevious());
+        assertFalse(page.hasNext());
+
+        assertEquals(List.of(ALICE, BENSON),
+                modelManager.getProcessedPersonPageBefore(2, 5, PREDICATE_SHOW_ALL_PERSONS).getPersons());
+        assertTrue(modelManager.getProcessedPersonPageBefore(0, 5, PREDICATE_SHOW_ALL_PERSONS).isEmpty());
+    }
+
+    @Test
+    public void getProcessedPersonPage_indexedFilter_readsOnlyMatches() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.filterPersonList(modelManager.matchNames(List.of("Meier")));
+        List<Person> tested = new ArrayList<>();
+
+        PersonPage page = modelManager.getProcessedPersonPage(0, 10, tested::add);
+        assertEquals(List.of(BENSON, DANIEL), page.getPersons());
+        assertEquals(List.of(BENSON, DANIEL), tested);
+        assertEquals(0, page.getIndex(0));
+        assertEquals(1, page.getIndex(1));
+        assertTrue(modelManager.getProcessedPersonPage(page.getTo(), 10, tested::add).isEmpty());
+
+        tested.clear();
+        PersonPage before = modelManager.getProcessedPersonPageBefore(modelManager.getProcessedCursorOf(DANIEL),
+                10, tested::add);
+        assertEquals(List.of(BENSON), before.getPersons());
+        assertEquals(List.of(BENSON), tested);
+        assertFalse(before.hasPrevious());
+    }
+
+    @Test
+    public void getProcessedPersonPage_personsRemovedBeforeCursor_keepsPlace() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonPage page = modelManager.getProcessedPersonPage(0, 2, PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE, BENSON), page.getPersons());
+
+        modelManager.deletePerson(ALICE);
+        PersonPage next = modelManager.getProcessedPersonPage(page.getTo(), 2, PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(CARL, DANIEL), next.getPersons());
+        assertEquals(1, next.getIndex(0));
+        assertEquals(modelManager.getProcessedCursorOf(CARL), next.getFrom());
+    }
+
+    @Test
+    public void getProcessedPersonPage_sortedList_usesPositionsAsCursors() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.filterAndSortPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+
+        PersonPage page = modelManager.getProcessedPersonPage(0, 2, PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(GEORGE, FIONA), page.getPersons());
+        assertEquals(2, page.getTo());
+        assertEquals(5, modelManager.getProcessedCursorOf(BENSON));
+        assertEquals(List.of(CARL, BENSON), modelManager.getProcessedPersonPageBefore(
+                modelManager.getProcessedCursorOf(BENSON) + 1, 2, PREDICATE_SHOW_ALL_PERSONS).getPersons());
+    }
+
+    @Test
+    public void getProcessedPersonPage_sparseFilter_stopsAtReadLimit() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < Model.PAGE_READ_LIMIT; i++) {
+            persons.add(new Person.PersonBuilder().name("Person " + i).phone(String.valueOf(80000000 + i)).build());
+        }
+        Person student = new Student.StudentBuilder().name("Only Student").phone("91234567").build();
+        persons.add(student);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Predicate<Person> isStudent = person -> person instanceof Student;
+
+        PersonPage page = modelManager.getProcessedPersonPage(0, 5, isStudent);
+        assertTrue(page.isEmpty());
+        assertTrue(page.hasNext());
+        PersonPage next = modelManager.getProcessedPersonPage(page.getTo(), 5, isStudent);
+        assertEquals(List.of(student), next.getPersons());
+        assertEquals(Model.PAGE_READ_LIMIT, next.getIndex(0));
+        assertFalse(next.hasNext());
+    }
+
+    @Test
+    public void getProcessedPersonPage_invalidArguments_throwsIllegalArgumentException() {
+        modelManager.addPerson(ALICE);
+        assertThrows(IllegalArgumentException.class, () ->
+                modelManager.getProcessedPersonPage(-1, 1, PREDICATE_SHOW_ALL_PERSONS));
+        assertThrows(IllegalArgumentException.class, () ->
+                modelManager.getProcessedPersonPage(0, 0, PREDICATE_SHOW_ALL_PERSONS));
+        assertThrows(IllegalArgumentException.class, () ->
+                modelManager.getProcessedPersonPageBefore(-1, 1, PREDICATE_SHOW_ALL_PERSONS));
+    }
+
+    @Test
+    public void getProcessedIndexOf_followsFilterAndSort() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertEquals(3, modelManager.getProcessedIndexOf(DANIEL));
+
+        modelManager.filterAndSortPersonList(person -> !person.equals(BENSON),
+                Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        assertEquals(List.of(GEORGE, FIONA, ELLE, DANIEL, CARL, ALICE), modelManager.getProcessedPersonList());
+        assertEquals(3, modelManager.getProcessedIndexOf(DANIEL));
+        assertEquals(5, modelManager.getProcessedIndexOf(ALICE));
+        assertEquals(-1, modelManager.getProcessedIndexOf(BENSON));
+        Person absent = new Student.StudentBuilder().name("Absent").phone("91234567").build();
+        assertEquals(-1, modelManager.getProcessedIndexOf(absent));
+    }
+
+    @Test
+    public void applyBatch_multipleChanges_notifiesOnce() {
+        modelManager.addPerson(ALICE);
+        List<Integer> notifications = new ArrayList<>();
+        modelManager.getProcessedPersonList().addListener((ListChangeListener<Person>) change ->
+                notifications.add(modelManager.getProcessedPersonList().size()));
+
+        modelManager.applyBatch(batch -> {
+            batch.addPerson(BENSON);
+            batch.addPerson(CARL);
+            batch.pair(ALICE, BENSON);
+            batch.setPerson(ALICE, ALICE);
+        });
+
+        assertEquals(List.of(3), notifications);
+        assertTrue(modelManager.isPaired(ALICE, BENSON));
+    }
+
+    @Test
+    public void applyBatch_failure_rollsBackAllChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.pair(ALICE, BENSON);
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.applyBatch(batch -> {
+            batch.addPerson(CARL);
+            batch.unpair(ALICE, BENSON);
+            batch.deletePerson(ALICE);
+            batch.addPerson(BENSON);
+        }));
+
+        assertEquals(List.of(ALICE, BENSON), modelManager.getProcessedPersonList());
+        assertTrue(modelManager.isPaired(ALICE, BENSON));
+        assertFalse(modelManager.hasPerson(CARL));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,194 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class AssignmentEngineTest {
+
+    private static final Duration TIME_LIMIT = Duration.ofSeconds(30);
+    private static final AssignmentEngine.ProgressListener IGNORE_PROGRESS = (paired, maxPaired) -> { };
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> persons.prepareAssignment(0));
+    }
+
+    @Test
+    public void run_overlapsDiffer_prefersMoreTagsInCommon() {
+        Person algebraStudent = student("Algebra Student", "asgalgebra");
+        Person mathsStudent = student("Maths Student", "asgmaths", "asgalgebra");
+        Person algebraTutor = volunteer("Algebra Tutor", "asgalgebra");
+        Person mathsTutor = volunteer("Maths Tutor", "asgmaths", "asgalgebra");
+        persons.setPersons(List.of(algebraStudent, mathsStudent, algebraTutor, mathsTutor));
+
+        Assignment assignment = persons.prepareAssignment(1).run(TIME_LIMIT, IGNORE_PROGRESS);
+
+        assertEquals(List.of(new ProposedPairing(algebraStudent, algebraTutor),
+                new ProposedPairing(mathsStudent, mathsTutor)), assignment.pairings());
+        assertEquals(3, assignment.countCommonTags());
+        assertTrue(assignment.isComplete());
+    }
+
+    @Test
+    public void run_bestOverlapLeavesStudentOut_pairsMoreStudentsFirst() {
+        // the maths student would share two tags with the maths tutor, but then the algebra student gets nobody
+        Person mathsStudent = student("Maths Student", "asgmaths", "asgalgebra");
+        Person algebraStudent = student("Algebra Student", "asgalgebra");
+        Person mathsTutor = volunteer("Maths Tutor", "asgmaths", "asgalgebra");
+        Person geometryTutor = volunteer("Geometry Tutor", "asgmaths");
+        persons.setPersons(List.of(mathsStudent, algebraStudent, mathsTutor, geometryTutor));
+
+        Assignment assignment = persons.prepareAssignment(1).run(TIME_LIMIT, IGNORE_PROGRESS);
+
+        assertEquals(List.of(new ProposedPairing(mathsStudent, geometryTutor),
+                new ProposedPairing(algebraStudent, mathsTutor)), assignment.pairings());
+    }
+
+    @Test
+    public void run_capacity_countsExistingPartnersAndSkipsPairedStudents() {
+        Person pairedStudent = student("Paired Student", "asgart");
+        Person firstStudent = student("First Student", "asgart");
+        Person secondStudent = student("Second Student", "asgart");
+        Person thirdStudent = student("Third Student", "asgart");
+        Person tutor = volunteer("Art Tutor", "asgart");
+        persons.setPersons(List.of(pairedStudent, firstStudent, secondStudent, thirdStudent, tutor));
+        persons.pair(pairedStudent, tutor);
+
+        assertEquals(List.of(), persons.prepareAssignment(1).run(TIME_LIMIT, IGNORE_PROGRESS).pairings());
+        assertEquals(List.of(new ProposedPairing(firstStudent, tutor), new ProposedPairing(secondStudent, tutor)),
+                persons.prepareAssignment(3).run(TIME_LIMIT, IGNORE_PROGRESS).pairings());
+    }
+
+    @Test
+    public void run_listChangesAfterPreparing_usesListAsPrepared() {
+        Person student = student("Art Student", "asgart");
+        Person tutor = volunteer("Art Tutor", "asgart");
+        persons.setPersons(List.of(student, tutor));
+        AssignmentEngine engine = persons.prepareAssignment(1);
+        persons.remove(tutor);
+
+        assertEquals(List.of(new ProposedPairing(student, tutor)),
+                engine.run(TIME_LIMIT, IGNORE_PROGRESS).pairings());
+    }
+
+    @Test
+    public void run_noTimeLeft_returnsIncompleteAssignment() {
+        persons.setPersons(List.of(student("Art Student", "asgart"), volunteer("Art Tutor", "asgart")));
+        List<Integer> reported = new ArrayList<>();
+
+        Assignment assignment = persons.prepareAssignment(1).run(Duration.ZERO, (paired, maxPaired) -> {
+            reported.add(paired);
+            reported.add(maxPaired);
+        });
+
+        assertEquals(List.of(), assignment.pairings());
+        assertFalse(assignment.isComplete());
+        assertEquals(List.of(0, 1), reported);
+    }
+
+    @Test
+    public void run_finishes_reportsFinalProgress() {
+        persons.setPersons(List.of(student("Art Student", "asgart"), student("Music Student", "asgmusic"),
+                volunteer("Art Tutor", "asgart")));
+        List<Integer> reported = new ArrayList<>();
+
+        persons.prepareAssignment(2).run(TIME_LIMIT, (paired, maxPaired) -> {
+            reported.clear();
+            reported.add(paired);
+            reported.add(maxPaired);
+        });
+
+        assertEquals(List.of(1, 2), reported);
+    }
+
+    @Test
+    public void run_randomCohorts_sameAsExhaustiveSearch() {
+        Random random = new Random(22);
+        String[] tagNames = {"asgt0", "asgt1", "asgt2", "asgt3"};
+        for (int round = 0; round < 300; round++) {
+            List<Person> students = new ArrayList<>();
+            List<Person> volunteers = new ArrayList<>();
+            for (int i = random.nextInt(7); i > 0; i--) {
+                students.add(student("Student " + i, randomTags(random, tagNames)));
+            }
+            for (int i = random.nextInt(5); i > 0; i--) {
+                volunteers.add(volunteer("Volunteer " + i, randomTags(random, tagNames)));
+            }
+            List<Person> all = new ArrayList<>(volunteers);
+            all.addAll(students);
+            persons.setPersons(all);
+            int capacity = 1 + random.nextInt(2);
+
+            Assignment assignment = persons.prepareAssignment(capacity).run(TIME_LIMIT, IGNORE_PROGRESS);
+
+            Set<Person> pairedStudents = new HashSet<>();
+            Map<Person, Integer> studentCounts = new HashMap<>();
+            for (ProposedPairing pairing : assignment.pairings()) {
+                assertTrue(pairedStudents.add(pairing.student()));
+                assertTrue(studentCounts.merge(pairing.volunteer(), 1, Integer::sum) <= capacity);
+                assertTrue(pairing.countCommonTags() > 0);
+            }
+            int expectedScore = bestScore(students, 0, volunteers, new int[volunteers.size()], capacity);
+            assertEquals(expectedScore, score(assignment.pairings().size(), assignment.countCommonTags()));
+        }
+    }
+
+    /**
+     * Returns the score of the best assignment of {@code students} from position {@code next} on, found by trying
+     * every one, where a larger assignment always scores higher than a smaller one.
+     */
+    private static int bestScore(List<Person> students, int next, List<Person> volunteers, int[] taken,
+            int capacity) {
+        if (next == students.size()) {
+            return 0;
+        }
+        int best = bestScore(students, next + 1, volunteers, taken, capacity);
+        for (int v = 0; v < volunteers.size(); v++) {
+            int common = students.get(next).getTagSet().countCommon(volunteers.get(v).getTagSet());
+            if (common == 0 || taken[v] == capacity) {
+                continue;
+            }
+            taken[v]++;
+            best = Math.max(best, score(1, common) + bestScore(students, next + 1, volunteers, taken, capacity));
+            taken[v]--;
+        }
+        return best;
+    }
+
+    private static int score(int pairingCount, int commonTagCount) {
+        return pairingCount * 1000 + commonTagCount;
+    }
+
+    private static String[] randomTags(Random random, String[] tagNames) {
+        List<String> tags = new ArrayList<>();
+        for (String tagName : tagNames) {
+            if (random.nextInt(3) == 0) {
+                tags.add(tagName);
+            }
+        }
+        return tags.toArray(new String[0]);
+    }
+
+    private static Person student(String name, String... tags) {
+        return new Student.StudentBuilder().name(name).tags(tags).build();
+    }
+
+    private static Person volunteer(String name, String... tags) {
+        return new Volunteer.VolunteerBuilder().name(name).tags(tags).build();
+    }
+}
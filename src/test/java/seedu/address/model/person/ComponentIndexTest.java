@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class ComponentIndexTest {
+
+    private final ComponentIndex index = new ComponentIndex();
+
+    @Test
+    public void union_mergesComponents() {
+        for (int id = 0; id < 5; id++) {
+            index.add(id);
+        }
+        index.union(0, 1);
+        index.union(2, 3);
+        index.union(1, 3);
+        index.union(0, 2);
+
+        assertEquals(index.find(0), index.find(3));
+        assertNotEquals(index.find(0), index.find(4));
+        assertEquals(4, index.componentSize(2));
+        assertEquals(1, index.componentSize(4));
+    }
+
+    @Test
+    public void detach_movesPersonToComponentOfItsOwn() {
+        for (int id = 0; id < 3; id++) {
+            index.add(id);
+        }
+        index.union(0, 1);
+        index.union(1, 2);
+
+        index.detach(2);
+
+        assertEquals(index.find(0), index.find(1));
+        assertNotEquals(index.find(1), index.find(2));
+        assertEquals(2, index.componentSize(0));
+        assertEquals(1, index.componentSize(2));
+        assertFalse(index.isStale());
+    }
+
+    @Test
+    public void rebuild_staleIndex_componentsOfPairings() {
+        PairingGraph links = new PairingGraph();
+        BitSet liveIds = new BitSet();
+        for (int id = 0; id < 4; id++) {
+            index.add(id);
+            liveIds.set(id);
+        }
+        index.union(0, 1);
+        index.union(1, 2);
+        index.markStale();
+        // the changes of a stale index are ignored until it is rebuilt
+        index.union(2, 3);
+        assertTrue(index.isStale());
+
+        links.addEdge(0, 1);
+        links.addEdge(2, 3);
+        index.rebuild(links, liveIds);
+
+        assertFalse(index.isStale());
+        assertEquals(index.find(0), index.find(1));
+        assertEquals(index.find(2), index.find(3));
+        assertNotEquals(index.find(1), index.find(2));
+        assertEquals(2, index.componentSize(3));
+    }
+
+    @Test
+    public void detach_manyTimes_marksStaleToReclaimNodes() {
+        index.add(0);
+        index.add(1);
+        for (int i = 0; i < 1000 && !index.isStale(); i++) {
+            index.union(0, 1);
+            index.detach(1);
+        }
+
+        assertTrue(index.isStale());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonQuery.Comparison;
+
+public class DegreeIndexTest {
+
+    private final DegreeIndex degreeIndex = new DegreeIndex();
+
+    @Test
+    public void matching_followsMoves() {
+        degreeIndex.add(0, 0);
+        degreeIndex.add(1, 0);
+        degreeIndex.add(2, 0);
+        degreeIndex.move(0, 0, 1);
+        degreeIndex.move(0, 1, 5);
+        degreeIndex.move(1, 0, 1);
+
+        assertEquals(bits(2), degreeIndex.matching(Comparison.EQUAL, 0));
+        assertEquals(bits(0, 1), degreeIndex.matching(Comparison.GREATER, 0));
+        assertEquals(bits(0), degreeIndex.matching(Comparison.GREATER_OR_EQUAL, 5));
+        assertTrue(degreeIndex.matching(Comparison.GREATER, 5).isEmpty());
+        assertEquals(2, degreeIndex.count(Comparison.LESS, 5));
+
+        degreeIndex.remove(0, 5);
+        assertTrue(degreeIndex.matching(Comparison.GREATER, 1).isEmpty());
+        assertEquals(0, degreeIndex.count(Comparison.GREATER, 1));
+    }
+
+    @Test
+    public void setAll_copiesIndependently() {
+        degreeIndex.add(0, 2);
+        DegreeIndex copy = new DegreeIndex();
+        copy.setAll(degreeIndex);
+        degreeIndex.move(0, 2, 3);
+
+        assertEquals(bits(0), copy.matching(Comparison.EQUAL, 2));
+        assertEquals(bits(0), degreeIndex.matching(Comparison.EQUAL, 3));
+        copy.clear();
+        assertEquals(0, copy.count(Comparison.GREATER_OR_EQUAL, 0));
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet result = new BitSet();
+        for (int id : ids) {
+            result.set(id);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyNameIndexTest {
+
+    @Test
+    public void editDistance() {
+        FuzzyNameIndex.EditDistance distance = new FuzzyNameIndex.EditDistance();
+        assertEquals(0, distance.between("meier", "meier"));
+        assertEquals(1, distance.between("meier", "meyer"));
+        assertEquals(1, distance.between("alice", "alcie"));
+        assertEquals(5, distance.between("", "alice"));
+        assertEquals(3, distance.between("kitten", "sitting"));
+        // a swap followed by an insertion between the swapped characters, which the restricted variant counts as 3
+        assertEquals(2, distance.between("ca", "abc"));
+    }
+
+    @Test
+    public void search_sameResultsAsLinearScan() {
+        Random random = new Random(11);
+        FuzzyNameIndex index = new FuzzyNameIndex();
+        List<String> words = new ArrayList<>();
+        for (int id = 0; id < 400; id++) {
+            String word = randomWord(random);
+            words.add(word);
+            index.add(id, new Name(word));
+        }
+        // removing most persons forces the tree to be rebuilt from the remaining words
+        for (int id = 0; id < 300; id++) {
+            index.remove(id, new Name(words.get(id)));
+        }
+
+        for (int q = 0; q < 50; q++) {
+            String query = randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                TreeMap<Integer, Integer> expected = new TreeMap<>();
+                for (int id = 300; id < words.size(); id++) {
+                    // a fresh calculator each time, to check the index's reuse of its buffers
+                    int distance = new FuzzyNameIndex.EditDistance().between(query, words.get(id));
+                    if (distance <= maxDistance) {
+                        expected.put(id, distance);
+                    }
+                }
+                TreeMap<Integer, Integer> actual = new TreeMap<>();
+                index.search(query, maxDistance, (word, distance, ids, idCount) -> {
+                    for (int i = 0; i < idCount; i++) {
+                        actual.put(ids[i], distance);
+                    }
+                });
+                assertEquals(expected, actual, query + " within " + maxDistance);
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        String letters = "abcdeilmnorst";
+        StringBuilder word = new StringBuilder();
+        for (int i = 0, length = 2 + random.nextInt(4); i < length; i++) {
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return word.toString();
+    }
+}
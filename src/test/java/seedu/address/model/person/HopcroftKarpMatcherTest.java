@@ -0,0 +1,132 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+public class HopcroftKarpMatcherTest {
+
+    private static final int UNMATCHED = HopcroftKarpMatcher.UNMATCHED;
+
+    @Test
+    public void match_greedyChoiceBlocksOthers_augmentsToMaximum() {
+        // greedily, the first student takes the only volunteer the second one could have had
+        List<TagSet> students = List.of(tags("hkma", "hkmb"), tags("hkma"), tags("hkmb", "hkmc"));
+        List<TagSet> volunteers = List.of(tags("hkma"), tags("hkmb"), tags("hkmc"));
+
+        assertArrayEquals(new int[] {1, 0, 2}, HopcroftKarpMatcher.match(students, volunteers));
+    }
+
+    @Test
+    public void match_noSharedTags_matchesNobody() {
+        List<TagSet> students = List.of(tags("hkma"), TagSet.EMPTY);
+        List<TagSet> volunteers = List.of(tags("hkmb"), TagSet.EMPTY);
+
+        assertArrayEquals(new int[] {UNMATCHED, UNMATCHED}, HopcroftKarpMatcher.match(students, volunteers));
+        assertArrayEquals(new int[0], HopcroftKarpMatcher.match(List.of(), volunteers));
+        assertArrayEquals(new int[] {UNMATCHED}, HopcroftKarpMatcher.match(List.of(tags("hkma")), List.of()));
+    }
+
+    @Test
+    public void match_randomGraphs_sameSizeAsSimpleAugmentingPaths() {
+        Random random = new Random(21);
+        String[] tagNames = new String[12];
+        for (int i = 0; i < tagNames.length; i++) {
+            tagNames[i] = "hkmt" + i;
+        }
+        for (int round = 0; round < 200; round++) {
+            List<TagSet> students = randomTagSets(random, random.nextInt(40), tagNames);
+            List<TagSet> volunteers = randomTagSets(random, random.nextInt(40), tagNames);
+
+            int[] volunteerOf = HopcroftKarpMatcher.match(students, volunteers);
+
+            Set<Integer> taken = new HashSet<>();
+            int size = 0;
+            for (int s = 0; s < volunteerOf.length; s++) {
+                if (volunteerOf[s] != UNMATCHED) {
+                    assertTrue(taken.add(volunteerOf[s]));
+                    assertTrue(students.get(s).countCommon(volunteers.get(volunteerOf[s])) > 0);
+                    size++;
+                }
+            }
+            assertEquals(maximumMatchingSize(students, volunteers), size);
+        }
+    }
+
+    @Test
+    public void match_sameInput_sameResult() {
+        Random random = new Random(7);
+        String[] tagNames = {"hkma", "hkmb", "hkmc"};
+        List<TagSet> students = randomTagSets(random, 200, tagNames);
+        List<TagSet> volunteers = randomTagSets(random, 100, tagNames);
+
+        assertArrayEquals(HopcroftKarpMatcher.match(students, volunteers),
+                HopcroftKarpMatcher.match(students, volunteers));
+        assertFalse(Arrays.stream(HopcroftKarpMatcher.match(students, volunteers)).allMatch(v -> v == UNMATCHED));
+    }
+
+    /**
+     * Returns the size of a maximum matching, found by trying an augmenting path from every student in turn.
+     */
+    private static int maximumMatchingSize(List<TagSet> students, List<TagSet> volunteers) {
+        int[] studentOf = new int[volunteers.size()];
+        Arrays.fill(studentOf, UNMATCHED);
+        int size = 0;
+        for (int s = 0; s < students.size(); s++) {
+            if (augment(s, students, volunteers, studentOf, new boolean[volunteers.size()])) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static boolean augment(int student, List<TagSet> students, List<TagSet> volunteers, int[] studentOf,
+            boolean[] isVisited) {
+        for (int v = 0; v < volunteers.size(); v++) {
+            if (isVisited[v] || students.get(student).countCommon(volunteers.get(v)) == 0) {
+                continue;
+            }
+            isVisited[v] = true;
+            if (studentOf[v] == UNMATCHED || augment(studentOf[v], students, volunteers, studentOf, isVisited)) {
+                studentOf[v] = student;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<TagSet> randomTagSets(Random random, int count, String[] tagNames) {
+        List<TagSet> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<String> names = new ArrayList<>();
+            for (String name : tagNames) {
+                if (random.nextInt(tagNames.length) < 2) {
+                    names.add(name);
+                }
+            }
+            result.add(tags(names.toArray(new String[0])));
+        }
+        return result;
+    }
+
+    private static TagSet tags(String... names) {
+        Set<Tag> tags = new HashSet<>();
+        for (String name : names) {
+            tags.add(new Tag(name));
+        }
+        return TagSet.of(tags);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void candidates_intersectsTrigramPostings() {
+        nameIndex.add(0, new Name("Alice Pauline"));
+        nameIndex.add(1, new Name("Benson Meier"));
+        nameIndex.add(2, new Name("Daniel Meier"));
+        nameIndex.add(5, new Name("Pauline Alison"));
+
+        assertArrayEquals(new int[] {1, 2}, nameIndex.candidates("meier"));
+        assertArrayEquals(new int[] {0, 5}, nameIndex.candidates("pauline"));
+        assertArrayEquals(new int[] {0, 5}, nameIndex.candidates("ali"));
+        assertArrayEquals(new int[0], nameIndex.candidates("xyz"));
+    }
+
+    @Test
+    public void remove_repeatedTrigram_removesPersonOnce() {
+        nameIndex.add(3, new Name("Anana Banana"));
+        nameIndex.add(4, new Name("Nana"));
+        nameIndex.remove(3, new Name("Anana Banana"));
+
+        assertArrayEquals(new int[] {4}, nameIndex.candidates("ana"));
+        assertArrayEquals(new int[0], nameIndex.candidates("ban"));
+    }
+
+    @Test
+    public void nameMatches_sameResultsAsNameContainsKeywordsPredicate() {
+        Random random = new Random(7);
+        String[] parts = {"Ann", "anna", "Bob", "Bobby", "Li", "Lim", "Tan", "TANYA", "Ng", "Ong", "Ang", "Wei"};
+        UniquePersonList persons = new UniquePersonList();
+        for (int i = 0; i < 300; i++) {
+            String name = parts[random.nextInt(parts.length)] + " " + parts[random.nextInt(parts.length)] + " " + i;
+            persons.add(new Person.PersonBuilder().name(name).build());
+        }
+        // edits and removals must keep the index current
+        for (int i = 0; i < 50; i++) {
+            Person target = persons.asUnmodifiableObservableList().get(random.nextInt(250));
+            persons.setPerson(target, new Person.PersonBuilder(target).name("Renamed " + parts[i % parts.length]
+                    + " " + i).build());
+        }
+        persons.remove(persons.asUnmodifiableObservableList().get(0));
+
+        String[][] queries = {{"an"}, {"ann"}, {"ANN", "bob"}, {"tanya"}, {"ng 1"}, {"renamed"}, {"zzz"}, {"g"},
+            {"ong", "Li"}, {"Wei 2"}};
+        for (String[] query : queries) {
+            List<String> keywords = List.of(query);
+            NameContainsKeywordsPredicate expected = new NameContainsKeywordsPredicate(keywords);
+            NameMatches actual = persons.matchNames(keywords);
+            List<Person> expectedResult = new ArrayList<>();
+            List<Person> actualResult = new ArrayList<>();
+            for (Person person : persons) {
+                if (expected.test(person)) {
+                    expectedResult.add(person);
+                }
+                if (actual.test(person)) {
+                    actualResult.add(person);
+                }
+            }
+            assertEquals(expectedResult, actualResult, String.join(" ", query));
+        }
+    }
+
+    @Test
+    public void nameMatches_personEditedInOtherFieldsAfterQuery_stillMatches() {
+        UniquePersonList persons = new UniquePersonList();
+        Person alice = new Person.PersonBuilder().name("Alice Pauline").build();
+        persons.add(alice);
+        persons.add(new Person.PersonBuilder().name("Benson Meier").build());
+        NameMatches matches = persons.matchNames(List.of("alice"));
+        assertTrue(matches.test(alice));
+
+        Person edited = new Person.PersonBuilder(alice).phone("98765432").tags("maths").build();
+        persons.setPerson(alice, edited);
+
+        assertTrue(matches.test(edited));
+        assertFalse(matches.test(alice));
+    }
+}
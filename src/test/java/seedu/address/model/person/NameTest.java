@@ -129,4 +129,24 @@ public class NameTest {
                         .equals(Name.normalizeForIdentity(ronAldo.toString())),
                 "Normalization must not collapse distinct names like 'Ron Aldo' and 'Ronaldo'");
     }
+
+    @Test
+    public void getIdentityKey_matchesNormalizeForIdentity() {
+        String raw = "Jean-Paul  O’Connor s / o Sartre";
+        assertEquals(Name.normalizeForIdentity(raw), new Name(raw).getIdentityKey());
+    }
+
+    @Test
+    public void isValidName_matchesValidationRegex() {
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            String c = new String(Character.toChars(codePoint));
+            for (String candidate : new String[] {c, "a" + c, "a" + c + "b"}) {
+                assertEquals(candidate.matches(Name.VALIDATION_REGEX), Name.isValidName(candidate),
+                        "code point " + codePoint);
+            }
+        }
+        for (String candidate : new String[] {"", "\n", "a\n", "\uD800", "a\uDC00", "a\uD800b", "\uDC00\uD800"}) {
+            assertEquals(candidate.matches(Name.VALIDATION_REGEX), Name.isValidName(candidate), candidate);
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PairingGraphTest {
+
+    private final PairingGraph graph = new PairingGraph();
+
+    private List<Integer> neighboursOf(int id) {
+        List<Integer> result = new ArrayList<>();
+        graph.forEachNeighbour(id, result::add);
+        return result;
+    }
+
+    @Test
+    public void addEdge_isUndirectedAndIdempotent() {
+        graph.addEdge(3, 1);
+        graph.addEdge(1, 3);
+        assertTrue(graph.hasEdge(1, 3));
+        assertTrue(graph.hasEdge(3, 1));
+        assertEquals(1, graph.edgeCount());
+        assertEquals(1, graph.degree(1));
+    }
+
+    @Test
+    public void forEachNeighbour_ascendingOrder() {
+        for (int other : new int[] {9, 2, 7, 5, 11, 0}) {
+            graph.addEdge(4, other);
+        }
+        assertEquals(List.of(0, 2, 5, 7, 9, 11), neighboursOf(4));
+        assertEquals(7, graph.neighbour(4, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> graph.neighbour(4, 6));
+    }
+
+    @Test
+    public void removeEdge() {
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        assertTrue(graph.removeEdge(1, 0));
+        assertFalse(graph.removeEdge(1, 0));
+        assertFalse(graph.removeEdge(5, 100));
+        assertFalse(graph.hasEdge(0, 1));
+        assertEquals(List.of(2), neighboursOf(0));
+        assertEquals(1, graph.edgeCount());
+    }
+
+    @Test
+    public void removeNode_dropsAllIncidentEdges() {
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 2);
+        graph.removeNode(0);
+        assertEquals(0, graph.degree(0));
+        assertEquals(List.of(2), neighboursOf(1));
+        assertEquals(List.of(1), neighboursOf(2));
+        assertEquals(1, graph.edgeCount());
+    }
+
+    @Test
+    public void setAll_copyIsIndependent() {
+        graph.addEdge(0, 1);
+        PairingGraph copy = new PairingGraph();
+        copy.setAll(graph);
+        copy.addEdge(0, 2);
+        graph.removeEdge(0, 1);
+        assertTrue(copy.hasEdge(0, 1));
+        assertFalse(graph.hasEdge(0, 2));
+        assertEquals(2, copy.edgeCount());
+    }
+
+    @Test
+    public void addEdge_negativeId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(-1, 0));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentIdMapTest {
+
+    private final PersistentIdMap<String> map = new PersistentIdMap<>();
+
+    @Test
+    public void snapshots_unaffectedByLaterChanges() {
+        Random random = new Random(18);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        List<PersistentIdMap<String>> snapshots = new ArrayList<>();
+        List<TreeMap<Integer, String>> expectedSnapshots = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            // ids up to 5000 make the trie three levels deep
+            int id = random.nextInt(5000);
+            if (random.nextInt(4) == 0) {
+                map.remove(id);
+                expected.remove(id);
+            } else {
+                map.put(id, "v" + step);
+                expected.put(id, "v" + step);
+            }
+            if (step % 500 == 0) {
+                snapshots.add(map.snapshot());
+                expectedSnapshots.add(new TreeMap<>(expected));
+            }
+        }
+
+        assertContents(expected, map);
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertContents(expectedSnapshots.get(i), snapshots.get(i));
+        }
+    }
+
+    @Test
+    public void setAll_sharesContentsButNotChanges() {
+        map.put(1, "one");
+        map.put(40, "forty");
+        PersistentIdMap<String> copy = new PersistentIdMap<>();
+        copy.setAll(map);
+
+        map.put(1, "uno");
+        copy.remove(40);
+        assertEquals("uno", map.get(1));
+        assertEquals("forty", map.get(40));
+        assertEquals("one", copy.get(1));
+        assertNull(copy.get(40));
+        assertEquals(1, copy.size());
+    }
+
+    @Test
+    public void get_absentOrOutOfRangeIds_returnsNull() {
+        map.put(3, "three");
+        assertNull(map.get(4));
+        assertNull(map.get(-1));
+        assertNull(map.get(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> map.put(-1, "negative"));
+    }
+
+    private static void assertContents(TreeMap<Integer, String> expected, PersistentIdMap<String> actual) {
+        assertEquals(expected.size(), actual.size());
+        List<String> values = new ArrayList<>();
+        actual.forEach(values::add);
+        assertEquals(new ArrayList<>(expected.values()), values);
+        expected.forEach((id, value) -> assertEquals(value, actual.get(id)));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdentityIndexTest {
+
+    private static final String[] NAMES = {"Alex Yeoh", "alex  yeoh", "Abc s / o Bcd", "abc s/o bcd", "Bernice Yu"};
+    private static final String[] PHONES = {"000", "0 0 0", "91234567", "9123-4567", "81234567"};
+    private static final String[] EMAILS = {"default@email", "alex@example.com", " ALEX@example.com", "bern@ex.com"};
+
+    private static List<Person> allCombinations() {
+        List<Person> persons = new ArrayList<>();
+        for (String name : NAMES) {
+            for (String phone : PHONES) {
+                for (String email : EMAILS) {
+                    persons.add(new Person.PersonBuilder().name(name).phone(phone).email(email.trim()).build());
+                }
+            }
+        }
+        return persons;
+    }
+
+    @Test
+    public void containsSamePerson_matchesIsSamePerson() {
+        List<Person> persons = allCombinations();
+        for (Person indexed : persons) {
+            PersonIdentityIndex index = new PersonIdentityIndex();
+            index.add(indexed);
+            for (Person other : persons) {
+                assertEquals(indexed.isSamePerson(other), index.containsSamePerson(other),
+                        indexed + " vs " + other);
+            }
+        }
+    }
+
+    @Test
+    public void remove_keyShared_keepsRemainingPerson() {
+        Person withPhone = new Person.PersonBuilder().name("Alex Yeoh").phone("91234567").build();
+        Person withPhoneAndEmail = new Person.PersonBuilder(withPhone).email("alex@example.com").build();
+        PersonIdentityIndex index = new PersonIdentityIndex();
+        index.add(withPhone);
+        index.add(withPhoneAndEmail);
+
+        index.remove(withPhone);
+        assertTrue(index.containsSamePerson(withPhone));
+
+        index.remove(withPhoneAndEmail);
+        assertFalse(index.containsSamePerson(withPhone));
+    }
+
+    @Test
+    public void setAll_copiesKeys() {
+        PersonIdentityIndex source = new PersonIdentityIndex();
+        source.add(ALICE);
+        PersonIdentityIndex copy = new PersonIdentityIndex();
+        copy.setAll(source);
+        assertTrue(copy.containsSamePerson(ALICE));
+
+        copy.clear();
+        assertFalse(copy.containsSamePerson(ALICE));
+        assertTrue(source.containsSamePerson(ALICE));
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class PhoneTest {
@@ -74,4 +76,36 @@ public class PhoneTest {
         assertEquals(new Phone("123-456").hashCode(), new Phone("123 456").hashCode());
         assertEquals(new Phone("+65 9123 4567").hashCode(), new Phone("+65-91234567").hashCode());
     }
+
+    @Test
+    public void getIdentityKey_matchesNormalizeForIdentity() {
+        assertEquals(Phone.normalizeForIdentity("+65 9123-4567"), new Phone(" +65 9123-4567 ").getIdentityKey());
+        assertEquals("+6591234567", new Phone("+65 9123-4567").getIdentityKey());
+    }
+
+    @Test
+    public void isValidPhone_matchesValidationRegex() {
+        char[] alphabet = {'0', '9', '+', ' ', '-', 'a', '\t', '\u0663'};
+        int maxLength = 6;
+        char[] buffer = new char[maxLength];
+        int[] digits = new int[maxLength];
+        for (int length = 0; length <= maxLength; length++) {
+            Arrays.fill(digits, 0);
+            while (true) {
+                for (int i = 0; i < length; i++) {
+                    buffer[i] = alphabet[digits[i]];
+                }
+                String candidate = new String(buffer, 0, length);
+                assertEquals(candidate.trim().matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(candidate),
+                        "'" + candidate + "'");
+                int pos = 0;
+                while (pos < length && ++digits[pos] == alphabet.length) {
+                    digits[pos++] = 0;
+                }
+                if (pos == length) {
+                    break;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticNameIndexTest {
+
+    @Test
+    public void encode_soundAlikes_sameCode() {
+        assertEquals(PhoneticNameIndex.encode("mohammed"), PhoneticNameIndex.encode("muhammad"));
+        assertEquals(PhoneticNameIndex.encode("mohamed"), PhoneticNameIndex.encode("muhammad"));
+        assertEquals(PhoneticNameIndex.encode("stephen"), PhoneticNameIndex.encode("steven"));
+        assertEquals(PhoneticNameIndex.encode("christine"), PhoneticNameIndex.encode("kristine"));
+        assertEquals(PhoneticNameIndex.encode("catherine"), PhoneticNameIndex.encode("kathryn"));
+        assertEquals(PhoneticNameIndex.encode("philip"), PhoneticNameIndex.encode("filip"));
+        assertEquals(PhoneticNameIndex.encode("john"), PhoneticNameIndex.encode("jon"));
+        assertEquals(PhoneticNameIndex.encode("aisha"), PhoneticNameIndex.encode("ayesha"));
+        assertEquals(PhoneticNameIndex.encode("meier"), PhoneticNameIndex.encode("meyer"));
+        assertEquals(PhoneticNameIndex.encode("knight"), PhoneticNameIndex.encode("night"));
+    }
+
+    @Test
+    public void encode_differentSounds_differentCodes() {
+        assertNotEquals(PhoneticNameIndex.encode("alice"), PhoneticNameIndex.encode("bob"));
+        assertNotEquals(PhoneticNameIndex.encode("kurz"), PhoneticNameIndex.encode("kunz"));
+        assertNotEquals(PhoneticNameIndex.encode("tan"), PhoneticNameIndex.encode("tang"));
+    }
+
+    @Test
+    public void encode_withoutLatinLetters_wordIsItsOwnCode() {
+        assertEquals("李", PhoneticNameIndex.encode("李"));
+        assertEquals("42", PhoneticNameIndex.encode("42"));
+    }
+
+    @Test
+    public void lookup_requiresEveryCode() {
+        PhoneticNameIndex index = new PhoneticNameIndex();
+        index.add(0, new Name("Muhammad Ali"));
+        index.add(1, new Name("Mohammed Salah"));
+        index.add(2, new Name("Ali Khan"));
+
+        assertArrayEquals(new int[] {0, 1}, index.lookup(PhoneticNameIndex.codesOf("mohamed")));
+        assertArrayEquals(new int[] {0}, index.lookup(PhoneticNameIndex.codesOf("mohamed aly")));
+        assertArrayEquals(new int[0], index.lookup(PhoneticNameIndex.codesOf("mohamed khan")));
+    }
+
+    @Test
+    public void remove_personNoLongerFound() {
+        PhoneticNameIndex index = new PhoneticNameIndex();
+        index.add(0, new Name("Stephen Lee"));
+        index.add(1, new Name("Steven Li"));
+        int version = index.version();
+
+        index.remove(0, new Name("Stephen Lee"));
+        assertNotEquals(version, index.version());
+        assertArrayEquals(new int[] {1}, index.lookup(Set.of(PhoneticNameIndex.encode("stefan"))));
+
+        index.remove(1, new Name("Steven Li"));
+        assertArrayEquals(new int[0], index.lookup(Set.of(PhoneticNameIndex.encode("stefan"))));
+    }
+}
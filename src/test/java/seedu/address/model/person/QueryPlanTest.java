@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonQuery.Comparison;
+import seedu.address.model.tag.Tag;
+
+public class QueryPlanTest {
+
+    private static final String[] NAME_WORDS = {"alex", "bernice", "charlotte", "david", "irfan", "roy", "li"};
+    private static final String[] TAGS = {"maths", "physics", "chemistry", "english"};
+
+    @Test
+    public void matchQuery_sameResultsAsTestingEveryPerson() {
+        Random random = new Random(16);
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Person person = randomPerson(random, i);
+            persons.add(person);
+            added.add(person);
+        }
+        for (int i = 0; i < 200; i++) {
+            Person a = added.get(random.nextInt(added.size()));
+            Person b = added.get(random.nextInt(added.size()));
+            if (a != b) {
+                persons.pair(a, b);
+            }
+        }
+        // removing persons leaves gaps in the ids the plan works over
+        for (int i = 0; i < 30; i++) {
+            persons.remove(added.remove(random.nextInt(added.size())));
+        }
+
+        for (int q = 0; q < 300; q++) {
+            PersonQuery query = randomQuery(random, 3);
+            QueryMatches matches = persons.matchQuery(query);
+            for (Person person : persons) {
+                assertEquals(query.test(person, persons.getPairedCount(person)), matches.test(person),
+                        query + " on " + person);
+            }
+        }
+    }
+
+    @Test
+    public void matchQuery_followsEditsAndPairings() {
+        Person student = new Student.StudentBuilder().name("Alex Tan").phone("91234567").tags("maths").build();
+        Person volunteer = new Volunteer.VolunteerBuilder().name("Bernice Yu").phone("82345678").build();
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(List.of(student, volunteer));
+
+        QueryMatches pairedMaths = persons.matchQuery(PersonQuery.and(List.of(
+                PersonQuery.tag(new Tag("maths")), PersonQuery.paired())));
+        assertFalse(pairedMaths.test(student));
+
+        persons.pair(student, volunteer);
+        assertTrue(pairedMaths.test(student));
+        assertFalse(pairedMaths.test(volunteer));
+
+        Person tagged = new Volunteer.VolunteerBuilder().name("Bernice Yu").phone("82345678").tags("Maths").build();
+        persons.setPerson(volunteer, tagged);
+        assertTrue(pairedMaths.test(tagged));
+    }
+
+    @Test
+    public void explain_andOperandsOrderedIndexLookupsFirst() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(List.of(
+                new Student.StudentBuilder().name("Alex Tan").phone("91234567").tags("maths").build(),
+                new Student.StudentBuilder().name("Alex Lim").phone("92345678").tags("maths", "physics").build(),
+                new Student.StudentBuilder().name("Roy Lee").phone("93456789").tags("maths").build()));
+
+        QueryMatches matches = persons.matchQuery(PersonQuery.and(List.of(
+                PersonQuery.phone("9"), PersonQuery.tag(new Tag("maths")), PersonQuery.tag(new Tag("physics")),
+                PersonQuery.not(PersonQuery.name("lee")))));
+        String[] lines = matches.explain().split("\n");
+
+        assertTrue(lines[0].startsWith("AND (est 1, 3 -> 1 rows"));
+        assertTrue(lines[1].startsWith("  tag:physics via tag index (est 1, 3 -> 1 rows"));
+        assertTrue(lines[2].startsWith("  NOT via complement (est 2, 1 -> 1 rows"));
+        assertTrue(lines[3].startsWith("    name:lee via name trigram index (est 1, 1 -> 0 rows"));
+        assertTrue(lines[4].startsWith("  tag:maths via tag index (est 3, 1 -> 1 rows"));
+        assertTrue(lines[5].startsWith("  phone:9 via scan (est 3, 1 -> 1 rows"));
+    }
+
+    @Test
+    public void explain_partnerCountsLookedUpInDegreeIndex() {
+        Person student = new Student.StudentBuilder().name("Alex Tan").phone("91234567").build();
+        Person volunteer = new Volunteer.VolunteerBuilder().name("Bernice Yu").phone("82345678").build();
+        Person other = new Volunteer.VolunteerBuilder().name("Roy Lee").phone("93456789").build();
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(List.of(student, volunteer, other));
+        persons.pair(student, volunteer);
+
+        QueryMatches matches = persons.matchQuery(PersonQuery.and(List.of(
+                PersonQuery.phone("9"), PersonQuery.unpaired())));
+        String[] lines = matches.explain().split("\n");
+
+        assertTrue(lines[1].startsWith("  partners=0 via degree index (est 1, 3 -> 1 rows"));
+        assertTrue(lines[2].startsWith("  phone:9 via scan (est 3, 1 -> 1 rows"));
+        assertTrue(matches.test(other));
+    }
+
+    private static Person randomPerson(Random random, int serial) {
+        String name = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + serial;
+        List<String> tags = new ArrayList<>();
+        for (String tag : TAGS) {
+            if (random.nextInt(3) == 0) {
+                tags.add(tag);
+            }
+        }
+        String phone = String.valueOf(80000000 + random.nextInt(20000000));
+        Person.PersonBuilder builder = random.nextBoolean()
+                ? new Student.StudentBuilder()
+                : new Volunteer.VolunteerBuilder();
+        return builder.name(name).phone(phone).email("p" + serial + "@example.com")
+                .tags(tags.toArray(new String[0])).build();
+    }
+
+    private static PersonQuery randomQuery(Random random, int depth) {
+        int choice = random.nextInt(depth > 0 ? 10 : 7);
+        switch (choice) {
+        case 0:
+            String word = NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+            return PersonQuery.name(word.substring(0, 2 + random.nextInt(word.length() - 1)));
+        case 1:
+            return PersonQuery.tag(new Tag(TAGS[random.nextInt(TAGS.length)]));
+        case 2:
+            return PersonQuery.type(random.nextBoolean() ? EntryType.STUDENT : EntryType.VOLUNTEER);
+        case 3:
+            return PersonQuery.partners(Comparison.values()[random.nextInt(Comparison.values().length)],
+                    random.nextInt(3));
+        case 4:
+            return PersonQuery.phone(String.valueOf(random.nextInt(100)));
+        case 5:
+            return PersonQuery.email("P" + random.nextInt(30));
+        case 6:
+            return PersonQuery.tag(new Tag("unused"));
+        case 7:
+            return PersonQuery.and(List.of(randomQuery(random, depth - 1), randomQuery(random, depth - 1),
+                    randomQuery(random, depth - 1)));
+        case 8:
+            return PersonQuery.or(List.of(randomQuery(random, depth - 1), randomQuery(random, depth - 1)));
+        default:
+            return PersonQuery.not(randomQuery(random, depth - 1));
+        }
+    }
+}
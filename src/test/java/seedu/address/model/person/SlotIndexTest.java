@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+public class SlotIndexTest {
+
+    private final SlotIndex slotIndex = new SlotIndex();
+
+    @Test
+    public void slotOf_afterRemovals_matchesListPositions() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(2103);
+        int nextId = 0;
+        for (int step = 0; step < 2000; step++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                slotIndex.add(nextId);
+                expected.add(nextId++);
+            } else {
+                int removed = expected.remove(random.nextInt(expected.size()));
+                slotIndex.remove(removed);
+                assertFalse(slotIndex.contains(removed));
+            }
+        }
+        assertEquals(expected.size(), slotIndex.size());
+        for (int slot = 0; slot < expected.size(); slot++) {
+            assertEquals(slot, slotIndex.slotOf(expected.get(slot)));
+        }
+    }
+
+    @Test
+    public void reset_allIdsLive() {
+        slotIndex.add(0);
+        slotIndex.reset(40);
+        assertEquals(40, slotIndex.size());
+        assertEquals(39, slotIndex.slotOf(39));
+        slotIndex.add(40);
+        assertEquals(40, slotIndex.slotOf(40));
+    }
+
+    @Test
+    public void setAll_copyIsIndependent() {
+        slotIndex.reset(3);
+        SlotIndex copy = new SlotIndex();
+        copy.setAll(slotIndex);
+        slotIndex.remove(0);
+        assertTrue(copy.contains(0));
+        assertEquals(2, copy.slotOf(2));
+        assertEquals(1, slotIndex.slotOf(2));
+    }
+
+    @Test
+    public void slotOf_missingId_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> slotIndex.slotOf(0));
+        assertThrows(PersonNotFoundException.class, () -> slotIndex.remove(0));
+    }
+}
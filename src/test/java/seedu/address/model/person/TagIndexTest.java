@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+public class TagIndexTest {
+
+    private static final TagSet ART = TagSet.of(Set.of(new Tag("art")));
+    private static final TagSet ART_AND_MUSIC = TagSet.of(Set.of(new Tag("art"), new Tag("music")));
+    private static final TagSet MUSIC = TagSet.of(Set.of(new Tag("music")));
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void countMatches_countsEveryQueriedTag() {
+        tagIndex.add(0, ART);
+        tagIndex.add(1, ART_AND_MUSIC);
+        tagIndex.add(3, MUSIC);
+
+        assertArrayEquals(new int[] {1, 2, 0, 1}, tagIndex.countMatches(ART_AND_MUSIC, 4));
+        assertArrayEquals(new int[] {0, 1, 0, 1}, tagIndex.countMatches(MUSIC, 4));
+        assertArrayEquals(new int[] {0, 0, 0, 0}, tagIndex.countMatches(TagSet.EMPTY, 4));
+    }
+
+    @Test
+    public void remove_clearsPostings() {
+        tagIndex.add(0, ART_AND_MUSIC);
+        tagIndex.remove(0, MUSIC);
+        assertArrayEquals(new int[] {1}, tagIndex.countMatches(ART_AND_MUSIC, 1));
+        assertTrue(tagIndex.posting(new Tag("music").getId()).isEmpty());
+    }
+
+    @Test
+    public void setAll_copiesIndependently() {
+        tagIndex.add(0, ART);
+        TagIndex copy = new TagIndex();
+        copy.setAll(tagIndex);
+        tagIndex.remove(0, ART);
+        assertArrayEquals(new int[] {1}, copy.countMatches(ART, 1));
+        assertArrayEquals(new int[] {0}, tagIndex.countMatches(ART, 1));
+    }
+
+    @Test
+    public void version_changesOnEveryUpdate() {
+        int before = tagIndex.version();
+        tagIndex.add(0, ART);
+        assertNotEquals(before, tagIndex.version());
+    }
+}
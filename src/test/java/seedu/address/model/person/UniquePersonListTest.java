@@ -2,21 +2,35 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.PersonQuery.Comparison;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 public class UniquePersonListTest {
 
@@ -130,6 +144,22 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_middlePerson_keepsOrderAndPairings() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.pair(ALICE, CARL);
+        uniquePersonList.remove(BOB);
+        assertEquals(List.of(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.isPaired(ALICE, CARL));
+
+        Person editedCarl = new Person.PersonBuilder(CARL).address(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(List.of(ALICE, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.isPaired(ALICE, editedCarl));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -165,6 +195,607 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicateGroup() {
+        Person aliceWithBobEmail = new Person.PersonBuilder(ALICE).email(VALID_EMAIL_BOB).build();
+        Person bobWithAliceName = new Person.PersonBuilder(BOB).name(ALICE.getName()).build();
+        List<Person> persons = Arrays.asList(ALICE, BOB, aliceWithBobEmail, bobWithAliceName, BOB);
+        uniquePersonList.add(CARL);
+
+        DuplicatePersonException e = Assertions.assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(persons));
+        assertEquals(List.of(List.of(ALICE, aliceWithBobEmail, bobWithAliceName), List.of(BOB, BOB)),
+                e.getDuplicateGroups());
+
+        // list is left unchanged
+        assertEquals(List.of(CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void rollbackTransaction_restoresPersonsOrderAndPairings() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.pair(ALICE, BOB);
+        uniquePersonList.pair(CARL, BOB);
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(BOB);
+        uniquePersonList.setPerson(ALICE, new Person.PersonBuilder(ALICE).address(VALID_ADDRESS_BOB).build());
+        uniquePersonList.beginTransaction();
+        uniquePersonList.setPersons(List.of(BOB));
+        uniquePersonList.rollbackTransaction();
+        assertEquals(2, uniquePersonList.asUnmodifiableObservableList().size());
+        uniquePersonList.rollbackTransaction();
+
+        assertFalse(uniquePersonList.isInTransaction());
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Set.of(ALICE, CARL), uniquePersonList.getPairedPersons(BOB));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getOrdinal_keptAcrossEditsAndRemovals() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        Person editedBob = new Person.PersonBuilder(BOB).address(VALID_ADDRESS_BOB + " 2").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(1, uniquePersonList.getOrdinal(editedBob));
+        assertTrue(uniquePersonList.getOrdinal(editedBob) < uniquePersonList.getOrdinal(CARL));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getOrdinal(ALICE));
+    }
+
+    @Test
+    public void indexOf_followsAddsAndRemovals() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+    }
+
+    @Test
+    public void snapshot_unaffectedByLaterChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.pair(ALICE, BOB);
+        PersonListSnapshot snapshot = uniquePersonList.snapshot();
+
+        Person editedBob = new Person.PersonBuilder(BOB).address(VALID_ADDRESS_BOB + " 2").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.pair(CARL, editedBob);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(List.of(ALICE, BOB, CARL), snapshot.asList());
+        assertEquals(Set.of(BOB), snapshot.getPairedPersons(ALICE));
+        assertFalse(snapshot.isPaired(BOB, CARL));
+        assertFalse(snapshot.contains(editedBob));
+
+        PersonListSnapshot later = uniquePersonList.snapshot();
+        assertEquals(List.of(editedBob, CARL), later.asList());
+        assertEquals(Set.of(CARL), later.getPairedPersons(editedBob));
+        assertThrows(PersonNotFoundException.class, () -> later.getPairedPersons(ALICE));
+    }
+
+    @Test
+    public void snapshot_afterRollbackAndCopy_matchesList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.pair(ALICE, BOB);
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(BOB);
+        uniquePersonList.setPersons(List.of(CARL));
+        uniquePersonList.rollbackTransaction();
+
+        PersonListSnapshot snapshot = uniquePersonList.snapshot();
+        assertEquals(List.of(ALICE, BOB), snapshot.asList());
+        assertTrue(snapshot.isPaired(BOB, ALICE));
+
+        UniquePersonList copy = new UniquePersonList();
+        copy.setPersons(uniquePersonList);
+        copy.unpair(ALICE, BOB);
+        assertTrue(uniquePersonList.snapshot().isPaired(ALICE, BOB));
+        assertFalse(copy.snapshot().isPaired(ALICE, BOB));
+    }
+
+    @Test
+    public void matchTags_followsAddsEditsRemovesAndRollbacks() {
+        Person maths = new Person.PersonBuilder().name("Maths Only").tags("maths").build();
+        Person both = new Person.PersonBuilder().name("Maths Physics").tags("Maths", "physics").build();
+        Person none = new Person.PersonBuilder().name("Untagged").build();
+        uniquePersonList.setPersons(List.of(maths, both, none));
+
+        TagMatches matches = uniquePersonList.matchTags(Set.of(new Tag("MATHS"), new Tag("physics")));
+        assertEquals(1, matches.getMatchCount(maths));
+        assertEquals(2, matches.getMatchCount(both));
+        assertFalse(matches.test(none));
+
+        Person tagged = new Person.PersonBuilder(none).tags("physics").build();
+        uniquePersonList.setPerson(none, tagged);
+        assertEquals(1, matches.getMatchCount(tagged));
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(both);
+        Person added = new Person.PersonBuilder().name("New Physics").tags("physics", "maths").build();
+        uniquePersonList.add(added);
+        assertEquals(2, matches.getMatchCount(added));
+        uniquePersonList.rollbackTransaction();
+
+        assertEquals(2, matches.getMatchCount(both));
+        assertEquals(List.of(maths, both, tagged), uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(matches).toList());
+    }
+
+    @Test
+    public void nextCandidateOrdinal_indexedMatches_walksMatchedIdsOnly() {
+        Person maths = new Person.PersonBuilder().name("Maths Only").tags("maths").build();
+        Person none = new Person.PersonBuilder().name("Untagged").build();
+        Person both = new Person.PersonBuilder().name("Maths Physics").tags("maths", "physics").build();
+        uniquePersonList.setPersons(List.of(maths, none, both));
+        TagMatches matches = uniquePersonList.matchTags(Set.of(new Tag("maths")));
+
+        assertEquals(0, uniquePersonList.nextCandidateOrdinal(matches, 0));
+        assertEquals(2, uniquePersonList.nextCandidateOrdinal(matches, 1));
+        assertEquals(-1, uniquePersonList.nextCandidateOrdinal(matches, 3));
+        assertEquals(0, uniquePersonList.previousCandidateOrdinal(matches, 2));
+        assertEquals(-1, uniquePersonList.previousCandidateOrdinal(matches, 0));
+
+        uniquePersonList.remove(maths);
+        assertEquals(2, uniquePersonList.nextCandidateOrdinal(matches, 0));
+        assertEquals(both, uniquePersonList.getPersonByOrdinal(2));
+    }
+
+    @Test
+    public void nextCandidateOrdinal_otherFilter_walksLivePersons() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL));
+        uniquePersonList.remove(BOB);
+        assertEquals(2, uniquePersonList.nextCandidateOrdinal(person -> false, 1));
+        assertEquals(0, uniquePersonList.previousCandidateOrdinal(person -> false, 2));
+        assertEquals(-1, uniquePersonList.nextCandidateOrdinal(person -> false, 3));
+    }
+
+    @Test
+    public void setPerson_tagsUnchanged_leavesTagIndexAlone() {
+        Person maths = new Person.PersonBuilder().name("Maths Only").tags("maths").build();
+        uniquePersonList.setPersons(List.of(maths));
+        int tagIndexVersion = uniquePersonList.getTagIndex().version();
+
+        Person edited = new Person.PersonBuilder(maths).phone("98765432").tags("Maths").build();
+        uniquePersonList.setPerson(maths, edited);
+        assertEquals(tagIndexVersion, uniquePersonList.getTagIndex().version());
+
+        uniquePersonList.setPerson(edited, new Person.PersonBuilder(edited).tags("physics").build());
+        assertNotEquals(tagIndexVersion, uniquePersonList.getTagIndex().version());
+    }
+
+    @Test
+    public void matchNamesFuzzy_personEditedInOtherFields_keepsDistance() {
+        Person meyer = new Person.PersonBuilder().name("Elle Meyer").build();
+        uniquePersonList.setPersons(List.of(meyer, new Person.PersonBuilder().name("Steven Tan").build()));
+
+        FuzzyNameMatches matches = uniquePersonList.matchNamesFuzzy("meier");
+        assertEquals(1, matches.getDistance(meyer));
+
+        Person edited = new Person.PersonBuilder(meyer).phone("98765432").tags("maths").build();
+        uniquePersonList.setPerson(meyer, edited);
+
+        assertEquals(1, matches.getDistance(edited));
+        assertEquals(FuzzyNameMatches.NO_MATCH, matches.getDistance(meyer));
+    }
+
+    @Test
+    public void matchNamesPhonetic_followsEditsAndRollbacks() {
+        Person muhammad = new Person.PersonBuilder().name("Muhammad Ali").build();
+        Person other = new Person.PersonBuilder().name("Steven Tan").build();
+        uniquePersonList.setPersons(List.of(muhammad, other));
+
+        PhoneticNameMatches matches = uniquePersonList.matchNamesPhonetic("Mohammed");
+        assertTrue(matches.test(muhammad));
+        assertFalse(matches.test(other));
+
+        Person renamed = new Person.PersonBuilder(other).name("Mohamed Tan").build();
+        uniquePersonList.beginTransaction();
+        uniquePersonList.setPerson(other, renamed);
+        assertTrue(matches.test(renamed));
+        uniquePersonList.rollbackTransaction();
+
+        assertFalse(matches.test(other));
+        assertTrue(uniquePersonList.matchNamesPhonetic("Stephen").test(other));
+    }
+
+    @Test
+    public void matchNamesPhonetic_personEditedInOtherFields_stillMatches() {
+        Person muhammad = new Person.PersonBuilder().name("Muhammad Ali").build();
+        uniquePersonList.setPersons(List.of(muhammad, new Person.PersonBuilder().name("Steven Tan").build()));
+        PhoneticNameMatches matches = uniquePersonList.matchNamesPhonetic("Mohammed");
+        assertTrue(matches.test(muhammad));
+
+        Person edited = new Person.PersonBuilder(muhammad).phone("98765432").tags("maths").build();
+        uniquePersonList.setPerson(muhammad, edited);
+
+        assertTrue(matches.test(edited));
+        assertFalse(matches.test(muhammad));
+    }
+
+    @Test
+    public void undoRedo_stepsOfEditsPairingsAndResets_restoresEachStep() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.commitHistory();
+        uniquePersonList.add(CARL);
+        uniquePersonList.pair(ALICE, BOB);
+        uniquePersonList.pair(CARL, BOB);
+        uniquePersonList.commitHistory();
+        Person editedBob = new Person.PersonBuilder(BOB).address(VALID_ADDRESS_BOB + " 2").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.commitHistory();
+        uniquePersonList.setPersons(List.of(ALICE));
+        uniquePersonList.commitHistory();
+
+        uniquePersonList.undo();
+        assertEquals(List.of(editedBob, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Set.of(CARL), uniquePersonList.getPairedPersons(editedBob));
+        uniquePersonList.undo();
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Set.of(ALICE, CARL), uniquePersonList.getPairedPersons(BOB));
+        uniquePersonList.undo();
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.isPaired(ALICE, BOB));
+        uniquePersonList.undo();
+        assertEquals(List.of(), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.canUndo());
+
+        uniquePersonList.redo();
+        uniquePersonList.redo();
+        uniquePersonList.redo();
+        assertEquals(List.of(editedBob, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.isPaired(CARL, editedBob));
+        assertEquals(1, uniquePersonList.getOrdinal(editedBob));
+        uniquePersonList.redo();
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.canRedo());
+    }
+
+    @Test
+    public void commitHistory_afterUndo_discardsRedoSteps() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.commitHistory();
+        uniquePersonList.undo();
+        assertTrue(uniquePersonList.canRedo());
+
+        // a step without changes keeps the redo steps
+        uniquePersonList.commitHistory();
+        assertTrue(uniquePersonList.canRedo());
+
+        uniquePersonList.add(BOB);
+        uniquePersonList.commitHistory();
+        assertFalse(uniquePersonList.canRedo());
+        uniquePersonList.undo();
+        assertEquals(List.of(), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoneWithLastStep() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.commitHistory();
+        uniquePersonList.add(BOB);
+
+        uniquePersonList.undo();
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void undo_rolledBackTransaction_notInHistory() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(BOB);
+        uniquePersonList.commitHistory();
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.undo());
+        uniquePersonList.rollbackTransaction();
+        uniquePersonList.commitHistory();
+
+        uniquePersonList.undo();
+        assertEquals(List.of(), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.canUndo());
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.undo());
+    }
+
+    @Test
+    public void commitHistory_overCapacity_evictsOldestSteps() {
+        UniquePersonList list = new UniquePersonList(2);
+        list.add(ALICE);
+        list.commitHistory();
+        list.add(BOB);
+        list.commitHistory();
+        list.add(CARL);
+        list.commitHistory();
+
+        list.undo();
+        list.undo();
+        assertFalse(list.canUndo());
+        assertEquals(List.of(ALICE), list.asUnmodifiableObservableList());
+
+        // a step larger than the capacity cannot be undone, and neither can the steps before it
+        list.redo();
+        list.commitHistory();
+        list.pair(ALICE, BOB);
+        list.remove(BOB);
+        list.commitHistory();
+        assertFalse(list.canUndo());
+        assertFalse(list.canRedo());
+    }
+
+    @Test
+    public void matchQuery_partnerCounts_followRemovalsRollbacksUndosAndCopies() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.pair(ALICE, BOB);
+        uniquePersonList.pair(ALICE, CARL);
+        uniquePersonList.commitHistory();
+        QueryMatches unpaired = uniquePersonList.matchQuery(PersonQuery.unpaired());
+        QueryMatches overloaded = uniquePersonList.matchQuery(PersonQuery.partners(Comparison.GREATER, 1));
+        assertFalse(unpaired.test(BOB));
+        assertTrue(overloaded.test(ALICE));
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(ALICE);
+        assertTrue(unpaired.test(BOB));
+        assertTrue(unpaired.test(CARL));
+        uniquePersonList.rollbackTransaction();
+        assertFalse(unpaired.test(BOB));
+        assertTrue(overloaded.test(ALICE));
+
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.commitHistory();
+        assertTrue(unpaired.test(CARL));
+        uniquePersonList.undo();
+        assertFalse(unpaired.test(CARL));
+        assertTrue(overloaded.test(ALICE));
+
+        uniquePersonList.unpair(ALICE, CARL);
+        UniquePersonList copy = new UniquePersonList();
+        copy.setPersons(uniquePersonList);
+        assertEquals(List.of(CARL), copy.asUnmodifiableObservableList().stream()
+                .filter(copy.matchQuery(PersonQuery.unpaired())).toList());
+        copy.setPersons(List.of(ALICE, BOB));
+        assertTrue(copy.matchQuery(PersonQuery.unpaired()).test(ALICE));
+    }
+
+    @Test
+    public void proposeMatching_onlyUnpairedPersonsSharingTags_listUnchanged() {
+        Person mathsStudent = new Student.StudentBuilder().name("Maths Student").tags("maths").build();
+        Person artStudent = new Student.StudentBuilder().name("Art Student").tags("art").build();
+        Person pairedStudent = new Student.StudentBuilder().name("Paired Student").tags("maths").build();
+        Person mathsTutor = new Volunteer.VolunteerBuilder().name("Maths Tutor").tags("maths", "art").build();
+        Person pairedTutor = new Volunteer.VolunteerBuilder().name("Paired Tutor").tags("art").build();
+        uniquePersonList.setPersons(List.of(mathsStudent, artStudent, pairedStudent, mathsTutor, pairedTutor));
+        uniquePersonList.pair(pairedStudent, pairedTutor);
+        PersonListSnapshot before = uniquePersonList.snapshot();
+
+        assertEquals(List.of(new ProposedPairing(mathsStudent, mathsTutor)), uniquePersonList.proposeMatching());
+        assertEquals(before.asList(), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.isPaired(mathsStudent, mathsTutor));
+
+        uniquePersonList.unpair(pairedStudent, pairedTutor);
+        assertEquals(2, uniquePersonList.proposeMatching().size());
+    }
+
+    @Test
+    public void removeAll_pairedPersons_removedInOneChangeAndRestoredByUndo() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            persons.add(new Volunteer.VolunteerBuilder().name("Person " + i).build());
+        }
+        uniquePersonList.setPersons(persons);
+        for (int i = 1; i < persons.size(); i++) {
+            uniquePersonList.pair(persons.get(i - 1), persons.get(i));
+        }
+        uniquePersonList.commitHistory();
+        List<Integer> notifications = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                notifications.add(uniquePersonList.asUnmodifiableObservableList().size()));
+
+        uniquePersonList.removeAll(List.of(persons.get(5), persons.get(1), persons.get(2), persons.get(6)));
+
+        assertEquals(List.of(4), notifications);
+        assertEquals(List.of(persons.get(0), persons.get(3), persons.get(4), persons.get(7)),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, uniquePersonList.getPairedCount(persons.get(0)));
+        assertEquals(Set.of(persons.get(4)), uniquePersonList.getPairedPersons(persons.get(3)));
+        assertEquals(List.of(List.of(persons.get(3), persons.get(4))), clustersOf(uniquePersonList));
+        assertEquals(1, uniquePersonList.indexOf(persons.get(3)));
+
+        uniquePersonList.undo();
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(persons), clustersOf(uniquePersonList));
+        uniquePersonList.redo();
+        assertEquals(List.of(persons.get(0), persons.get(3), persons.get(4), persons.get(7)),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personNotInList_removesNothing() {
+        uniquePersonList.add(ALICE);
+
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void pairEach_newAndExistingPairs_pairsNewOnesInOneChange() {
+        Person student = new Student.StudentBuilder().name("Student").build();
+        Person otherStudent = new Student.StudentBuilder().name("Other Student").build();
+        Person tutor = new Volunteer.VolunteerBuilder().name("Tutor").build();
+        Person loner = new Volunteer.VolunteerBuilder().name("Loner").build();
+        uniquePersonList.setPersons(List.of(student, otherStudent, tutor, loner));
+        uniquePersonList.pair(student, tutor);
+        List<Integer> notifications = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                notifications.add(uniquePersonList.asUnmodifiableObservableList().size()));
+
+        uniquePersonList.pairEach(List.of(student, otherStudent, otherStudent), List.of(tutor, tutor, student));
+
+        assertEquals(List.of(4), notifications);
+        assertTrue(uniquePersonList.isPaired(otherStudent, tutor));
+        assertTrue(uniquePersonList.isPaired(student, otherStudent));
+        assertEquals(2, uniquePersonList.getPairedCount(tutor));
+
+        uniquePersonList.unpairEach(List.of(tutor, otherStudent), List.of(student, loner));
+        assertFalse(uniquePersonList.isPaired(student, tutor));
+        assertEquals(List.of(4, 4), notifications);
+        assertEquals(List.of(List.of(student, otherStudent, tutor)), clustersOf(uniquePersonList));
+    }
+
+    @Test
+    public void pairEach_personNotInList_pairsNothing() {
+        Person student = new Student.StudentBuilder().name("Student").build();
+        Person tutor = new Volunteer.VolunteerBuilder().name("Tutor").build();
+        uniquePersonList.setPersons(List.of(student, tutor));
+
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.pairEach(List.of(student, student), List.of(tutor, ALICE)));
+        assertFalse(uniquePersonList.isPaired(student, tutor));
+    }
+
+    @Test
+    public void getClusters_followPairingsSplitsRemovalsAndUndos() {
+        Person student = new Student.StudentBuilder().name("Student").build();
+        Person otherStudent = new Student.StudentBuilder().name("Other Student").build();
+        Person tutor = new Volunteer.VolunteerBuilder().name("Tutor").build();
+        Person otherTutor = new Volunteer.VolunteerBuilder().name("Other Tutor").build();
+        Person loner = new Volunteer.VolunteerBuilder().name("Loner").build();
+        uniquePersonList.setPersons(List.of(student, otherStudent, tutor, otherTutor, loner));
+        assertEquals(List.of(), clustersOf(uniquePersonList));
+
+        uniquePersonList.pair(student, tutor);
+        uniquePersonList.pair(otherStudent, otherTutor);
+        assertEquals(List.of(List.of(student, tutor), List.of(otherStudent, otherTutor)),
+                clustersOf(uniquePersonList));
+
+        // tutor - student - otherTutor - otherStudent
+        uniquePersonList.pair(student, otherTutor);
+        uniquePersonList.commitHistory();
+        assertEquals(List.of(List.of(student, otherStudent, tutor, otherTutor)), clustersOf(uniquePersonList));
+
+        // cuts off an end of the chain
+        uniquePersonList.unpair(student, tutor);
+        assertEquals(List.of(List.of(student, otherStudent, otherTutor)), clustersOf(uniquePersonList));
+        uniquePersonList.undo();
+        assertEquals(List.of(List.of(student, otherStudent, tutor, otherTutor)), clustersOf(uniquePersonList));
+
+        // cuts the chain in the middle
+        uniquePersonList.unpair(student, otherTutor);
+        assertEquals(List.of(List.of(student, tutor), List.of(otherStudent, otherTutor)),
+                clustersOf(uniquePersonList));
+        uniquePersonList.pair(student, otherTutor);
+
+        uniquePersonList.remove(student);
+        assertEquals(List.of(List.of(otherStudent, otherTutor)), clustersOf(uniquePersonList));
+        uniquePersonList.remove(otherStudent);
+        assertEquals(List.of(), clustersOf(uniquePersonList));
+    }
+
+    @Test
+    public void getClusters_fewMembersAsked_keepsFullSizes() {
+        Person tutor = new Volunteer.VolunteerBuilder().name("Tutor").build();
+        Person student = new Student.StudentBuilder().name("Student").build();
+        Person otherStudent = new Student.StudentBuilder().name("Other Student").build();
+        uniquePersonList.setPersons(List.of(tutor, student, otherStudent));
+        uniquePersonList.pair(student, tutor);
+        uniquePersonList.pair(otherStudent, tutor);
+
+        assertEquals(List.of(new Cluster(3, List.of(tutor))), uniquePersonList.getClusters(1));
+    }
+
+    @Test
+    public void getClusters_randomChanges_sameAsSearchingPairings() {
+        Random random = new Random(23);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            persons.add(new Volunteer.VolunteerBuilder().name("Person " + i).build());
+        }
+        uniquePersonList.setPersons(persons);
+        for (int step = 0; step < 2000; step++) {
+            Person a = persons.get(random.nextInt(persons.size()));
+            Person b = persons.get(random.nextInt(persons.size()));
+            int choice = random.nextInt(10);
+            if (!uniquePersonList.contains(a)) {
+                uniquePersonList.add(a);
+            } else if (choice < 5 && uniquePersonList.contains(b) && !a.equals(b)) {
+                uniquePersonList.pair(a, b);
+            } else if (choice < 8 && uniquePersonList.getPairedCount(a) > 0) {
+                uniquePersonList.unpair(a, List.copyOf(uniquePersonList.getPairedPersons(a)).get(0));
+            } else if (choice == 8) {
+                uniquePersonList.remove(a);
+            } else if (uniquePersonList.canUndo()) {
+                uniquePersonList.undo();
+            }
+            uniquePersonList.commitHistory();
+            if (step % 7 == 0) {
+                assertEquals(clustersBySearch(uniquePersonList), clustersOf(uniquePersonList));
+            }
+        }
+    }
+
+    /**
+     * Returns the members of every cluster of {@code list}, checking that each cluster has as many as its size.
+     */
+    private static List<List<Person>> clustersOf(UniquePersonList list) {
+        List<List<Person>> clusters = new ArrayList<>();
+        for (Cluster cluster : list.getClusters(Integer.MAX_VALUE)) {
+            assertEquals(cluster.size(), cluster.members().size());
+            clusters.add(cluster.members());
+        }
+        return clusters;
+    }
+
+    /**
+     * Returns the clusters of {@code list} as {@link UniquePersonList#getClusters(int)} orders them, found by a
+     * breadth-first search from every person.
+     */
+    private static List<List<Person>> clustersBySearch(UniquePersonList list) {
+        List<Person> order = list.asUnmodifiableObservableList();
+        Set<Person> seen = new HashSet<>();
+        List<List<Person>> clusters = new ArrayList<>();
+        for (Person start : order) {
+            if (list.getPairedCount(start) == 0 || !seen.add(start)) {
+                continue;
+            }
+            Set<Person> cluster = new HashSet<>(List.of(start));
+            Deque<Person> queue = new ArrayDeque<>(List.of(start));
+            while (!queue.isEmpty()) {
+                for (Person partner : list.getPairedPersons(queue.poll())) {
+                    if (seen.add(partner)) {
+                        cluster.add(partner);
+                        queue.add(partner);
+                    }
+                }
+            }
+            clusters.add(order.stream().filter(cluster::contains).toList());
+        }
+        clusters.sort(Comparator.comparingInt(List<Person>::size).reversed());
+        return clusters;
+    }
+
+    @Test
+    public void commitTransaction_noOpenTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.rollbackTransaction());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,92 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(Set.of()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void of_tagSet_returnsSameInstance() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("maths")));
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void contains_ignoresCase() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("Physics"), new Tag("chemistry")));
+        assertEquals(2, tagSet.size());
+        assertTrue(tagSet.contains(new Tag("physics")));
+        assertTrue(tagSet.contains(new Tag("CHEMISTRY")));
+        assertFalse(tagSet.contains(new Tag("biology")));
+        assertFalse(tagSet.contains("physics"));
+    }
+
+    @Test
+    public void equalsAndHashCode_agreeWithHashSet() {
+        Set<Tag> hashSet = new HashSet<>(List.of(new Tag("art"), new Tag("music"), new Tag("drama")));
+        TagSet tagSet = TagSet.of(hashSet);
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.of(new HashSet<>(hashSet)));
+        assertFalse(tagSet.equals(TagSet.of(Set.of(new Tag("art")))));
+    }
+
+    @Test
+    public void iterator_manyTags_yieldsEveryTagOnce() {
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < 150; i++) {
+            tags.add(new Tag("bulk" + i));
+        }
+        TagSet tagSet = TagSet.of(tags);
+        List<Tag> iterated = new ArrayList<>(tagSet);
+        assertEquals(tags.size(), iterated.size());
+        assertEquals(tags, new HashSet<>(iterated));
+
+        List<Integer> ids = new ArrayList<>();
+        tagSet.forEachId(ids::add);
+        assertEquals(iterated.stream().map(Tag::getId).toList(), ids);
+    }
+
+    @Test
+    public void iterator_yieldsOwnSpelling() {
+        TagSet lower = TagSet.of(List.of(new Tag("astronomy")));
+        TagSet upper = TagSet.of(List.of(new Tag("Astronomy"), new Tag("ASTRONOMY")));
+        assertEquals(lower, upper);
+        assertEquals("astronomy", lower.iterator().next().tagName);
+        assertEquals(1, upper.size());
+        assertEquals("Astronomy", upper.iterator().next().tagName);
+    }
+
+    @Test
+    public void countCommon() {
+        TagSet first = TagSet.of(Set.of(new Tag("english"), new Tag("history"), new Tag("geography")));
+        TagSet second = TagSet.of(Set.of(new Tag("History"), new Tag("Geography"), new Tag("economics")));
+        assertEquals(2, first.countCommon(second));
+        assertEquals(0, first.countCommon(TagSet.EMPTY));
+    }
+
+    @Test
+    public void modification_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("maths")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("science")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("maths")));
+        assertThrows(UnsupportedOperationException.class, tagSet::clear);
+    }
+}
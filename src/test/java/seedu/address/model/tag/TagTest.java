@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +25,25 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_matchesValidationRegex() {
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            String single = String.valueOf(c);
+            assertEquals(single.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(single), "char " + (int) c);
+            String embedded = "ab" + c + "9";
+            assertEquals(embedded.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(embedded), "char " + (int) c);
+        }
+        assertEquals("".matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(""));
+    }
+
+    @Test
+    public void equals_ignoresCaseThroughSharedId() {
+        Tag tag = new Tag("Robotics");
+        Tag otherCase = new Tag("rOBOTICS");
+        assertEquals(tag, otherCase);
+        assertEquals(tag.getId(), otherCase.getId());
+        assertEquals(tag.hashCode(), otherCase.hashCode());
+        assertEquals("rOBOTICS", otherCase.tagName);
+        assertNotEquals(tag, new Tag("Robotic"));
+    }
 }